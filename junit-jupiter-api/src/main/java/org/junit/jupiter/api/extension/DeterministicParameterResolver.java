@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code DeterministicParameterResolver} is a {@link ParameterResolver} whose
+ * {@link #supportsParameter(ParameterContext, ExtensionContext)} method
+ * returns the same result for the same {@link java.lang.reflect.Parameter}
+ * every time it is invoked, regardless of the supplied
+ * {@link ExtensionContext} or {@linkplain ParameterContext#getTarget()
+ * target}.
+ *
+ * <p>Implementing this interface allows the framework to remember the result
+ * of {@code supportsParameter()} for each parameter and to skip invoking it
+ * for subsequent invocations of the same method or constructor for as long
+ * as the resolver is registered. {@code supportsParameter()} is invoked again
+ * if it threw an exception. {@link #resolveParameter(ParameterContext, ExtensionContext)}
+ * is still invoked for every invocation.
+ *
+ * @since 5.4
+ * @see ParameterResolver
+ */
+@API(status = EXPERIMENTAL, since = "5.4")
+public interface DeterministicParameterResolver extends ParameterResolver {
+}
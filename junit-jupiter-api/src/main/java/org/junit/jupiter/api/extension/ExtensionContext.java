@@ -558,8 +558,11 @@ public interface ExtensionContext {
 
 		private final List<?> parts;
 
+		private final int hashCode;
+
 		private Namespace(Object... parts) {
 			this.parts = new ArrayList<>(Arrays.asList(parts));
+			this.hashCode = this.parts.hashCode();
 		}
 
 		@Override
@@ -571,12 +574,12 @@ public interface ExtensionContext {
 				return false;
 			}
 			Namespace that = (Namespace) o;
-			return this.parts.equals(that.parts);
+			return this.hashCode == that.hashCode && this.parts.equals(that.parts);
 		}
 
 		@Override
 		public int hashCode() {
-			return this.parts.hashCode();
+			return this.hashCode;
 		}
 
 	}
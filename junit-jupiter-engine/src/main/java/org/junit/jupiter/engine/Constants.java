@@ -12,10 +12,16 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultTestTaskScheduler.CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultTestTaskScheduler.CONFIG_SCHEDULER_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_LOCK_ACQUISITION_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService.CONFIG_MAX_CONCURRENCY_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils;
@@ -107,12 +113,42 @@ public final class Constants {
 
 	static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
+	/**
+	 * Property name used to select the executor used for parallel test
+	 * execution: {@value}
+	 *
+	 * <p>Potential values: {@code fork_join_pool} (default) or
+	 * {@code virtual_threads}. The latter executes each concurrent test in its
+	 * own virtual thread if supported by the Java runtime (and in its own
+	 * platform thread otherwise).
+	 *
+	 * @since 5.4
+	 * @see #PARALLEL_CONFIG_VIRTUAL_THREADS_MAX_CONCURRENCY_PROPERTY_NAME
+	 * @see org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX + "executor";
+
+	/**
+	 * Property name used to limit the number of tests that are executed at the
+	 * same time by the {@code virtual_threads} executor: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to the maximum pool size of
+	 * the configured {@link ParallelExecutionConfigurationStrategy}.
+	 *
+	 * @since 5.4
+	 * @see #PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_VIRTUAL_THREADS_MAX_CONCURRENCY_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_MAX_CONCURRENCY_PROPERTY_NAME;
+
 	/**
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -145,6 +181,31 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the minimum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer that is not less than the minimum
+	 * parallelism; defaults to twice the number of available processors/cores.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
@@ -156,6 +217,134 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+	/**
+	 * Property name used to determine how resource locks are acquired during
+	 * parallel test execution: {@value}
+	 *
+	 * <p>Potential values: {@code blocking} (default) or {@code deferred}.
+	 * When set to {@code deferred}, a worker thread that encounters a test
+	 * whose resource lock is held by another test executes other pending tests
+	 * instead of blocking.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_LOCK_ACQUISITION_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_LOCK_ACQUISITION_PROPERTY_NAME;
+
+	/**
+	 * Property name used to select the
+	 * {@link org.junit.platform.engine.support.hierarchical.TestTaskScheduler}
+	 * that determines the order in which concurrent sibling tests are
+	 * submitted for execution: {@value}
+	 *
+	 * <p>Potential values: {@code declaration_order} (default),
+	 * {@code resource_aware}, or {@code longest_first}.
+	 *
+	 * @since 5.4
+	 * @see #PARALLEL_CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_SCHEDULER_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_SCHEDULER_PROPERTY_NAME;
+
+	/**
+	 * Property name used to specify the file in which the
+	 * {@code longest_first} scheduler stores the execution durations of tests
+	 * and containers: {@value}
+	 *
+	 * <p>Defaults to {@code junit-test-durations.properties} in the current
+	 * working directory.
+	 *
+	 * @since 5.4
+	 * @see #PARALLEL_CONFIG_SCHEDULER_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable parallel test discovery: {@value}
+	 *
+	 * <p>If enabled, classes selected via class selectors are loaded and
+	 * packages selected via package selectors are scanned in parallel. In
+	 * addition, the classes found in selected classpath roots, or in a single
+	 * selected package, are loaded in parallel. The resulting test descriptors
+	 * are ordered in the same way as if they had been discovered sequentially.
+	 *
+	 * <p>By default, tests are discovered sequentially.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.jupiter.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to enable the bytecode pre-filter for classpath
+	 * scanning: {@value}
+	 *
+	 * <p>If enabled, the bytecode of each class file found while scanning
+	 * classpath roots and packages is inspected before the class is loaded,
+	 * and classes that cannot contain tests are not loaded at all.
+	 *
+	 * <p>By default, every class file whose name matches the class name
+	 * filters is loaded.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME = "junit.jupiter.discovery.bytecode.prefilter.enabled";
+
+	/**
+	 * Property name used to configure the directory in which the results of
+	 * the bytecode pre-filter are stored across test runs: {@value}
+	 *
+	 * <p>If configured and the bytecode pre-filter is
+	 * {@linkplain #BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME enabled}, only
+	 * class files whose size or last modification time has changed since the
+	 * previous run are inspected. The index stored in the directory may be
+	 * shared with other test engines.
+	 *
+	 * <p>By default, all class files are inspected in every test run.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String BYTECODE_PREFILTER_INDEX_DIRECTORY_PROPERTY_NAME = "junit.jupiter.discovery.bytecode.prefilter.index.directory";
+
+	/**
+	 * Property name used to enable streaming execution of dynamic tests:
+	 * {@value}
+	 *
+	 * <p>If enabled, dynamic tests and containers returned by
+	 * {@code @TestFactory} methods are executed as they are consumed from the
+	 * returned stream, at most
+	 * {@linkplain #DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME a
+	 * configurable number} of them are pending at any time, and they are not
+	 * retained as children of their parent descriptors once they have been
+	 * registered. This allows executing large or infinite streams of dynamic
+	 * tests with bounded memory consumption.
+	 *
+	 * <p>By default, streaming is disabled.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.dynamic.streaming.enabled";
+
+	/**
+	 * Property name used to set the maximum number of dynamic tests and
+	 * containers per parent that may be pending at the same time if
+	 * {@linkplain #DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME streaming} is
+	 * enabled: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 256}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME = "junit.jupiter.execution.dynamic.streaming.max.in.flight";
+
 	private Constants() {
 		/* no-op */
 	}
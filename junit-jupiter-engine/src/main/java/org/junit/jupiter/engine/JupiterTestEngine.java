@@ -19,6 +19,7 @@ import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.DiscoverySelectorResolver;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
@@ -29,6 +30,7 @@ import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTe
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
+import org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService;
 
 /**
  * The JUnit Jupiter {@link org.junit.platform.engine.TestEngine TestEngine}.
@@ -70,12 +72,28 @@ public final class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngin
 	protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
 		ConfigurationParameters config = request.getConfigurationParameters();
 		if (config.getBoolean(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
-			return new ForkJoinPoolHierarchicalTestExecutorService(
-				new PrefixedConfigurationParameters(config, Constants.PARALLEL_CONFIG_PREFIX));
+			ConfigurationParameters parallelConfig = new PrefixedConfigurationParameters(config,
+				Constants.PARALLEL_CONFIG_PREFIX);
+			if (isVirtualThreadsExecutor(config)) {
+				return new VirtualThreadHierarchicalTestExecutorService(parallelConfig);
+			}
+			return new ForkJoinPoolHierarchicalTestExecutorService(parallelConfig);
 		}
 		return super.createExecutorService(request);
 	}
 
+	private boolean isVirtualThreadsExecutor(ConfigurationParameters config) {
+		String executor = config.get(Constants.PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME).orElse(
+			"fork_join_pool").trim();
+		if ("virtual_threads".equalsIgnoreCase(executor)) {
+			return true;
+		}
+		Preconditions.condition("fork_join_pool".equalsIgnoreCase(executor),
+			() -> String.format("Value '%s' specified via configuration parameter '%s' must be one of %s", executor,
+				Constants.PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME, "[fork_join_pool, virtual_threads]"));
+		return false;
+	}
+
 	@Override
 	protected JupiterEngineExecutionContext createExecutionContext(ExecutionRequest request) {
 		return new JupiterEngineExecutionContext(request.getEngineExecutionListener(),
@@ -34,14 +34,16 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 	private final DynamicContainer dynamicContainer;
 	private final TestSource testSource;
 	private final DynamicDescendantFilter dynamicDescendantFilter;
+	private final DynamicNodeStreaming streaming;
 
 	DynamicContainerTestDescriptor(UniqueId uniqueId, int index, DynamicContainer dynamicContainer,
-			TestSource testSource, DynamicDescendantFilter dynamicDescendantFilter) {
+			TestSource testSource, DynamicDescendantFilter dynamicDescendantFilter, DynamicNodeStreaming streaming) {
 
 		super(uniqueId, index, dynamicContainer, testSource);
 		this.dynamicContainer = dynamicContainer;
 		this.testSource = testSource;
 		this.dynamicDescendantFilter = dynamicDescendantFilter;
+		this.streaming = streaming;
 	}
 
 	@Override
@@ -60,14 +62,14 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 					.map(child -> toDynamicDescriptor(index.getAndIncrement(), child))
 					.filter(Optional::isPresent)
 					.map(Optional::get)
-					.forEachOrdered(dynamicTestExecutor::execute);
+					.forEachOrdered(descriptor -> streaming.execute(dynamicTestExecutor, descriptor));
 			// @formatter:on
 		}
 		return context;
 	}
 
 	private Optional<JupiterTestDescriptor> toDynamicDescriptor(int index, DynamicNode childNode) {
-		return createDynamicDescriptor(this, childNode, index, testSource, dynamicDescendantFilter);
+		return createDynamicDescriptor(this, childNode, index, testSource, dynamicDescendantFilter, streaming);
 	}
 
 }
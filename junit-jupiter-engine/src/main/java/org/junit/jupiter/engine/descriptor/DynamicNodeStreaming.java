@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
+
+/**
+ * Registers and submits dynamic descriptors according to the configured
+ * streaming mode.
+ *
+ * <p>In streaming mode, dynamic descriptors are not retained as children of
+ * their parent and the number of pending dynamic descriptors per parent is
+ * bounded. If executing a dynamic descriptor fails unexpectedly, the failure
+ * that is observed first is reported, which is not necessarily the first one
+ * in stream order.
+ *
+ * @since 5.4
+ * @see org.junit.jupiter.engine.Constants#DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME
+ * @see org.junit.jupiter.engine.Constants#DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME
+ */
+class DynamicNodeStreaming {
+
+	static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+	static final DynamicNodeStreaming DISABLED = new DynamicNodeStreaming(false, Integer.MAX_VALUE);
+
+	/**
+	 * Get the streaming mode of the current execution, which is only read
+	 * from the configuration parameters once per execution.
+	 */
+	static DynamicNodeStreaming from(JupiterEngineExecutionContext context) {
+		ExtensionContext root = context.getExtensionContext().getRoot();
+		if (root instanceof JupiterEngineExtensionContext) {
+			return ((JupiterEngineExtensionContext) root).getDynamicNodeStreaming();
+		}
+		return from(context.getConfigurationParameters());
+	}
+
+	static DynamicNodeStreaming from(ConfigurationParameters configurationParameters) {
+		boolean enabled = configurationParameters.getBoolean(DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME).orElse(
+			false);
+		if (!enabled) {
+			return DISABLED;
+		}
+		// @formatter:off
+		int maxInFlight = configurationParameters.get(DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME)
+				.map(String::trim)
+				.map(Integer::valueOf)
+				.orElse(DEFAULT_MAX_IN_FLIGHT);
+		// @formatter:on
+		Preconditions.condition(maxInFlight > 0,
+			() -> "Invalid value for " + DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME
+					+ ": must be a positive integer, but was " + maxInFlight);
+		return new DynamicNodeStreaming(true, maxInFlight);
+	}
+
+	private final boolean enabled;
+	private final int maxInFlight;
+
+	private DynamicNodeStreaming(boolean enabled, int maxInFlight) {
+		this.enabled = enabled;
+		this.maxInFlight = maxInFlight;
+	}
+
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	void register(JupiterTestDescriptor parent, JupiterTestDescriptor child) {
+		if (enabled) {
+			child.setParent(parent);
+		}
+		else {
+			parent.addChild(child);
+		}
+	}
+
+	void execute(DynamicTestExecutor dynamicTestExecutor, JupiterTestDescriptor descriptor) {
+		dynamicTestExecutor.execute(descriptor);
+		if (enabled) {
+			try {
+				dynamicTestExecutor.awaitInFlightAtMost(maxInFlight);
+			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+	}
+
+}
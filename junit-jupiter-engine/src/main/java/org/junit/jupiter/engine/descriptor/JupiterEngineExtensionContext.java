@@ -27,10 +27,29 @@ import org.junit.platform.engine.EngineExecutionListener;
 @API(status = INTERNAL, since = "5.0")
 public final class JupiterEngineExtensionContext extends AbstractExtensionContext<JupiterEngineDescriptor> {
 
+	private final ConfigurationParameters configurationParameters;
+	private volatile DynamicNodeStreaming dynamicNodeStreaming;
+
 	public JupiterEngineExtensionContext(EngineExecutionListener engineExecutionListener,
 			JupiterEngineDescriptor testDescriptor, ConfigurationParameters configurationParameters) {
 
 		super(null, engineExecutionListener, testDescriptor, configurationParameters);
+		this.configurationParameters = configurationParameters;
+	}
+
+	/**
+	 * Get the streaming mode for dynamic tests of this execution which is
+	 * read from the configuration parameters on first access.
+	 *
+	 * @since 5.4
+	 */
+	DynamicNodeStreaming getDynamicNodeStreaming() {
+		DynamicNodeStreaming streaming = this.dynamicNodeStreaming;
+		if (streaming == null) {
+			streaming = DynamicNodeStreaming.from(this.configurationParameters);
+			this.dynamicNodeStreaming = streaming;
+		}
+		return streaming;
 	}
 
 	@Override
@@ -87,14 +87,15 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 				context.getExtensionRegistry());
 			TestSource defaultTestSource = getSource().orElseThrow(
 				() -> new JUnitException("Illegal state: TestSource must be present"));
+			DynamicNodeStreaming streaming = DynamicNodeStreaming.from(context);
 			try (Stream<DynamicNode> dynamicNodeStream = toDynamicNodeStream(testFactoryMethodResult)) {
 				int index = 1;
 				Iterator<DynamicNode> iterator = dynamicNodeStream.iterator();
 				while (iterator.hasNext()) {
 					DynamicNode dynamicNode = iterator.next();
 					Optional<JupiterTestDescriptor> descriptor = createDynamicDescriptor(this, dynamicNode, index++,
-						defaultTestSource, getDynamicDescendantFilter());
-					descriptor.ifPresent(dynamicTestExecutor::execute);
+						defaultTestSource, getDynamicDescendantFilter(), streaming);
+					descriptor.ifPresent(it -> streaming.execute(dynamicTestExecutor, it));
 				}
 			}
 			catch (ClassCastException ex) {
@@ -125,7 +126,8 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 	}
 
 	static Optional<JupiterTestDescriptor> createDynamicDescriptor(JupiterTestDescriptor parent, DynamicNode node,
-			int index, TestSource defaultTestSource, DynamicDescendantFilter dynamicDescendantFilter) {
+			int index, TestSource defaultTestSource, DynamicDescendantFilter dynamicDescendantFilter,
+			DynamicNodeStreaming streaming) {
 
 		UniqueId uniqueId;
 		Supplier<JupiterTestDescriptor> descriptorCreator;
@@ -141,11 +143,11 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 			DynamicContainer container = (DynamicContainer) node;
 			uniqueId = parent.getUniqueId().append(DYNAMIC_CONTAINER_SEGMENT_TYPE, "#" + index);
 			descriptorCreator = () -> new DynamicContainerTestDescriptor(uniqueId, index, container, source,
-				dynamicDescendantFilter);
+				dynamicDescendantFilter, streaming);
 		}
 		if (dynamicDescendantFilter.test(uniqueId)) {
 			JupiterTestDescriptor descriptor = descriptorCreator.get();
-			parent.addChild(descriptor);
+			streaming.register(parent, descriptor);
 			return Optional.of(descriptor);
 		}
 		return Optional.empty();
@@ -180,23 +180,23 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 			Throwable ex) {
 
 		invokeTestExecutionExceptionHandlers(ex, registry.getReversedExtensions(TestExecutionExceptionHandler.class),
-			context);
+			0, context);
 	}
 
 	private void invokeTestExecutionExceptionHandlers(Throwable ex, List<TestExecutionExceptionHandler> handlers,
-			ExtensionContext context) {
+			int nextHandler, ExtensionContext context) {
 
 		// No handlers left?
-		if (handlers.isEmpty()) {
+		if (nextHandler >= handlers.size()) {
 			ExceptionUtils.throwAsUncheckedException(ex);
 		}
 
 		try {
 			// Invoke next available handler
-			handlers.remove(0).handleTestExecutionException(context, ex);
+			handlers.get(nextHandler).handleTestExecutionException(context, ex);
 		}
 		catch (Throwable t) {
-			invokeTestExecutionExceptionHandlers(t, handlers, context);
+			invokeTestExecutionExceptionHandlers(t, handlers, nextHandler + 1, context);
 		}
 	}
 
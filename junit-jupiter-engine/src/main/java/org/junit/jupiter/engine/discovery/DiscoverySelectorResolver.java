@@ -11,8 +11,12 @@
 package org.junit.jupiter.engine.discovery;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.jupiter.engine.Constants.BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BYTECODE_PREFILTER_INDEX_DIRECTORY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassFilter;
 
+import java.nio.file.Paths;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -45,7 +49,8 @@ public class DiscoverySelectorResolver {
 	private static final IsTestClassWithTests isTestClassWithTests = new IsTestClassWithTests();
 
 	public void resolveSelectors(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
-		ClassFilter classFilter = buildClassFilter(request, isTestClassWithTests);
+		ClassFilter classFilter = configureBytecodePrefilter(buildClassFilter(request, isTestClassWithTests),
+			request.getConfigurationParameters());
 		resolve(request, engineDescriptor, classFilter);
 		filter(engineDescriptor, classFilter);
 		pruneTree(engineDescriptor);
@@ -55,14 +60,35 @@ public class DiscoverySelectorResolver {
 		JavaElementsResolver javaElementsResolver = createJavaElementsResolver(request.getConfigurationParameters(),
 			engineDescriptor, classFilter);
 
-		request.getSelectorsByType(ClasspathRootSelector.class).forEach(javaElementsResolver::resolveClasspathRoot);
+		int parallelism = getDiscoveryParallelism(request.getConfigurationParameters());
+		request.getSelectorsByType(ClasspathRootSelector.class).forEach(
+			selector -> javaElementsResolver.resolveClasspathRoot(selector, parallelism));
 		request.getSelectorsByType(ModuleSelector.class).forEach(javaElementsResolver::resolveModule);
-		request.getSelectorsByType(PackageSelector.class).forEach(javaElementsResolver::resolvePackage);
-		request.getSelectorsByType(ClassSelector.class).forEach(javaElementsResolver::resolveClass);
+		javaElementsResolver.resolvePackages(request.getSelectorsByType(PackageSelector.class), parallelism);
+		javaElementsResolver.resolveClasses(request.getSelectorsByType(ClassSelector.class), parallelism);
 		request.getSelectorsByType(MethodSelector.class).forEach(javaElementsResolver::resolveMethod);
 		request.getSelectorsByType(UniqueIdSelector.class).forEach(javaElementsResolver::resolveUniqueId);
 	}
 
+	private int getDiscoveryParallelism(ConfigurationParameters configurationParameters) {
+		boolean enabled = configurationParameters.getBoolean(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false);
+		return enabled ? Runtime.getRuntime().availableProcessors() : 1;
+	}
+
+	private ClassFilter configureBytecodePrefilter(ClassFilter classFilter,
+			ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return classFilter;
+		}
+		// @formatter:off
+		return configurationParameters.get(BYTECODE_PREFILTER_INDEX_DIRECTORY_PROPERTY_NAME)
+				.map(String::trim)
+				.filter(directory -> !directory.isEmpty())
+				.map(directory -> classFilter.withBytecodePrefilter(Paths.get(directory)))
+				.orElseGet(classFilter::withBytecodePrefilter);
+		// @formatter:on
+	}
+
 	private void filter(TestDescriptor engineDescriptor, ClassFilter classFilter) {
 		new DiscoveryFilterApplier().applyClassNamePredicate(classFilter::match, engineDescriptor);
 	}
@@ -18,6 +18,7 @@ import static org.junit.jupiter.engine.descriptor.JupiterTestDescriptor.toExecut
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 import static org.junit.platform.commons.util.ClassUtils.nullSafeToString;
+import static org.junit.platform.commons.util.ParallelUtils.mapInParallel;
 import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
 import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInModule;
 import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInPackage;
@@ -95,9 +96,17 @@ class JavaElementsResolver {
 		this.resolvers = resolvers;
 	}
 
-	void resolveClasspathRoot(ClasspathRootSelector selector) {
+	/**
+	 * Resolve the supplied classpath root selector by scanning the classpath
+	 * root using up to the supplied number of threads and subsequently
+	 * resolving the found classes sequentially.
+	 *
+	 * @since 5.4
+	 */
+	void resolveClasspathRoot(ClasspathRootSelector selector, int parallelism) {
 		try {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), this.classFilter).forEach(this::resolveClass);
+			findAllClassesInClasspathRoot(selector.getClasspathRoot(), this.classFilter, parallelism).forEach(
+				this::resolveClass);
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
@@ -116,26 +125,56 @@ class JavaElementsResolver {
 		}
 	}
 
-	void resolvePackage(PackageSelector selector) {
+	/**
+	 * Resolve the supplied package selectors by scanning the packages using up
+	 * to the supplied number of threads and subsequently resolving the found
+	 * classes sequentially in the order of the selectors.
+	 *
+	 * <p>If there is only a single package selector, the threads are used to
+	 * scan the package itself in parallel.
+	 *
+	 * @since 5.4
+	 */
+	void resolvePackages(List<PackageSelector> selectors, int parallelism) {
+		int scanParallelism = selectors.size() == 1 ? parallelism : 1;
+		mapInParallel(selectors, selector -> findClassesInPackage(selector, scanParallelism), parallelism).forEach(
+			classes -> classes.forEach(this::resolveClass));
+	}
+
+	private List<Class<?>> findClassesInPackage(PackageSelector selector, int parallelism) {
 		try {
-			findAllClassesInPackage(selector.getPackageName(), this.classFilter).forEach(this::resolveClass);
+			return findAllClassesInPackage(selector.getPackageName(), this.classFilter, parallelism);
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
 			logger.debug(t, () -> format("Failed to resolve classes in package '%s'.", selector.getPackageName()));
+			return Collections.emptyList();
 		}
 	}
 
-	void resolveClass(ClassSelector selector) {
+	/**
+	 * Resolve the supplied class selectors by loading the classes using up to
+	 * the supplied number of threads and subsequently resolving them
+	 * sequentially in the order of the selectors.
+	 *
+	 * @since 5.4
+	 */
+	void resolveClasses(List<ClassSelector> selectors, int parallelism) {
+		mapInParallel(selectors, this::loadClass, parallelism).forEach(
+			testClass -> testClass.ifPresent(this::resolveClass));
+	}
+
+	private Optional<Class<?>> loadClass(ClassSelector selector) {
 		// Even though resolveClass(Class<?>) has its own similar try-catch block, the
 		// try-catch block is necessary here as well since ClassSelector#getJavaClass()
 		// may throw an exception.
 		try {
-			resolveClass(selector.getJavaClass());
+			return Optional.of(selector.getJavaClass());
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
 			logger.debug(t, () -> format("Class '%s' could not be resolved.", selector.getClassName()));
+			return Optional.empty();
 		}
 	}
 
@@ -11,7 +11,6 @@
 package org.junit.jupiter.engine.execution;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
@@ -19,6 +18,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -180,30 +180,8 @@ public class ExecutableInvoker {
 			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
 
 		try {
-			// @formatter:off
-			List<ParameterResolver> matchingResolvers = extensionRegistry.stream(ParameterResolver.class)
-					.filter(resolver -> resolver.supportsParameter(parameterContext, extensionContext))
-					.collect(toList());
-			// @formatter:on
-
-			if (matchingResolvers.isEmpty()) {
-				throw new ParameterResolutionException(
-					String.format("No ParameterResolver registered for parameter [%s] in %s [%s].",
-						parameterContext.getParameter(), asLabel(executable), executable.toGenericString()));
-			}
-
-			if (matchingResolvers.size() > 1) {
-				// @formatter:off
-				String resolverNames = matchingResolvers.stream()
-						.map(resolver -> resolver.getClass().getName())
-						.collect(joining(", "));
-				// @formatter:on
-				throw new ParameterResolutionException(String.format(
-					"Discovered multiple competing ParameterResolvers for parameter [%s] in %s [%s]: %s",
-					parameterContext.getParameter(), asLabel(executable), executable.toGenericString(), resolverNames));
-			}
-
-			ParameterResolver resolver = matchingResolvers.get(0);
+			ParameterResolver resolver = findResolver(parameterContext, executable, extensionContext,
+				extensionRegistry);
 			Object value = resolver.resolveParameter(parameterContext, extensionContext);
 			validateResolvedType(parameterContext.getParameter(), value, executable, resolver);
 
@@ -223,6 +201,47 @@ public class ExecutableInvoker {
 		}
 	}
 
+	private ParameterResolver findResolver(ParameterContext parameterContext, Executable executable,
+			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
+
+		// Only collect competing resolvers into a list in the rare case of a conflict.
+		ParameterResolver resolver = null;
+		List<ParameterResolver> competingResolvers = null;
+		for (ParameterResolver candidate : extensionRegistry.getExtensions(ParameterResolver.class)) {
+			if (extensionRegistry.supportsParameter(candidate, parameterContext, extensionContext)) {
+				if (resolver == null) {
+					resolver = candidate;
+				}
+				else {
+					if (competingResolvers == null) {
+						competingResolvers = new ArrayList<>();
+						competingResolvers.add(resolver);
+					}
+					competingResolvers.add(candidate);
+				}
+			}
+		}
+
+		if (resolver == null) {
+			throw new ParameterResolutionException(
+				String.format("No ParameterResolver registered for parameter [%s] in %s [%s].",
+					parameterContext.getParameter(), asLabel(executable), executable.toGenericString()));
+		}
+
+		if (competingResolvers != null) {
+			// @formatter:off
+			String resolverNames = competingResolvers.stream()
+					.map(competingResolver -> competingResolver.getClass().getName())
+					.collect(joining(", "));
+			// @formatter:on
+			throw new ParameterResolutionException(String.format(
+				"Discovered multiple competing ParameterResolvers for parameter [%s] in %s [%s]: %s",
+				parameterContext.getParameter(), asLabel(executable), executable.toGenericString(), resolverNames));
+		}
+
+		return resolver;
+	}
+
 	private void validateResolvedType(Parameter parameter, Object value, Executable executable,
 			ParameterResolver resolver) {
 
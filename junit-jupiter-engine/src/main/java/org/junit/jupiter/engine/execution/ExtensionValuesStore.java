@@ -15,9 +15,9 @@ import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -26,23 +26,56 @@ import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ExtensionContextException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ToStringBuilder;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
  * {@code ExtensionValuesStore} is used inside implementations of
  * {@link ExtensionContext} to store and retrieve values.
  *
+ * <p>Values are stored per {@link Namespace} and key. Plain values are
+ * stored as is; only values computed via
+ * {@link #getOrComputeIfAbsent(Namespace, Object, Function)} are wrapped in
+ * order to compute them at most once. Lookups iterate over this store and its
+ * ancestors without allocating intermediate keys.
+ *
+ * <p>Each store keeps {@linkplain #getMetrics() metrics} about its lookups.
+ *
  * @since 5.0
  */
 @API(status = INTERNAL, since = "5.0")
 public class ExtensionValuesStore {
 
-	private final ExtensionValuesStore parentStore;
-	private final ConcurrentMap<CompositeKey, Supplier<Object>> storedValues = new ConcurrentHashMap<>(4);
+	private static final Logger logger = LoggerFactory.getLogger(ExtensionValuesStore.class);
+
+	/**
+	 * Stored in place of {@code null} values, which are not supported by
+	 * {@link ConcurrentHashMap}.
+	 */
+	private static final Object NULL_VALUE = new Object();
+
+	/**
+	 * This store followed by all of its ancestors, starting with its parent.
+	 */
+	private final ExtensionValuesStore[] lookupChain;
+
+	private final ConcurrentMap<Namespace, ConcurrentMap<Object, Object>> storedValues = new ConcurrentHashMap<>(4);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder contentions = new LongAdder();
 
 	public ExtensionValuesStore(ExtensionValuesStore parentStore) {
-		this.parentStore = parentStore;
+		int ancestors = (parentStore != null ? parentStore.lookupChain.length : 0);
+		this.lookupChain = new ExtensionValuesStore[ancestors + 1];
+		this.lookupChain[0] = this;
+		if (ancestors > 0) {
+			System.arraycopy(parentStore.lookupChain, 0, this.lookupChain, 1, ancestors);
+		}
 	}
 
 	/**
@@ -52,20 +85,31 @@ public class ExtensionValuesStore {
 	 * does not close values in parent stores.
 	 */
 	public void closeAllStoredCloseableValues() {
+		logger.trace(() -> "Closing values of store with " + getMetrics());
 		ThrowableCollector throwableCollector = createThrowableCollector();
-		for (Supplier<Object> supplier : storedValues.values()) {
-			Object value = supplier.get();
-			if (value instanceof ExtensionContext.Store.CloseableResource) {
-				ExtensionContext.Store.CloseableResource resource = (ExtensionContext.Store.CloseableResource) value;
-				throwableCollector.execute(resource::close);
+		for (ConcurrentMap<Object, Object> values : storedValues.values()) {
+			for (Object storedValue : values.values()) {
+				Object value = unwrap(storedValue);
+				if (value instanceof CloseableResource) {
+					throwableCollector.execute(((CloseableResource) value)::close);
+				}
 			}
 		}
 		throwableCollector.assertEmpty();
 	}
 
+	/**
+	 * Get a snapshot of the metrics of lookups performed via this store.
+	 *
+	 * @since 5.4
+	 */
+	public Metrics getMetrics() {
+		return new Metrics(this.hits.sum(), this.misses.sum(), this.contentions.sum());
+	}
+
 	Object get(Namespace namespace, Object key) {
-		Supplier<Object> storedValue = getStoredValue(new CompositeKey(namespace, key));
-		return (storedValue != null ? storedValue.get() : null);
+		Object storedValue = getStoredValue(namespace, key);
+		return (storedValue != null ? unwrap(storedValue) : null);
 	}
 
 	<T> T get(Namespace namespace, Object key, Class<T> requiredType) {
@@ -74,17 +118,17 @@ public class ExtensionValuesStore {
 	}
 
 	<K, V> Object getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		Supplier<Object> storedValue = getStoredValue(compositeKey);
+		Object storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
-			storedValue = new MemoizingSupplier(() -> defaultCreator.apply(key));
-			Supplier<Object> previousValue = storedValues.putIfAbsent(compositeKey, storedValue);
+			storedValue = new MemoizingSupplier(() -> defaultCreator.apply(key), this.contentions);
+			Object previousValue = getLocalValues(namespace).putIfAbsent(key, storedValue);
 			if (previousValue != null) {
 				// There was a race condition, and we lost.
+				this.contentions.increment();
 				storedValue = previousValue;
 			}
 		}
-		return storedValue.get();
+		return unwrap(storedValue);
 	}
 
 	<K, V> V getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator, Class<V> requiredType) {
@@ -93,12 +137,13 @@ public class ExtensionValuesStore {
 	}
 
 	void put(Namespace namespace, Object key, Object value) {
-		storedValues.put(new CompositeKey(namespace, key), () -> value);
+		getLocalValues(namespace).put(key, (value != null ? value : NULL_VALUE));
 	}
 
 	Object remove(Namespace namespace, Object key) {
-		Supplier<Object> previous = storedValues.remove(new CompositeKey(namespace, key));
-		return (previous != null ? previous.get() : null);
+		ConcurrentMap<Object, Object> values = storedValues.get(namespace);
+		Object previous = (values != null ? values.remove(key) : null);
+		return (previous != null ? unwrap(previous) : null);
 	}
 
 	<T> T remove(Namespace namespace, Object key, Class<T> requiredType) {
@@ -106,17 +151,34 @@ public class ExtensionValuesStore {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private Supplier<Object> getStoredValue(CompositeKey compositeKey) {
-		Supplier<Object> storedValue = storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
+	private ConcurrentMap<Object, Object> getLocalValues(Namespace namespace) {
+		ConcurrentMap<Object, Object> values = storedValues.get(namespace);
+		if (values == null) {
+			values = storedValues.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>(4));
 		}
-		else if (parentStore != null) {
-			return parentStore.getStoredValue(compositeKey);
+		return values;
+	}
+
+	private Object getStoredValue(Namespace namespace, Object key) {
+		for (ExtensionValuesStore store : this.lookupChain) {
+			ConcurrentMap<Object, Object> values = store.storedValues.get(namespace);
+			if (values != null) {
+				Object storedValue = values.get(key);
+				if (storedValue != null) {
+					this.hits.increment();
+					return storedValue;
+				}
+			}
 		}
-		else {
-			return null;
+		this.misses.increment();
+		return null;
+	}
+
+	private static Object unwrap(Object storedValue) {
+		if (storedValue instanceof MemoizingSupplier) {
+			return ((MemoizingSupplier) storedValue).get();
 		}
+		return (storedValue != NULL_VALUE ? storedValue : null);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -135,31 +197,56 @@ public class ExtensionValuesStore {
 			String.format("Object stored under key [%s] is not of required type [%s]", key, requiredType.getName()));
 	}
 
-	private static class CompositeKey {
+	/**
+	 * Snapshot of the metrics of an {@link ExtensionValuesStore}.
+	 *
+	 * @since 5.4
+	 */
+	public static final class Metrics {
 
-		private final Namespace namespace;
-		private final Object key;
+		private final long hits;
+		private final long misses;
+		private final long contentions;
 
-		private CompositeKey(Namespace namespace, Object key) {
-			this.namespace = namespace;
-			this.key = key;
+		private Metrics(long hits, long misses, long contentions) {
+			this.hits = hits;
+			this.misses = misses;
+			this.contentions = contentions;
 		}
 
-		@Override
-		public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (o == null || getClass() != o.getClass()) {
-				return false;
-			}
-			CompositeKey that = (CompositeKey) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
+		/**
+		 * Get the number of lookups that found a value in the store or one of
+		 * its ancestors.
+		 */
+		public long getHits() {
+			return this.hits;
+		}
+
+		/**
+		 * Get the number of lookups that did not find a value in the store or
+		 * any of its ancestors.
+		 */
+		public long getMisses() {
+			return this.misses;
+		}
+
+		/**
+		 * Get the number of times a thread had to use or wait for a value
+		 * that was concurrently being computed by another thread.
+		 */
+		public long getContentions() {
+			return this.contentions;
 		}
 
 		@Override
-		public int hashCode() {
-			return Objects.hash(namespace, key);
+		public String toString() {
+			// @formatter:off
+			return new ToStringBuilder(this)
+					.append("hits", this.hits)
+					.append("misses", this.misses)
+					.append("contentions", this.contentions)
+					.toString();
+			// @formatter:on
 		}
 
 	}
@@ -170,16 +257,22 @@ public class ExtensionValuesStore {
 
 		private final Lock lock = new ReentrantLock();
 		private final Supplier<Object> delegate;
+		private final LongAdder contentions;
 		private volatile Object value = NO_VALUE_SET;
 
-		private MemoizingSupplier(Supplier<Object> delegate) {
+		private MemoizingSupplier(Supplier<Object> delegate, LongAdder contentions) {
 			this.delegate = delegate;
+			this.contentions = contentions;
 		}
 
 		@Override
 		public Object get() {
 			if (value == NO_VALUE_SET) {
-				lock.lock();
+				if (!lock.tryLock()) {
+					// Another thread is computing the value.
+					contentions.increment();
+					lock.lock();
+				}
 				try {
 					if (value == NO_VALUE_SET) {
 						value = delegate.get();
@@ -10,23 +10,29 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.DeterministicParameterResolver;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ClassLoaderUtils;
@@ -43,6 +49,12 @@ import org.junit.platform.engine.ConfigurationParameters;
  * performed first in the current registry itself and then recursively in its
  * ancestors.
  *
+ * <p>Lookups are backed by an index from extension type to an immutable
+ * array of all matching extensions in this registry and its ancestors. The
+ * index is built lazily per type, reuses the arrays of the parent registry,
+ * and is rebuilt whenever extensions have been registered in this registry or
+ * one of its ancestors since the array was created.
+ *
  * @since 5.0
  */
 @API(status = INTERNAL, since = "5.0")
@@ -128,6 +140,23 @@ public class ExtensionRegistry {
 
 	private final List<Extension> registeredExtensions = new ArrayList<>();
 
+	/**
+	 * Results of {@link ParameterResolver#supportsParameter} for the
+	 * {@link DeterministicParameterResolver DeterministicParameterResolvers}
+	 * registered in this registry, per resolver and parameter.
+	 *
+	 * <p>Keyed by identity and populated when a resolver is registered, so that
+	 * the registry owning a resolver can be found without scanning all
+	 * registered extensions.
+	 */
+	private final Map<ParameterResolver, Map<Parameter, Boolean>> parameterSupport = new IdentityHashMap<>(0);
+
+	/**
+	 * Index from extension type to all extensions of that type that are present
+	 * in this registry or one of its ancestors.
+	 */
+	private final Map<Class<?>, IndexedExtensions<?>> index = new ConcurrentHashMap<>();
+
 	private ExtensionRegistry(ExtensionRegistry parent) {
 		this.parent = parent;
 	}
@@ -141,53 +170,123 @@ public class ExtensionRegistry {
 	 * @see #getExtensions(Class)
 	 */
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		if (this.parent == null) {
-			return streamLocal(extensionType);
-		}
-		return concat(this.parent.stream(extensionType), streamLocal(extensionType));
-	}
-
-	/**
-	 * Stream all {@code Extensions} of the specified type that are present
-	 * in this registry.
-	 *
-	 * <p>Extensions in ancestors are ignored.
-	 *
-	 * @param extensionType the type of {@link Extension} to stream
-	 * @see #getReversedExtensions(Class)
-	 */
-	private <E extends Extension> Stream<E> streamLocal(Class<E> extensionType) {
-		// @formatter:off
-		return this.registeredExtensions.stream()
-				.filter(extensionType::isInstance)
-				.map(extensionType::cast);
-		// @formatter:on
+		return getExtensions(extensionType).stream();
 	}
 
 	/**
 	 * Get all {@code Extensions} of the specified type that are present
 	 * in this registry or one of its ancestors.
 	 *
+	 * <p>The returned list is an unmodifiable view that is shared between
+	 * lookups for as long as no further extensions are registered.
+	 *
 	 * @param extensionType the type of {@link Extension} to get
 	 * @see #getReversedExtensions(Class)
 	 * @see #stream(Class)
 	 */
 	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
-		return stream(extensionType).collect(toCollection(ArrayList::new));
+		return lookup(extensionType).asList();
 	}
 
 	/**
 	 * Get all {@code Extensions} of the specified type that are present
 	 * in this registry or one of its ancestors, in reverse order.
 	 *
+	 * <p>The returned list is an unmodifiable view that is shared between
+	 * lookups for as long as no further extensions are registered.
+	 *
 	 * @param extensionType the type of {@link Extension} to get
 	 * @see #getExtensions(Class)
 	 * @see #stream(Class)
 	 */
 	public <E extends Extension> List<E> getReversedExtensions(Class<E> extensionType) {
-		List<E> extensions = getExtensions(extensionType);
-		Collections.reverse(extensions);
-		return extensions;
+		return lookup(extensionType).asReversedList();
+	}
+
+	/**
+	 * Look up the indexed extensions of the specified type, (re)building the
+	 * index entry if it is missing or stale.
+	 *
+	 * <p>An entry is stale if it was built from a different array of the
+	 * parent registry or if extensions have been registered in this registry
+	 * since it was built.
+	 */
+	@SuppressWarnings("unchecked")
+	private <E extends Extension> IndexedExtensions<E> lookup(Class<E> extensionType) {
+		Extension[] parentExtensions = (this.parent == null ? null : this.parent.lookup(extensionType).extensions);
+		int localCount = this.registeredExtensions.size();
+		IndexedExtensions<E> indexed = (IndexedExtensions<E>) this.index.get(extensionType);
+		if (indexed == null || indexed.parentExtensions != parentExtensions || indexed.localCount != localCount) {
+			indexed = new IndexedExtensions<>(parentExtensions,
+				mergeExtensions(extensionType, localCount, parentExtensions), localCount);
+			this.index.put(extensionType, indexed);
+		}
+		return indexed;
+	}
+
+	/**
+	 * Merge the supplied array of the parent registry with all extensions of
+	 * the specified type that are present in this registry.
+	 */
+	private Extension[] mergeExtensions(Class<?> extensionType, int localCount, Extension[] parentExtensions) {
+		int parentCount = (parentExtensions == null ? 0 : parentExtensions.length);
+		Extension[] extensions = new Extension[parentCount + localCount];
+		if (parentCount > 0) {
+			System.arraycopy(parentExtensions, 0, extensions, 0, parentCount);
+		}
+		int count = parentCount;
+		for (int i = 0; i < localCount; i++) {
+			Extension extension = this.registeredExtensions.get(i);
+			if (extensionType.isInstance(extension)) {
+				extensions[count++] = extension;
+			}
+		}
+		return (count == extensions.length ? extensions : Arrays.copyOf(extensions, count));
+	}
+
+	/**
+	 * Determine if the supplied {@link ParameterResolver} supports the
+	 * parameter in the supplied {@link ParameterContext}.
+	 *
+	 * <p>If the resolver is a {@link DeterministicParameterResolver} that is
+	 * present in this registry or one of its ancestors, the result is
+	 * remembered per parameter in the registry in which the resolver has been
+	 * registered and will therefore be reused for as long as the resolver
+	 * remains registered.
+	 *
+	 * @param resolver the resolver to ask; never {@code null}
+	 * @param parameterContext the context for the parameter; never {@code null}
+	 * @param extensionContext the current extension context; never {@code null}
+	 * @since 5.4
+	 * @see ParameterResolver#supportsParameter(ParameterContext, ExtensionContext)
+	 */
+	public boolean supportsParameter(ParameterResolver resolver, ParameterContext parameterContext,
+			ExtensionContext extensionContext) {
+
+		// Avoid an instanceof check per call since it is costly for classes that
+		// do not implement the interface; the owning registry knows instead.
+		Map<Parameter, Boolean> results = findParameterSupport(resolver);
+		if (results == null) {
+			return resolver.supportsParameter(parameterContext, extensionContext);
+		}
+		Boolean supported = results.get(parameterContext.getParameter());
+		if (supported == null) {
+			supported = resolver.supportsParameter(parameterContext, extensionContext);
+			results.put(parameterContext.getParameter(), supported);
+		}
+		return supported;
+	}
+
+	private Map<Parameter, Boolean> findParameterSupport(ParameterResolver resolver) {
+		for (ExtensionRegistry registry = this; registry != null; registry = registry.parent) {
+			if (!registry.parameterSupport.isEmpty()) {
+				Map<Parameter, Boolean> results = registry.parameterSupport.get(resolver);
+				if (results != null) {
+					return results;
+				}
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -216,7 +315,7 @@ public class ExtensionRegistry {
 	}
 
 	private void registerDefaultExtension(Extension extension) {
-		this.registeredExtensions.add(extension);
+		addExtension(extension);
 		this.registeredExtensionTypes.add(extension.getClass());
 	}
 
@@ -246,7 +345,52 @@ public class ExtensionRegistry {
 	 */
 	public void registerExtension(Extension extension, Object source) {
 		logger.trace(() -> String.format("Registering extension [%s] from source [%s].", extension, source));
+		addExtension(extension);
+	}
+
+	private void addExtension(Extension extension) {
 		this.registeredExtensions.add(extension);
+		if (extension instanceof DeterministicParameterResolver) {
+			this.parameterSupport.put((ParameterResolver) extension, new ConcurrentHashMap<>());
+		}
+	}
+
+	/**
+	 * Immutable array of indexed extensions of a single type along with
+	 * the state of the registries it was built from.
+	 */
+	private static final class IndexedExtensions<E extends Extension> {
+
+		private final Extension[] parentExtensions;
+		private final Extension[] extensions;
+		private final int localCount;
+		private final List<E> list;
+		private volatile List<E> reversedList;
+
+		@SuppressWarnings("unchecked")
+		IndexedExtensions(Extension[] parentExtensions, Extension[] extensions, int localCount) {
+			this.parentExtensions = parentExtensions;
+			this.extensions = extensions;
+			this.localCount = localCount;
+			this.list = Collections.unmodifiableList(Arrays.asList((E[]) extensions));
+		}
+
+		List<E> asList() {
+			return this.list;
+		}
+
+		@SuppressWarnings("unchecked")
+		List<E> asReversedList() {
+			List<E> reversed = this.reversedList;
+			if (reversed == null) {
+				E[] copy = (E[]) this.extensions.clone();
+				Collections.reverse(Arrays.asList(copy));
+				reversed = Collections.unmodifiableList(Arrays.asList(copy));
+				this.reversedList = reversed;
+			}
+			return reversed;
+		}
+
 	}
 
 }
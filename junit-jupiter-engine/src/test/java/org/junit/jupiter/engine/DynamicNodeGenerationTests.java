@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_CONTAINER_SEGMENT_TYPE;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_TEST_SEGMENT_TYPE;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -36,6 +38,8 @@ import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.isA;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -51,6 +55,9 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.Event;
 import org.junit.platform.testkit.engine.Events;
@@ -67,7 +74,7 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 	void testFactoryMethodsAreCorrectlyDiscoveredForClassSelector() {
 		LauncherDiscoveryRequest request = request().selectors(selectClass(MyDynamicTestCase.class)).build();
 		TestDescriptor engineDescriptor = discoverTests(request);
-		assertThat(engineDescriptor.getDescendants()).as("# resolved test descriptors").hasSize(12);
+		assertThat(engineDescriptor.getDescendants()).as("# resolved test descriptors").hasSize(13);
 	}
 
 	@Test
@@ -403,12 +410,88 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void dynamicTestsAreStreamedWithoutBeingRetainedAsChildrenIfStreamingIsEnabled() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyDynamicTestCase.class, "largeDynamicStream")) //
+				.configurationParameter(DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DYNAMIC_TESTS_STREAMING_MAX_IN_FLIGHT_PROPERTY_NAME, "2") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		Events tests = executionResults.tests();
+		assertEquals(MyDynamicTestCase.LARGE_STREAM_SIZE, tests.dynamicallyRegistered().count());
+		assertEquals(MyDynamicTestCase.LARGE_STREAM_SIZE, tests.succeeded().count());
+
+		TestDescriptor testFactoryDescriptor = executionResults.containers().started() //
+				.filter(event -> event.getTestDescriptor().getDisplayName().startsWith("largeDynamicStream")) //
+				.findFirst().orElseGet(() -> fail("no test factory")).getTestDescriptor();
+		assertThat(testFactoryDescriptor.getChildren()).isEmpty();
+		assertThat(tests.dynamicallyRegistered().map(Event::getTestDescriptor)) //
+				.allSatisfy(descriptor -> assertThat(descriptor.getParent()).contains(testFactoryDescriptor));
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void nestedDynamicContainersAreExecutedIfStreamingIsEnabled() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyDynamicTestCase.class, "twoNestedContainersWithTwoTestsEach")) //
+				.configurationParameter(DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		Events containers = executionResults.containers();
+		Events tests = executionResults.tests();
+
+		assertAll( //
+			() -> assertEquals(4, containers.dynamicallyRegistered().count(), "# dynamic containers registered"),
+			() -> assertEquals(4, tests.dynamicallyRegistered().count(), "# dynamic tests registered"),
+			() -> assertEquals(2, tests.succeeded().count(), "# tests succeeded"),
+			() -> assertEquals(2, tests.failed().count(), "# tests failed"),
+			() -> assertEquals(7, containers.finished().count(), "# container finished"));
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void failuresOfDynamicTestsInStreamedDynamicContainersCanBeSummarized() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyDynamicTestCase.class, "twoNestedContainersWithTwoTestsEach")) //
+				.configurationParameter(DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+		LauncherConfig launcherConfig = LauncherConfig.builder() //
+				.enableTestEngineAutoRegistration(false) //
+				.addTestEngines(new JupiterTestEngine()) //
+				.build();
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+
+		LauncherFactory.create(launcherConfig).execute(request, listener);
+
+		StringWriter failures = new StringWriter();
+		listener.getSummary().printFailuresTo(new PrintWriter(failures));
+
+		assertEquals(2, listener.getSummary().getTestsFailedCount());
+		assertThat(failures.toString()) //
+				.contains("twoNestedContainersWithTwoTestsEach():a:a1:failingTest") //
+				.contains("twoNestedContainersWithTwoTestsEach():b:b1:failingTest");
+	}
+
 	static class MyDynamicTestCase {
 
 		private static final List<DynamicTest> list = Arrays.asList(
 			dynamicTest("succeedingTest", () -> assertTrue(true, "succeeding")),
 			dynamicTest("failingTest", () -> fail("failing")));
 
+		private static final int LARGE_STREAM_SIZE = 1000;
+
 		private static final AtomicBoolean exceptionThrowingStreamClosed = new AtomicBoolean(false);
 
 		@TestFactory
@@ -421,6 +504,12 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 			return list.stream();
 		}
 
+		@TestFactory
+		Stream<DynamicTest> largeDynamicStream() {
+			return IntStream.range(0, LARGE_STREAM_SIZE).mapToObj(i -> dynamicTest("test" + i, () -> {
+			}));
+		}
+
 		@TestFactory
 		Iterator<DynamicTest> dynamicIterator() {
 			return list.iterator();
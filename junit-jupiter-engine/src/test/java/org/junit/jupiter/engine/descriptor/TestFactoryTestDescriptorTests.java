@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
@@ -120,7 +121,8 @@ class TestFactoryTestDescriptorTests {
 			extensionContext = mock(ExtensionContext.class);
 			isClosed = false;
 
-			context = new JupiterEngineExecutionContext(null, null).extend().withThrowableCollector(
+			ConfigurationParameters configurationParameters = mock(ConfigurationParameters.class);
+			context = new JupiterEngineExecutionContext(null, configurationParameters).extend().withThrowableCollector(
 				new OpenTest4JAwareThrowableCollector()).withExtensionContext(extensionContext).build();
 
 			Method testMethod = CustomStreamTestCase.class.getDeclaredMethod("customStream");
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.engine.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_CONTAINER_SEGMENT_TYPE;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_TEST_SEGMENT_TYPE;
 import static org.junit.jupiter.engine.discovery.JupiterUniqueIdBuilder.engineId;
@@ -61,6 +62,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.LogRecordListener;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
@@ -430,6 +432,29 @@ class DiscoverySelectorResolverTests {
 			uniqueIdForMethod(ClassWithStaticInnerTestCases.ShouldBeDiscovered.class, "test1()"));
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void parallelResolutionResultsInSameTestDescriptorsInSameOrder() {
+		DiscoverySelector[] selectors = { selectPackage("org.junit.jupiter.engine.descriptor.subpackage"),
+				selectClass(YourTestClass.class), selectClass("org.example.DoesNotExist"),
+				selectClass(MyTestClass.class), selectPackage("org.junit.jupiter.engine.discovery") };
+		resolver.resolveSelectors(request().selectors(selectors).build(), engineDescriptor);
+
+		JupiterEngineDescriptor parallelEngineDescriptor = new JupiterEngineDescriptor(engineId());
+		// @formatter:off
+		resolver.resolveSelectors(request()
+				.selectors(selectors)
+				.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true")
+				.build(), parallelEngineDescriptor);
+		// @formatter:on
+
+		assertThat(parallelEngineDescriptor.getDescendants()).extracting(TestDescriptor::getUniqueId) //
+				.isNotEmpty() //
+				.containsExactlyElementsOf(uniqueIds());
+	}
+
 	@Test
 	void packageResolutionUsingDefaultPackage() throws Exception {
 		resolver.resolveSelectors(request().selectors(selectPackage("")).build(), engineDescriptor);
@@ -10,21 +10,25 @@
 
 package org.junit.jupiter.engine.execution;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.DeterministicParameterResolver;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
@@ -254,6 +258,71 @@ class ExecutableInvokerTests {
 		assertSame(cause, caught);
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void rememberSupportOfDeterministicParameterResolversForSubsequentInvocations() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver deterministicResolver = new CountingDeterministicParameterResolver(true);
+		CountingParameterResolver resolver = new CountingParameterResolver(false);
+		register(deterministicResolver, resolver);
+
+		invokeMethod();
+		invokeMethod();
+		invokeMethod();
+
+		verify(instance, times(3)).singleStringParameter("counted");
+		assertEquals(1, deterministicResolver.supportsInvocations.get());
+		assertEquals(3, resolver.supportsInvocations.get());
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void rememberSupportOfDeterministicParameterResolversAcrossChildRegistries() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver deterministicResolver = new CountingDeterministicParameterResolver(true);
+		register(deterministicResolver);
+		ExtensionRegistry parentRegistry = extensionRegistry;
+
+		extensionRegistry = ExtensionRegistry.createRegistryFrom(parentRegistry, emptyList());
+		invokeMethod();
+		extensionRegistry = ExtensionRegistry.createRegistryFrom(parentRegistry, emptyList());
+		invokeMethod();
+
+		verify(instance, times(2)).singleStringParameter("counted");
+		assertEquals(1, deterministicResolver.supportsInvocations.get());
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void doNotRememberExceptionsThrownByDeterministicParameterResolvers() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver deterministicResolver = new CountingDeterministicParameterResolver(true) {
+
+			@Override
+			public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+				if (supportsInvocations.get() == 0) {
+					supportsInvocations.incrementAndGet();
+					throw new ParameterResolutionException("first invocation");
+				}
+				return super.supportsParameter(parameterContext, extensionContext);
+			}
+		};
+		register(deterministicResolver);
+
+		assertThrows(ParameterResolutionException.class, this::invokeMethod);
+		invokeMethod();
+		invokeMethod();
+
+		verify(instance, times(2)).singleStringParameter("counted");
+		assertEquals(2, deterministicResolver.supportsInvocations.get());
+	}
+
 	private IllegalArgumentException anyExceptionButParameterResolutionException() {
 		return new IllegalArgumentException();
 	}
@@ -375,6 +444,35 @@ class ExecutableInvokerTests {
 		}
 	}
 
+	static class CountingParameterResolver implements ParameterResolver {
+
+		final AtomicInteger supportsInvocations = new AtomicInteger();
+		private final boolean supported;
+
+		CountingParameterResolver(boolean supported) {
+			this.supported = supported;
+		}
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			supportsInvocations.incrementAndGet();
+			return supported;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return "counted";
+		}
+	}
+
+	static class CountingDeterministicParameterResolver extends CountingParameterResolver
+			implements DeterministicParameterResolver {
+
+		CountingDeterministicParameterResolver(boolean supported) {
+			super(supported);
+		}
+	}
+
 	interface MethodSource {
 
 		void noParameter();
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Nested;
@@ -326,6 +327,73 @@ class ExtensionValuesStoreTests {
 		}
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Nested
+	class MetricsTests {
+
+		@Test
+		void lookupsAreCountedAsHitsAndMisses() {
+			grandParentStore.put(namespace, key, value);
+
+			store.get(namespace, key);
+			store.get(namespace, "unknown");
+			store.getOrComputeIfAbsent(namespace, "computed", k -> value);
+			store.getOrComputeIfAbsent(namespace, "computed", k -> value);
+
+			ExtensionValuesStore.Metrics metrics = store.getMetrics();
+			assertEquals(2, metrics.getHits());
+			assertEquals(2, metrics.getMisses());
+			assertEquals(0, metrics.getContentions());
+			assertEquals(0, grandParentStore.getMetrics().getHits());
+		}
+
+		@Test
+		void waitingForConcurrentlyComputedValueIsCountedAsContention() throws Exception {
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			Thread thread = new Thread(() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+				computing.countDown();
+				awaitUninterruptibly(release);
+				return value;
+			}));
+			thread.start();
+			computing.await();
+
+			Thread waiting = new Thread(() -> store.getOrComputeIfAbsent(namespace, key, k -> "other"));
+			waiting.start();
+			while (store.getMetrics().getContentions() == 0) {
+				Thread.sleep(1);
+			}
+			release.countDown();
+			thread.join();
+			waiting.join();
+
+			assertEquals(value, store.get(namespace, key));
+			assertEquals(1, store.getMetrics().getContentions());
+		}
+
+		@Test
+		void nullValueInChildHidesValueInParent() {
+			parentStore.put(namespace, key, value);
+			store.put(namespace, key, null);
+
+			assertNull(store.get(namespace, key));
+			assertEquals(1, store.getMetrics().getHits());
+		}
+
+		private void awaitUninterruptibly(CountDownLatch latch) {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
 	@Nested
 	class CompositeNamespaceTests {
 
@@ -13,8 +13,12 @@ package org.junit.jupiter.engine.extension;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryWithDefaultExtensions;
@@ -145,6 +149,58 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void extensionsRegisteredInParentAfterLookupInChildAreVisibleInChild() {
+		ExtensionRegistry parent = registry;
+		ExtensionRegistry child = createRegistryFrom(parent, singletonList(YourExtension.class));
+		assertEquals(1, countExtensions(child, MyExtensionApi.class));
+
+		parent.registerExtension(MyExtension.class);
+
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+		assertEquals(2, extensions.size());
+		assertEquals(MyExtension.class, extensions.get(0).getClass());
+		assertEquals(YourExtension.class, extensions.get(1).getClass());
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void lookupsReuseListsUntilFurtherExtensionsAreRegistered() {
+		ExtensionRegistry child = createRegistryFrom(registry, singletonList(MyExtension.class));
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+
+		assertSame(extensions, child.getExtensions(MyExtensionApi.class));
+		assertThrows(UnsupportedOperationException.class, () -> extensions.add(new YourExtension()));
+
+		child.registerExtension(YourExtension.class);
+
+		assertNotSame(extensions, child.getExtensions(MyExtensionApi.class));
+		assertEquals(1, extensions.size());
+		assertEquals(2, child.getExtensions(MyExtensionApi.class).size());
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void reversedExtensionsAreInReverseRegistrationOrder() {
+		ExtensionRegistry child = createRegistryFrom(registry, singletonList(MyExtension.class));
+		ExtensionRegistry grandChild = createRegistryFrom(child, asList(YourExtension.class, MultipleExtension.class));
+
+		List<MyExtensionApi> extensions = grandChild.getExtensions(MyExtensionApi.class);
+		List<MyExtensionApi> reversedExtensions = grandChild.getReversedExtensions(MyExtensionApi.class);
+
+		assertEquals(asList(MyExtension.class, YourExtension.class, MultipleExtension.class),
+			extensions.stream().map(Object::getClass).collect(toList()));
+		assertEquals(asList(MultipleExtension.class, YourExtension.class, MyExtension.class),
+			reversedExtensions.stream().map(Object::getClass).collect(toList()));
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
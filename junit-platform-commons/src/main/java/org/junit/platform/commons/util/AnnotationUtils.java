@@ -107,12 +107,25 @@ public final class AnnotationUtils {
 	 */
 	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
+		if (element == null) {
+			return Optional.empty();
+		}
+		return ReflectionCache.getForElement(element, "annotation", () -> computeAnnotation(element, annotationType),
+			annotationType);
+	}
+
+	/**
+	 * Find the annotation without consulting the {@link ReflectionCache}.
+	 *
+	 * @since 1.4
+	 */
+	static <A extends Annotation> Optional<A> computeAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
-		return findAnnotation(element, annotationType, inherited, new HashSet<>());
+		return findAnnotation(element, annotationType, inherited, new VisitedAnnotations());
 	}
 
 	private static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType,
-			boolean inherited, Set<Annotation> visited) {
+			boolean inherited, VisitedAnnotations visited) {
 
 		Preconditions.notNull(annotationType, "annotationType must not be null");
 
@@ -164,16 +177,25 @@ public final class AnnotationUtils {
 	}
 
 	private static <A extends Annotation> Optional<A> findMetaAnnotation(Class<A> annotationType,
-			Annotation[] candidates, boolean inherited, Set<Annotation> visited) {
+			Annotation[] candidates, boolean inherited, VisitedAnnotations visited) {
 
 		for (Annotation candidateAnnotation : candidates) {
 			Class<? extends Annotation> candidateAnnotationType = candidateAnnotation.annotationType();
-			if (!isInJavaLangAnnotationPackage(candidateAnnotationType) && visited.add(candidateAnnotation)) {
+			if (!isInJavaLangAnnotationPackage(candidateAnnotationType)
+					&& !MetaAnnotationCache.cannotContain(candidateAnnotationType, annotationType)
+					&& visited.add(candidateAnnotation)) {
+
+				int skippedBefore = visited.skipped;
 				Optional<A> metaAnnotation = findAnnotation(candidateAnnotationType, annotationType, inherited,
 					visited);
 				if (metaAnnotation.isPresent()) {
 					return metaAnnotation;
 				}
+				// Only a search that did not skip any previously visited annotations
+				// is conclusive for the candidate annotation type on its own.
+				if (visited.skipped == skippedBefore) {
+					MetaAnnotationCache.markCannotContain(candidateAnnotationType, annotationType);
+				}
 			}
 		}
 		return Optional.empty();
@@ -189,13 +211,27 @@ public final class AnnotationUtils {
 		Repeatable repeatable = annotationType.getAnnotation(Repeatable.class);
 		Preconditions.notNull(repeatable, () -> annotationType.getName() + " must be @Repeatable");
 		Class<? extends Annotation> containerType = repeatable.value();
-		boolean inherited = containerType.isAnnotationPresent(Inherited.class);
 
 		// Short circuit the search algorithm.
 		if (element == null) {
 			return Collections.emptyList();
 		}
 
+		return ReflectionCache.getForElement(element, "repeatableAnnotations",
+			() -> computeRepeatableAnnotations(element, annotationType, containerType), annotationType);
+	}
+
+	/**
+	 * Find the repeatable annotations without consulting the
+	 * {@link ReflectionCache}.
+	 *
+	 * @since 1.4
+	 */
+	static <A extends Annotation> List<A> computeRepeatableAnnotations(AnnotatedElement element,
+			Class<A> annotationType, Class<? extends Annotation> containerType) {
+
+		boolean inherited = containerType.isAnnotationPresent(Inherited.class);
+
 		// We use a LinkedHashSet because the search algorithm may discover
 		// duplicates, but we need to maintain the original order.
 		Set<A> found = new LinkedHashSet<>(16);
@@ -339,4 +375,24 @@ public final class AnnotationUtils {
 		return (annotationType != null && annotationType.getName().startsWith("java.lang.annotation"));
 	}
 
+	/**
+	 * Annotations visited during a search for meta-annotations, keeping
+	 * track of how many annotations were skipped because they had already
+	 * been visited.
+	 */
+	private static final class VisitedAnnotations {
+
+		private final Set<Annotation> annotations = new HashSet<>();
+
+		private int skipped;
+
+		boolean add(Annotation annotation) {
+			if (this.annotations.add(annotation)) {
+				return true;
+			}
+			this.skipped++;
+			return false;
+		}
+	}
+
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Index of the results of {@linkplain ClassFileInspector inspecting} the
+ * class files below a single base URI, keyed by the path of each class file
+ * relative to the base URI.
+ *
+ * <p>Each entry records the size and a fingerprint of the class file it was
+ * computed for; an entry is only reused if both are unchanged. The fingerprint
+ * of a class file in a directory is its last modification time, while the
+ * fingerprint of a JAR entry is its CRC-32 checksum, since the modification
+ * times of JAR entries only have a resolution of two seconds and are often
+ * constant in reproducible builds.
+ * Since the result of the inspection depends solely on the contents of the
+ * class file itself, the index can be shared by all test engines.
+ *
+ * <p>A <em>persistent</em> index is loaded from and stored to a file in an
+ * index directory whose name is derived from the base URI. Storing the index
+ * retains the entries of class files that have been inspected or
+ * {@linkplain #retain(String) found} since it was loaded, so entries of
+ * class files that were excluded by a different filter survive, while
+ * entries of deleted class files are dropped. Errors while loading or
+ * storing the index are logged and otherwise ignored.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @since 1.4
+ */
+final class ClassFileIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFileIndex.class);
+
+	private static final String HEADER_PREFIX = "# JUnit class file index v2: ";
+	private static final String FIELD_SEPARATOR = "\t";
+
+	/**
+	 * Fingerprint of a class file that is not known, which never matches an
+	 * indexed entry.
+	 */
+	static final long UNKNOWN_FINGERPRINT = -1;
+
+	/**
+	 * Create a new, empty index that is not persisted.
+	 */
+	static ClassFileIndex transientIndex() {
+		return new ClassFileIndex(null, null, Collections.emptyMap());
+	}
+
+	/**
+	 * Load the persistent index for the supplied base URI from the supplied
+	 * index directory, starting with an empty index if it does not exist or
+	 * cannot be read.
+	 */
+	static ClassFileIndex load(Path indexDirectory, URI baseUri) {
+		Path indexFile = indexDirectory.resolve(
+			"classfile-index-" + UUID.nameUUIDFromBytes(baseUri.toString().getBytes(UTF_8)) + ".txt");
+		return new ClassFileIndex(indexFile, baseUri, readEntries(indexFile, baseUri));
+	}
+
+	private final Path indexFile;
+	private final URI baseUri;
+	private final Map<String, Entry> previousEntries;
+	private final Map<String, Entry> currentEntries = new ConcurrentHashMap<>();
+
+	private ClassFileIndex(Path indexFile, URI baseUri, Map<String, Entry> previousEntries) {
+		this.indexFile = indexFile;
+		this.baseUri = baseUri;
+		this.previousEntries = previousEntries;
+	}
+
+	/**
+	 * Determine if the supplied class file might contain tests, reusing the
+	 * indexed result for the supplied key if the class file is unchanged.
+	 *
+	 * @param classFile the class file to inspect; never {@code null}
+	 * @param key the key of the class file in this index; never {@code null}
+	 * @see ClassFileInspector#mayContainTests(InputStream)
+	 */
+	boolean mayContainTests(Path classFile, String key) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+		return mayContainTests(key, attributes.size(), attributes.lastModifiedTime().toMillis(),
+			() -> Files.newInputStream(classFile));
+	}
+
+	/**
+	 * Determine if the class file with the supplied size and fingerprint might
+	 * contain tests, reusing the indexed result for the supplied key if the
+	 * class file is unchanged.
+	 *
+	 * @param key the key of the class file in this index; never {@code null}
+	 * @param size the size of the class file in bytes
+	 * @param fingerprint a value that changes whenever the contents of the
+	 * class file change, or {@link #UNKNOWN_FINGERPRINT}
+	 * @param classFile the source of the contents of the class file, which is
+	 * only opened if the class file needs to be inspected; never {@code null}
+	 * @see ClassFileInspector#mayContainTests(InputStream)
+	 */
+	boolean mayContainTests(String key, long size, long fingerprint, ClassFileSource classFile)
+			throws IOException {
+		if (fingerprint == UNKNOWN_FINGERPRINT) {
+			try (InputStream inputStream = classFile.open()) {
+				return ClassFileInspector.mayContainTests(inputStream);
+			}
+		}
+		Entry entry = this.previousEntries.get(key);
+		if (entry == null || !entry.isUpToDate(size, fingerprint)) {
+			try (InputStream inputStream = classFile.open()) {
+				entry = new Entry(size, fingerprint, ClassFileInspector.mayContainTests(inputStream));
+			}
+		}
+		this.currentEntries.put(key, entry);
+		return entry.mayContainTests;
+	}
+
+	/**
+	 * Record that the class file with the supplied key still exists so that
+	 * its previous entry, if any, is stored again even if the class file is
+	 * not inspected.
+	 *
+	 * @param key the key of the class file in this index; never {@code null}
+	 */
+	void retain(String key) {
+		Entry entry = this.previousEntries.get(key);
+		if (entry != null) {
+			this.currentEntries.putIfAbsent(key, entry);
+		}
+	}
+
+	/**
+	 * Store the entries of all class files inspected or retained since this
+	 * index was loaded, if it is persistent.
+	 */
+	void store() {
+		if (this.indexFile == null) {
+			return;
+		}
+		try {
+			Path indexDirectory = Files.createDirectories(this.indexFile.getParent());
+			Path tempFile = Files.createTempFile(indexDirectory, "classfile-index-", ".tmp");
+			try {
+				writeEntries(tempFile);
+				moveReplacing(tempFile, this.indexFile);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to store class file index " + this.indexFile);
+		}
+	}
+
+	private void writeEntries(Path file) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+			writer.write(HEADER_PREFIX + this.baseUri);
+			writer.newLine();
+			for (Map.Entry<String, Entry> entry : this.currentEntries.entrySet()) {
+				writer.write(entry.getValue().toIndexLine(entry.getKey()));
+				writer.newLine();
+			}
+		}
+	}
+
+	private static void moveReplacing(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static Map<String, Entry> readEntries(Path indexFile, URI baseUri) {
+		Map<String, Entry> entries = new ConcurrentHashMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+			if (!(HEADER_PREFIX + baseUri).equals(reader.readLine())) {
+				logger.debug(() -> "Ignoring class file index for different version or base URI: " + indexFile);
+				return entries;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(FIELD_SEPARATOR, 4);
+				entries.put(fields[3], new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+					Boolean.parseBoolean(fields[0])));
+			}
+		}
+		catch (NoSuchFileException ex) {
+			// start with an empty index
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Ignoring unreadable class file index " + indexFile);
+			entries.clear();
+		}
+		return entries;
+	}
+
+	/**
+	 * Source of the contents of a class file.
+	 */
+	@FunctionalInterface
+	interface ClassFileSource {
+
+		InputStream open() throws IOException;
+	}
+
+	private static class Entry {
+
+		private final long size;
+		private final long fingerprint;
+		private final boolean mayContainTests;
+
+		Entry(long size, long fingerprint, boolean mayContainTests) {
+			this.size = size;
+			this.fingerprint = fingerprint;
+			this.mayContainTests = mayContainTests;
+		}
+
+		boolean isUpToDate(long size, long fingerprint) {
+			return this.size == size && this.fingerprint == fingerprint;
+		}
+
+		String toIndexLine(String key) {
+			return this.mayContainTests + FIELD_SEPARATOR + this.size + FIELD_SEPARATOR + this.fingerprint
+					+ FIELD_SEPARATOR + key;
+		}
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Inspects the binary representation of a class file in order to decide
+ * whether the class <em>might</em> contain tests without loading it.
+ *
+ * <p>The inspection is conservative: it may report classes that turn out not
+ * to contain any tests, but it never rejects a class that could contain tests
+ * for the Jupiter or Vintage engines. Since meta-annotations, inherited test
+ * methods, and member classes cannot be resolved from a single class file, a
+ * class is considered a potential test class if any of the following holds.
+ *
+ * <ul>
+ * <li>It extends a class other than {@code java.lang.Object}.</li>
+ * <li>It implements at least one interface.</li>
+ * <li>It declares a member class.</li>
+ * <li>It, one of its fields, or one of its methods is annotated with a
+ * runtime-visible annotation that is not declared in a {@code java.*}
+ * package and is not {@code kotlin.Metadata}.</li>
+ * <li>It declares a method named {@code suite}, as used by JUnit 3 style
+ * test suites.</li>
+ * </ul>
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+final class ClassFileInspector {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final String OBJECT_CLASS_NAME = "java/lang/Object";
+	private static final String SUITE_METHOD_NAME = "suite";
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+	private static final String INNER_CLASSES = "InnerClasses";
+	private static final String JAVA_PACKAGE_PREFIX = "Ljava/";
+	private static final String KOTLIN_METADATA = "Lkotlin/Metadata;";
+
+	private ClassFileInspector() {
+		/* no-op */
+	}
+
+	/**
+	 * Determine if the class file read from the supplied stream might contain
+	 * tests.
+	 *
+	 * <p>The stream is not closed by this method.
+	 *
+	 * @param classFile the input stream of the class file to inspect; never
+	 * {@code null}
+	 * @return {@code true} if the class might contain tests
+	 * @throws IOException if the class file cannot be read or is malformed
+	 */
+	static boolean mayContainTests(InputStream classFile) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.skipBytes(4); // minor and major version
+		ConstantPool constantPool = ConstantPool.read(in);
+
+		in.skipBytes(2); // access flags
+		int thisClass = in.readUnsignedShort();
+		int superClass = in.readUnsignedShort();
+		if (superClass != 0 && !OBJECT_CLASS_NAME.equals(constantPool.getClassName(superClass))) {
+			return true;
+		}
+		if (in.readUnsignedShort() > 0) { // interfaces count
+			return true;
+		}
+		if (hasRelevantMembers(in, constantPool, false)) { // fields
+			return true;
+		}
+		if (hasRelevantMembers(in, constantPool, true)) { // methods
+			return true;
+		}
+		int attributesCount = in.readUnsignedShort();
+		for (int i = 0; i < attributesCount; i++) {
+			String name = constantPool.getUtf8(in.readUnsignedShort());
+			int length = in.readInt();
+			if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+				if (hasRelevantAnnotation(in, constantPool)) {
+					return true;
+				}
+			}
+			else if (INNER_CLASSES.equals(name)) {
+				if (declaresMemberClass(in, thisClass)) {
+					return true;
+				}
+			}
+			else {
+				skipFully(in, length);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Read the fields or methods of a class file, returning as soon as a
+	 * relevant member has been found.
+	 */
+	private static boolean hasRelevantMembers(DataInputStream in, ConstantPool constantPool, boolean methods)
+			throws IOException {
+
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			in.skipBytes(2); // access flags
+			String name = constantPool.getUtf8(in.readUnsignedShort());
+			in.skipBytes(2); // descriptor
+			if (methods && SUITE_METHOD_NAME.equals(name)) {
+				return true;
+			}
+			int attributesCount = in.readUnsignedShort();
+			for (int j = 0; j < attributesCount; j++) {
+				String attributeName = constantPool.getUtf8(in.readUnsignedShort());
+				int length = in.readInt();
+				if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+					if (hasRelevantAnnotation(in, constantPool)) {
+						return true;
+					}
+				}
+				else {
+					skipFully(in, length);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Read a {@code RuntimeVisibleAnnotations} attribute, returning as soon as
+	 * a relevant annotation has been found.
+	 */
+	private static boolean hasRelevantAnnotation(DataInputStream in, ConstantPool constantPool) throws IOException {
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			String descriptor = constantPool.getUtf8(in.readUnsignedShort());
+			if (!descriptor.startsWith(JAVA_PACKAGE_PREFIX) && !KOTLIN_METADATA.equals(descriptor)) {
+				return true;
+			}
+			skipElementValuePairs(in);
+		}
+		return false;
+	}
+
+	private static void skipAnnotation(DataInputStream in) throws IOException {
+		in.skipBytes(2); // type
+		skipElementValuePairs(in);
+	}
+
+	private static void skipElementValuePairs(DataInputStream in) throws IOException {
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			in.skipBytes(2); // element name
+			skipElementValue(in);
+		}
+	}
+
+	private static void skipElementValue(DataInputStream in) throws IOException {
+		int tag = in.readUnsignedByte();
+		switch (tag) {
+			case 'e':
+				in.skipBytes(4);
+				break;
+			case '@':
+				skipAnnotation(in);
+				break;
+			case '[':
+				int count = in.readUnsignedShort();
+				for (int i = 0; i < count; i++) {
+					skipElementValue(in);
+				}
+				break;
+			default:
+				in.skipBytes(2);
+		}
+	}
+
+	private static boolean declaresMemberClass(DataInputStream in, int thisClass) throws IOException {
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			in.skipBytes(2); // inner class
+			if (in.readUnsignedShort() == thisClass) {
+				return true;
+			}
+			in.skipBytes(4); // inner name and access flags
+		}
+		return false;
+	}
+
+	private static void skipFully(DataInputStream in, int length) throws IOException {
+		int remaining = length;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped <= 0) {
+				throw new IOException("Unexpected end of class file");
+			}
+			remaining -= skipped;
+		}
+	}
+
+	/**
+	 * Minimal view of a constant pool that only retains UTF-8 entries and
+	 * the name indices of class entries.
+	 */
+	private static class ConstantPool {
+
+		private final String[] utf8Entries;
+		private final int[] classNameIndices;
+
+		private ConstantPool(int size) {
+			this.utf8Entries = new String[size];
+			this.classNameIndices = new int[size];
+		}
+
+		static ConstantPool read(DataInputStream in) throws IOException {
+			int size = in.readUnsignedShort();
+			ConstantPool constantPool = new ConstantPool(size);
+			for (int i = 1; i < size; i++) {
+				int tag = in.readUnsignedByte();
+				switch (tag) {
+					case 1: // Utf8
+						constantPool.utf8Entries[i] = in.readUTF();
+						break;
+					case 7: // Class
+						constantPool.classNameIndices[i] = in.readUnsignedShort();
+						break;
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						in.skipBytes(2);
+						break;
+					case 15: // MethodHandle
+						in.skipBytes(3);
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						in.skipBytes(4);
+						break;
+					case 5: // Long
+					case 6: // Double
+						in.skipBytes(8);
+						i++; // occupies two entries
+						break;
+					default:
+						throw new IOException("Unknown constant pool tag: " + tag);
+				}
+			}
+			return constantPool;
+		}
+
+		String getUtf8(int index) throws IOException {
+			String value = index > 0 && index < this.utf8Entries.length ? this.utf8Entries[index] : null;
+			if (value == null) {
+				throw new IOException("Invalid constant pool index: " + index);
+			}
+			return value;
+		}
+
+		String getClassName(int index) throws IOException {
+			if (index <= 0 || index >= this.classNameIndices.length) {
+				throw new IOException("Invalid constant pool index: " + index);
+			}
+			return getUtf8(this.classNameIndices[index]);
+		}
+	}
+
+}
@@ -10,8 +10,11 @@
 
 package org.junit.platform.commons.util;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -46,10 +49,79 @@ public class ClassFilter implements Predicate<Class<?>> {
 
 	private final Predicate<String> namePredicate;
 	private final Predicate<Class<?>> classPredicate;
+	private final boolean bytecodePrefilterEnabled;
+	private final Path bytecodePrefilterIndexDirectory;
 
 	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
+		this(namePredicate, classPredicate, false, null);
+	}
+
+	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			boolean bytecodePrefilterEnabled, Path bytecodePrefilterIndexDirectory) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
+		this.bytecodePrefilterEnabled = bytecodePrefilterEnabled;
+		this.bytecodePrefilterIndexDirectory = bytecodePrefilterIndexDirectory;
+	}
+
+	/**
+	 * Create a copy of this {@link ClassFilter} that additionally instructs
+	 * classpath scanning to inspect the bytecode of each class file whose name
+	 * matches and to skip loading classes that cannot contain tests.
+	 *
+	 * <p>The inspection is conservative; see {@code ClassFileInspector} for
+	 * details. Classes that are loaded are still tested against the stored
+	 * class predicate.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public ClassFilter withBytecodePrefilter() {
+		return new ClassFilter(this.namePredicate, this.classPredicate, true, null);
+	}
+
+	/**
+	 * Create a copy of this {@link ClassFilter} that additionally instructs
+	 * classpath scanning to inspect the bytecode of each class file whose name
+	 * matches and to skip loading classes that cannot contain tests, storing
+	 * the results of the inspection in the supplied index directory.
+	 *
+	 * <p>Subsequent scans using the same index directory only inspect class
+	 * files whose size or last modification time has changed.
+	 *
+	 * @param indexDirectory the directory to store the index in; never
+	 * {@code null}
+	 * @since 1.4
+	 * @see #withBytecodePrefilter()
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public ClassFilter withBytecodePrefilter(Path indexDirectory) {
+		Preconditions.notNull(indexDirectory, "index directory must not be null");
+		return new ClassFilter(this.namePredicate, this.classPredicate, true, indexDirectory);
+	}
+
+	/**
+	 * Determine if classpath scanning should skip loading classes whose
+	 * bytecode indicates that they cannot contain tests.
+	 *
+	 * @since 1.4
+	 * @see #withBytecodePrefilter()
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public boolean isBytecodePrefilterEnabled() {
+		return this.bytecodePrefilterEnabled;
+	}
+
+	/**
+	 * Get the directory in which the results of the bytecode pre-filter
+	 * should be stored, if any.
+	 *
+	 * @since 1.4
+	 * @see #withBytecodePrefilter(Path)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public Optional<Path> getBytecodePrefilterIndexDirectory() {
+		return Optional.ofNullable(this.bytecodePrefilterIndexDirectory);
 	}
 
 	/**
@@ -12,24 +12,33 @@ package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX;
+import static org.junit.platform.commons.util.ClassFileVisitor.MODULE_INFO_FILE_NAME;
+import static org.junit.platform.commons.util.ClassFileVisitor.PACKAGE_INFO_FILE_NAME;
+import static org.junit.platform.commons.util.ParallelUtils.mapInParallel;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.Logger;
@@ -51,6 +60,7 @@ class ClasspathScanner {
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+	private static final String JAR_ENTRY_SEPARATOR = "!/";
 
 	/**
 	 * Malformed class name InternalError like reported in #401.
@@ -69,38 +79,94 @@ class ClasspathScanner {
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter) {
+		return scanForClassesInPackage(basePackageName, classFilter, 1);
+	}
+
+	/**
+	 * Scan for classes in the supplied package, scanning the roots of the
+	 * package and processing the class files found in each of them using up
+	 * to the supplied number of threads.
+	 *
+	 * @since 1.4
+	 */
+	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter, int parallelism) {
 
 		PackageUtils.assertPackageNameIsValid(basePackageName);
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 		basePackageName = basePackageName.trim();
 
-		return findClassesForUris(getRootUrisForPackage(basePackageName), basePackageName, classFilter);
+		return findClassesForUris(getRootUrisForPackage(basePackageName), basePackageName, classFilter, parallelism);
 	}
 
 	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter) {
+		return scanForClassesInClasspathRoot(root, classFilter, 1);
+	}
+
+	/**
+	 * Scan for classes in the supplied classpath root, processing the class
+	 * files found using up to the supplied number of threads.
+	 *
+	 * @since 1.4
+	 */
+	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter, int parallelism) {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		return findClassesForUris(singletonList(root), PackageUtils.DEFAULT_PACKAGE_NAME, classFilter, parallelism);
 	}
 
 	/**
 	 * Recursively scan for classes in all of the supplied source directories.
+	 *
+	 * <p>If the supplied parallelism is greater than one, each root is scanned
+	 * in its own task and the found classes are sorted by name so that the
+	 * result does not depend on the order in which roots, directories, or JAR
+	 * entries were processed.
 	 */
-	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter,
+			int parallelism) {
+		if (parallelism > 1) {
+			List<URI> distinctBaseUris = baseUris.stream().distinct().collect(toList());
+			// @formatter:off
+			return mapInParallel(distinctBaseUris,
+						baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, parallelism),
+						parallelism)
+					.stream()
+					.flatMap(Collection::stream)
+					.distinct()
+					.sorted(comparing(Class::getName))
+					.collect(toList());
+			// @formatter:on
+		}
 		// @formatter:off
 		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, parallelism))
 				.flatMap(Collection::stream)
 				.distinct()
 				.collect(toList());
 		// @formatter:on
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			int parallelism) {
+		ClassFileIndex index = openClassFileIndex(baseUri, classFilter);
+		Optional<JarFileRoot> jarFileRoot = JarFileRoot.from(baseUri);
+		Optional<List<Class<?>>> classesInJarFile = jarFileRoot.isPresent()
+				? findClassesInJarFile(jarFileRoot.get(), classFilter, index, parallelism)
+				: Optional.empty();
+		List<Class<?>> classes = classesInJarFile.isPresent() ? classesInJarFile.get()
+				: findClassesInFileSystem(baseUri, basePackageName, classFilter, index, parallelism);
+		index.store();
+		return classes;
+	}
+
+	private List<Class<?>> findClassesInFileSystem(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassFileIndex index, int parallelism) {
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
-			return findClassesForPath(baseDir, basePackageName, classFilter);
+			return parallelism > 1
+					? findClassesForPathInParallel(baseDir, basePackageName, classFilter, index, parallelism)
+					: findClassesForPath(baseDir, basePackageName, classFilter, index);
 		}
 		catch (PreconditionViolationException ex) {
 			throw ex;
@@ -111,12 +177,59 @@ class ClasspathScanner {
 		}
 	}
 
-	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter) {
+	/**
+	 * Find classes in the supplied JAR file root by reading the names of the
+	 * class files directly from the central directory of the JAR file instead
+	 * of walking a ZIP file system.
+	 *
+	 * @return the found classes or an empty {@code Optional} if the central
+	 * directory of the JAR file cannot be read
+	 */
+	private Optional<List<Class<?>>> findClassesInJarFile(JarFileRoot root, ClassFilter classFilter,
+			ClassFileIndex index, int parallelism) {
+
+		List<String> entryNames;
+		try {
+			entryNames = ZipCentralDirectory.findEntryNames(root.jarFile, root.entryPrefix, CLASS_FILE_SUFFIX);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Falling back to scanning JAR file using a ZIP file system: " + root.jarFile);
+			return Optional.empty();
+		}
+		try (ZipFile zipFile = classFilter.isBytecodePrefilterEnabled() ? new ZipFile(root.jarFile.toFile()) : null) {
+			// @formatter:off
+			return Optional.of(mapInParallel(entryNames, entryName -> {
+						List<Class<?>> classes = new ArrayList<>(1);
+						processJarEntrySafely(root, zipFile, entryName, classFilter, index, classes::add);
+						return classes;
+					}, parallelism)
+					.stream()
+					.flatMap(Collection::stream)
+					.collect(toList()));
+			// @formatter:on
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Error scanning JAR file " + root.jarFile);
+			return Optional.of(emptyList());
+		}
+	}
+
+	private ClassFileIndex openClassFileIndex(URI baseUri, ClassFilter classFilter) {
+		Optional<Path> indexDirectory = classFilter.getBytecodePrefilterIndexDirectory();
+		if (classFilter.isBytecodePrefilterEnabled() && indexDirectory.isPresent()) {
+			return ClassFileIndex.load(indexDirectory.get(), baseUri);
+		}
+		return ClassFileIndex.transientIndex();
+	}
+
+	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter,
+			ClassFileIndex index) {
 		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
 		List<Class<?>> classes = new ArrayList<>();
 		try {
 			Files.walkFileTree(baseDir, new ClassFileVisitor(
-				classFile -> processClassFileSafely(baseDir, basePackageName, classFilter, classFile, classes::add)));
+				classFile -> processClassFileSafely(baseDir, basePackageName, classFilter, index, classFile,
+					classes::add)));
 		}
 		catch (IOException ex) {
 			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
@@ -124,29 +237,140 @@ class ClasspathScanner {
 		return classes;
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
+	/**
+	 * Walk the supplied directory to collect all class files and subsequently
+	 * filter and load them in parallel.
+	 */
+	private List<Class<?>> findClassesForPathInParallel(Path baseDir, String basePackageName,
+			ClassFilter classFilter, ClassFileIndex index, int parallelism) {
+
+		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+		List<Path> classFiles = new ArrayList<>();
+		try {
+			Files.walkFileTree(baseDir, new ClassFileVisitor(classFiles::add));
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
+		}
+		// @formatter:off
+		return mapInParallel(classFiles, classFile -> {
+					List<Class<?>> classes = new ArrayList<>(1);
+					processClassFileSafely(baseDir, basePackageName, classFilter, index, classFile, classes::add);
+					return classes;
+				}, parallelism)
+				.stream()
+				.flatMap(Collection::stream)
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter,
+			ClassFileIndex index, Path classFile, Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
-			if (classFilter.match(fullyQualifiedClassName)) {
-				try {
-					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.toOptional()
-							.filter(classFilter) // Always use ".filter(classFilter)" to include future predicates.
-							.ifPresent(classConsumer);
-					// @formatter:on
-				}
-				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
-				}
+			if (classFilter.isBytecodePrefilterEnabled()) {
+				index.retain(baseDir.relativize(classFile).toString());
+			}
+			if (classFilter.match(fullyQualifiedClassName)
+					&& passesBytecodePrefilter(classFilter, index, baseDir, classFile)) {
+				loadClassSafely(fullyQualifiedClassName, classFilter, classFile::toAbsolutePath, classConsumer);
+			}
+		}
+		catch (Throwable throwable) {
+			handleThrowable(classFile::toAbsolutePath, throwable);
+		}
+	}
+
+	private void processJarEntrySafely(JarFileRoot root, ZipFile zipFile, String entryName, ClassFilter classFilter,
+			ClassFileIndex index, Consumer<Class<?>> classConsumer) {
+		Supplier<Object> location = () -> root.jarFile.toAbsolutePath() + JAR_ENTRY_SEPARATOR + entryName;
+		try {
+			if (isPackageOrModuleInfo(entryName)) {
+				return;
+			}
+			String fullyQualifiedClassName = entryName.substring(0,
+				entryName.length() - CLASS_FILE_SUFFIX.length()).replace(CLASSPATH_RESOURCE_PATH_SEPARATOR,
+					PACKAGE_SEPARATOR_CHAR);
+			if (classFilter.isBytecodePrefilterEnabled()) {
+				index.retain(entryName.substring(root.entryPrefix.length()));
+			}
+			if (classFilter.match(fullyQualifiedClassName)
+					&& passesBytecodePrefilter(classFilter, index, root, zipFile, entryName, location)) {
+				loadClassSafely(fullyQualifiedClassName, classFilter, location, classConsumer);
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(location, throwable);
+		}
+	}
+
+	private static boolean isPackageOrModuleInfo(String entryName) {
+		String fileName = entryName.substring(entryName.lastIndexOf(CLASSPATH_RESOURCE_PATH_SEPARATOR) + 1);
+		return PACKAGE_INFO_FILE_NAME.equals(fileName) || MODULE_INFO_FILE_NAME.equals(fileName);
+	}
+
+	private void loadClassSafely(String fullyQualifiedClassName, ClassFilter classFilter,
+			Supplier<Object> classFileLocation, Consumer<Class<?>> classConsumer) {
+		try {
+			// @formatter:off
+			loadClass.apply(fullyQualifiedClassName, getClassLoader())
+					.toOptional()
+					.filter(classFilter) // Always use ".filter(classFilter)" to include future predicates.
+					.ifPresent(classConsumer);
+			// @formatter:on
+		}
+		catch (InternalError internalError) {
+			handleInternalError(classFileLocation, fullyQualifiedClassName, internalError);
+		}
+	}
+
+	/**
+	 * Inspect the supplied class file if the bytecode pre-filter is enabled,
+	 * falling back to loading the class if the class file cannot be inspected.
+	 */
+	private boolean passesBytecodePrefilter(ClassFilter classFilter, ClassFileIndex index, Path baseDir,
+			Path classFile) {
+		if (!classFilter.isBytecodePrefilterEnabled()) {
+			return true;
+		}
+		try {
+			return index.mayContainTests(classFile, baseDir.relativize(classFile).toString());
+		}
+		catch (Exception ex) {
+			logPrefilterException(classFile::toAbsolutePath, ex);
+			return true;
 		}
 	}
 
+	/**
+	 * Inspect the supplied JAR entry if the bytecode pre-filter is enabled,
+	 * falling back to loading the class if the class file cannot be inspected.
+	 */
+	private boolean passesBytecodePrefilter(ClassFilter classFilter, ClassFileIndex index, JarFileRoot root,
+			ZipFile zipFile, String entryName, Supplier<Object> location) {
+		if (!classFilter.isBytecodePrefilterEnabled()) {
+			return true;
+		}
+		try {
+			ZipEntry entry = zipFile.getEntry(entryName);
+			if (entry == null) {
+				throw new IOException("JAR entry not found: " + entryName);
+			}
+			// getCrc() returns -1 if unknown, which is the UNKNOWN_FINGERPRINT
+			return index.mayContainTests(entryName.substring(root.entryPrefix.length()), entry.getSize(),
+				entry.getCrc(), () -> zipFile.getInputStream(entry));
+		}
+		catch (Exception ex) {
+			logPrefilterException(location, ex);
+			return true;
+		}
+	}
+
+	private void logPrefilterException(Supplier<Object> classFileLocation, Exception ex) {
+		logger.debug(ex,
+			() -> format("Failed to inspect class file [%s] during classpath scanning.", classFileLocation.get()));
+	}
+
 	private String determineFullyQualifiedClassName(Path baseDir, String basePackageName, Path classFile) {
 		// @formatter:off
 		return Stream.of(
@@ -175,34 +399,36 @@ class ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(Supplier<Object> classFileLocation, String fullyQualifiedClassName,
+			InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
+			logMalformedClassName(classFileLocation, fullyQualifiedClassName, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(classFileLocation, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Supplier<Object> classFileLocation, Throwable throwable) {
 		rethrowIfBlacklisted(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(classFileLocation, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Supplier<Object> classFileLocation, String fullyQualifiedClassName,
+			InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				classFileLocation.get(), fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(classFileLocation, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
+	private void logGenericFileProcessingException(Supplier<Object> classFileLocation, Throwable throwable) {
 		logger.debug(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+			classFileLocation.get()));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -229,4 +455,78 @@ class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * Location of a JAR file on the default file system and of the directory
+	 * within that JAR file that should be scanned.
+	 *
+	 * <p>URIs of JAR files nested in other JAR files, such as
+	 * {@code jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/}, are not supported
+	 * since the nested JAR file is not located on the default file system.
+	 */
+	static class JarFileRoot {
+
+		private static final String FILE_URI_SCHEME = "file";
+		private static final String JAR_URI_SCHEME = "jar";
+		private static final String JAR_FILE_EXTENSION = ".jar";
+
+		static Optional<JarFileRoot> from(URI uri) {
+			try {
+				if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+					String schemeSpecificPart = uri.getRawSchemeSpecificPart();
+					int separatorIndex = schemeSpecificPart.indexOf(JAR_ENTRY_SEPARATOR);
+					if (separatorIndex < 0) {
+						return Optional.empty();
+					}
+					URI jarUri = new URI(schemeSpecificPart.substring(0, separatorIndex));
+					String entryName = schemeSpecificPart.substring(separatorIndex + JAR_ENTRY_SEPARATOR.length());
+					if (entryName.contains(JAR_ENTRY_SEPARATOR)) {
+						// nested JAR file
+						return Optional.empty();
+					}
+					return from(jarUri, entryName);
+				}
+				if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+					return from(uri, "");
+				}
+			}
+			catch (Exception ex) {
+				logger.debug(ex, () -> "Failed to determine JAR file for URI " + uri);
+			}
+			return Optional.empty();
+		}
+
+		private static Optional<JarFileRoot> from(URI jarUri, String entryName) {
+			if (!FILE_URI_SCHEME.equals(jarUri.getScheme())) {
+				return Optional.empty();
+			}
+			Path jarFile = Paths.get(jarUri);
+			if (!Files.isRegularFile(jarFile)) {
+				return Optional.empty();
+			}
+			String directory = trimSeparators(entryName);
+			return Optional.of(
+				new JarFileRoot(jarFile, directory.isEmpty() ? "" : directory + CLASSPATH_RESOURCE_PATH_SEPARATOR));
+		}
+
+		private static String trimSeparators(String entryName) {
+			int start = 0;
+			int end = entryName.length();
+			while (start < end && entryName.charAt(start) == CLASSPATH_RESOURCE_PATH_SEPARATOR) {
+				start++;
+			}
+			while (end > start && entryName.charAt(end - 1) == CLASSPATH_RESOURCE_PATH_SEPARATOR) {
+				end--;
+			}
+			return entryName.substring(start, end);
+		}
+
+		final Path jarFile;
+		final String entryPrefix;
+
+		private JarFileRoot(Path jarFile, String entryPrefix) {
+			this.jarFile = jarFile;
+			this.entryPrefix = entryPrefix;
+		}
+	}
+
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache of annotation types that are known to be neither directly present
+ * nor meta-present on another annotation type.
+ *
+ * <p>Every annotation type that is searched for is assigned an interned id.
+ * The ids of the annotation types that cannot be found on a given annotation
+ * type are stored in a bit set attached to that type via a {@link ClassValue}.
+ * Since neither ids nor bit sets reference any types, the cache never keeps a
+ * class or its class loader reachable.
+ *
+ * <p>Ids are assigned within a <em>generation</em> of at most
+ * {@value #MAX_NUMBER_OF_IDS} ids. Once all ids of a generation have been
+ * assigned, for example because annotation types of many class loaders have
+ * been searched for over time, a new generation is started. Ids and bit sets
+ * of previous generations are then discarded as they are accessed, so the
+ * size of each bit set remains bounded.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+final class MetaAnnotationCache {
+
+	static final int MAX_NUMBER_OF_IDS = 4096;
+
+	private static final long[] EMPTY = new long[0];
+
+	private static final MetaAnnotationCache instance = new MetaAnnotationCache(MAX_NUMBER_OF_IDS);
+
+	/**
+	 * Determine if the supplied {@code annotationType} is known to be neither
+	 * directly present nor meta-present on the supplied {@code candidate}.
+	 */
+	static boolean cannotContain(Class<? extends Annotation> candidate, Class<? extends Annotation> annotationType) {
+		return instance.isKnownAbsent(candidate, annotationType);
+	}
+
+	/**
+	 * Record that the supplied {@code annotationType} is neither directly
+	 * present nor meta-present on the supplied {@code candidate}.
+	 */
+	static void markCannotContain(Class<? extends Annotation> candidate, Class<? extends Annotation> annotationType) {
+		instance.markAbsent(candidate, annotationType);
+	}
+
+	private final int maxNumberOfIds;
+
+	/**
+	 * The current generation in the upper and the next id to assign in the
+	 * lower 32 bits.
+	 */
+	private final AtomicLong nextId = new AtomicLong();
+
+	private final ClassValue<AtomicReference<Id>> ids = new ClassValue<AtomicReference<Id>>() {
+
+		@Override
+		protected AtomicReference<Id> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
+
+	private final ClassValue<AtomicReference<AbsentIds>> absentTypes = new ClassValue<AtomicReference<AbsentIds>>() {
+
+		@Override
+		protected AtomicReference<AbsentIds> computeValue(Class<?> type) {
+			return new AtomicReference<>(AbsentIds.NONE);
+		}
+	};
+
+	MetaAnnotationCache(int maxNumberOfIds) {
+		this.maxNumberOfIds = maxNumberOfIds;
+	}
+
+	boolean isKnownAbsent(Class<? extends Annotation> candidate, Class<? extends Annotation> annotationType) {
+		Id id = getId(annotationType);
+		AbsentIds absent = this.absentTypes.get(candidate).get();
+		return absent.generation == id.generation && absent.contains(id.value);
+	}
+
+	void markAbsent(Class<? extends Annotation> candidate, Class<? extends Annotation> annotationType) {
+		Id id = getId(annotationType);
+		AtomicReference<AbsentIds> reference = this.absentTypes.get(candidate);
+		AbsentIds current;
+		AbsentIds updated;
+		do {
+			current = reference.get();
+			if (current.generation == id.generation) {
+				if (current.contains(id.value)) {
+					return;
+				}
+				updated = current.with(id.value);
+			}
+			else if (current.generation < id.generation) {
+				updated = new AbsentIds(id.generation, EMPTY).with(id.value);
+			}
+			else {
+				// the id was assigned in a previous generation
+				return;
+			}
+		} while (!reference.compareAndSet(current, updated));
+	}
+
+	/**
+	 * Get the id of the supplied annotation type, assigning a new one if it
+	 * does not have an id in the current generation.
+	 */
+	private Id getId(Class<? extends Annotation> annotationType) {
+		AtomicReference<Id> reference = this.ids.get(annotationType);
+		Id id = reference.get();
+		if (id != null && id.generation == (int) (this.nextId.get() >>> 32)) {
+			return id;
+		}
+		Id assigned = assignId();
+		return reference.compareAndSet(id, assigned) ? assigned : reference.get();
+	}
+
+	private Id assignId() {
+		while (true) {
+			long current = this.nextId.get();
+			int generation = (int) (current >>> 32);
+			int value = (int) current;
+			if (value < this.maxNumberOfIds) {
+				if (this.nextId.compareAndSet(current, current + 1)) {
+					return new Id(generation, value);
+				}
+			}
+			else if (this.nextId.compareAndSet(current, ((long) (generation + 1) << 32) | 1)) {
+				return new Id(generation + 1, 0);
+			}
+		}
+	}
+
+	private static class Id {
+
+		private final int generation;
+		private final int value;
+
+		Id(int generation, int value) {
+			this.generation = generation;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Immutable bit set of the ids of absent annotation types within a single
+	 * generation.
+	 */
+	private static class AbsentIds {
+
+		static final AbsentIds NONE = new AbsentIds(0, EMPTY);
+
+		private final int generation;
+		private final long[] bits;
+
+		AbsentIds(int generation, long[] bits) {
+			this.generation = generation;
+			this.bits = bits;
+		}
+
+		boolean contains(int id) {
+			int index = id >>> 6;
+			return index < this.bits.length && (this.bits[index] & (1L << id)) != 0;
+		}
+
+		AbsentIds with(int id) {
+			int index = id >>> 6;
+			long[] updated = new long[Math.max(this.bits.length, index + 1)];
+			System.arraycopy(this.bits, 0, updated, 0, this.bits.length);
+			updated[index] |= 1L << id;
+			return new AbsentIds(this.generation, updated);
+		}
+	}
+
+}
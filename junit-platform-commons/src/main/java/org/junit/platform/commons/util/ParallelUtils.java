@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+
+/**
+ * Collection of utilities for processing elements in parallel.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+@API(status = INTERNAL, since = "1.4")
+public final class ParallelUtils {
+
+	private ParallelUtils() {
+		/* no-op */
+	}
+
+	/**
+	 * Apply the supplied function to all elements of the supplied list using a
+	 * shared {@link ForkJoinPool} with at most the supplied parallelism.
+	 *
+	 * <p>The results are returned in the order of the supplied elements,
+	 * regardless of the order in which they were computed. The function is
+	 * applied using the context class loader of the calling thread. The first
+	 * exception thrown by the function is rethrown as is in the calling thread;
+	 * remaining elements are not processed in that case.
+	 *
+	 * <p>The shared pool is created on first use and its parallelism equals
+	 * the number of available processors, which therefore also bounds the
+	 * number of elements that are processed concurrently. If called from a
+	 * worker thread of the shared pool, the calling thread participates in
+	 * processing the elements.
+	 *
+	 * <p>If the list contains fewer than two elements or the parallelism is
+	 * less than two, the function is applied sequentially in the calling
+	 * thread.
+	 *
+	 * @param elements the elements to process; never {@code null}
+	 * @param function the function to apply; never {@code null}
+	 * @param parallelism the maximum number of elements to process
+	 * concurrently
+	 * @return the list of results; never {@code null}
+	 */
+	public static <T, R> List<R> mapInParallel(List<T> elements, Function<? super T, ? extends R> function,
+			int parallelism) {
+
+		Preconditions.notNull(elements, "elements must not be null");
+		Preconditions.notNull(function, "function must not be null");
+
+		if (elements.size() < 2 || parallelism < 2) {
+			return elements.stream().<R> map(function).collect(toList());
+		}
+		Object[] results = new Object[elements.size()];
+		AtomicInteger nextIndex = new AtomicInteger();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		List<MappingTask<T>> tasks = new ArrayList<>();
+		for (int i = 0; i < Math.min(parallelism, elements.size()); i++) {
+			tasks.add(new MappingTask<>(elements, function, results, nextIndex, failure, contextClassLoader));
+		}
+		ForkJoinPool pool = SharedPoolHolder.POOL;
+		if (ForkJoinTask.getPool() == pool) {
+			ForkJoinTask.invokeAll(tasks);
+		}
+		else {
+			pool.invoke(new InvokeAllTask(tasks));
+		}
+		// The tasks never complete exceptionally since ForkJoinTask would rethrow
+		// a reflectively created copy of an exception thrown in another thread.
+		if (failure.get() != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure.get());
+		}
+		@SuppressWarnings("unchecked")
+		List<R> resultList = (List<R>) Arrays.asList(results);
+		return resultList;
+	}
+
+	/**
+	 * Invokes the supplied tasks in a worker thread of the pool it is submitted
+	 * to.
+	 */
+	private static class InvokeAllTask extends RecursiveAction {
+
+		private final List<? extends ForkJoinTask<?>> tasks;
+
+		InvokeAllTask(List<? extends ForkJoinTask<?>> tasks) {
+			this.tasks = tasks;
+		}
+
+		@Override
+		protected void compute() {
+			invokeAll(this.tasks);
+		}
+	}
+
+	/**
+	 * Applies the function to the element at the next unclaimed index until all
+	 * elements have been processed, storing each result at its element's index.
+	 *
+	 * <p>The first exception thrown by the function is stored instead of being
+	 * thrown, and stops all tasks from claiming further elements.
+	 */
+	private static class MappingTask<T> extends RecursiveAction {
+
+		private final List<T> elements;
+		private final Function<? super T, ?> function;
+		private final Object[] results;
+		private final AtomicInteger nextIndex;
+		private final AtomicReference<Throwable> failure;
+		private final ClassLoader contextClassLoader;
+
+		MappingTask(List<T> elements, Function<? super T, ?> function, Object[] results, AtomicInteger nextIndex,
+				AtomicReference<Throwable> failure, ClassLoader contextClassLoader) {
+			this.elements = elements;
+			this.function = function;
+			this.results = results;
+			this.nextIndex = nextIndex;
+			this.failure = failure;
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		protected void compute() {
+			Thread currentThread = Thread.currentThread();
+			ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+			currentThread.setContextClassLoader(this.contextClassLoader);
+			try {
+				int index;
+				while (this.failure.get() == null && (index = this.nextIndex.getAndIncrement()) < this.results.length) {
+					this.results[index] = this.function.apply(this.elements.get(index));
+				}
+			}
+			catch (Throwable t) {
+				this.failure.compareAndSet(null, t);
+			}
+			finally {
+				currentThread.setContextClassLoader(originalClassLoader);
+			}
+		}
+	}
+
+	private static class SharedPoolHolder {
+
+		static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+			new WorkerThreadFactory(), null, false);
+	}
+
+	private static class WorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("junit-platform-parallel-" + this.threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
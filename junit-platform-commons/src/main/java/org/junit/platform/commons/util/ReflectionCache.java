@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache for immutable reflective metadata &mdash; for example, the methods
+ * and fields found in a class hierarchy or the annotations found on an
+ * {@link AnnotatedElement}.
+ *
+ * <p>Cached values are stored in a {@link ClassValue} attached to the class
+ * that <em>owns</em> the metadata: the class itself, the declaring class of a
+ * {@link Member}, or the declaring class of the executable of a
+ * {@link Parameter}. Entries therefore never keep a class or its class loader
+ * reachable on their own and are discarded together with the owning class.
+ * Metadata referring to types whose class loader is not visible from the
+ * owning class is not cached.
+ *
+ * <p>The number of entries per class is bounded by
+ * {@value #MAX_ENTRIES_PER_CLASS}; once that limit has been reached, values
+ * are computed without being cached.
+ *
+ * <p>Values must be immutable since they are shared between callers and
+ * threads.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+final class ReflectionCache {
+
+	static final int MAX_ENTRIES_PER_CLASS = 4096;
+
+	private static final ClassValue<ConcurrentMap<Key, Object>> cache = new ClassValue<ConcurrentMap<Key, Object>>() {
+
+		@Override
+		protected ConcurrentMap<Key, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private ReflectionCache() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the value cached for the supplied class under the supplied
+	 * {@code name} and {@code qualifiers}, computing and caching it if
+	 * necessary.
+	 *
+	 * <p>Qualifiers of type {@link Class} must be visible from the supplied
+	 * class for the value to be cached.
+	 */
+	static <T> T get(Class<?> clazz, String name, Supplier<T> supplier, Object... qualifiers) {
+		if (!areVisibleFrom(clazz, qualifiers)) {
+			return supplier.get();
+		}
+		return get(cache.get(clazz), new Key(name, qualifiers), supplier);
+	}
+
+	/**
+	 * Get the value cached for the supplied element under the supplied
+	 * {@code name} and {@code qualifiers}, computing and caching it if
+	 * necessary.
+	 *
+	 * <p>Values for elements other than classes, members, and parameters are
+	 * always computed and never cached.
+	 */
+	static <T> T getForElement(AnnotatedElement element, String name, Supplier<T> supplier, Object... qualifiers) {
+		Optional<Class<?>> owner = getOwner(element);
+		if (!owner.isPresent()) {
+			return supplier.get();
+		}
+		Object[] elementAndQualifiers = new Object[qualifiers.length + 1];
+		elementAndQualifiers[0] = element;
+		System.arraycopy(qualifiers, 0, elementAndQualifiers, 1, qualifiers.length);
+		return get(owner.get(), name, supplier, elementAndQualifiers);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T get(ConcurrentMap<Key, Object> entries, Key key, Supplier<T> supplier) {
+		Object value = entries.get(key);
+		if (value != null) {
+			return (T) value;
+		}
+		// Intentionally not using computeIfAbsent() since computing a value
+		// may recursively access the cache of the same class.
+		T computed = supplier.get();
+		if (computed == null || entries.size() >= MAX_ENTRIES_PER_CLASS) {
+			return computed;
+		}
+		Object previous = entries.putIfAbsent(key, computed);
+		return previous != null ? (T) previous : computed;
+	}
+
+	private static Optional<Class<?>> getOwner(AnnotatedElement element) {
+		if (element instanceof Class) {
+			return Optional.of((Class<?>) element);
+		}
+		if (element instanceof Member) {
+			return Optional.of(((Member) element).getDeclaringClass());
+		}
+		if (element instanceof Parameter) {
+			return Optional.of(((Parameter) element).getDeclaringExecutable().getDeclaringClass());
+		}
+		return Optional.empty();
+	}
+
+	private static boolean areVisibleFrom(Class<?> clazz, Object[] qualifiers) {
+		for (Object qualifier : qualifiers) {
+			if (qualifier instanceof Class && !isVisibleFrom((Class<?>) qualifier, clazz)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if the class loader of the supplied {@code type} is the class
+	 * loader of the supplied {@code clazz} or one of its ancestors, in which
+	 * case caching a reference to {@code type} in {@code clazz} cannot prevent
+	 * any class loader from being garbage collected.
+	 */
+	private static boolean isVisibleFrom(Class<?> type, Class<?> clazz) {
+		ClassLoader typeClassLoader = type.getClassLoader();
+		if (typeClassLoader == null) {
+			return true;
+		}
+		for (ClassLoader current = clazz.getClassLoader(); current != null; current = current.getParent()) {
+			if (current == typeClassLoader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class Key {
+
+		private final String name;
+		private final Object[] qualifiers;
+		private final int hashCode;
+
+		Key(String name, Object[] qualifiers) {
+			this.name = name;
+			this.qualifiers = qualifiers;
+			this.hashCode = 31 * name.hashCode() + Arrays.hashCode(qualifiers);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) obj;
+			return this.name.equals(that.name) && Arrays.equals(this.qualifiers, that.qualifiers);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+}
@@ -844,6 +844,20 @@ public final class ReflectionUtils {
 		return Collections.unmodifiableList(classpathScanner.scanForClassesInClasspathRoot(root, classFilter));
 	}
 
+	/**
+	 * Find all classes in the supplied classpath root, loading the classes
+	 * using up to the supplied number of threads.
+	 *
+	 * <p>If the supplied parallelism is greater than one, the classes are
+	 * sorted by name.
+	 *
+	 * @since 1.4
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(URI root, ClassFilter classFilter, int parallelism) {
+		return Collections.unmodifiableList(
+			classpathScanner.scanForClassesInClasspathRoot(root, classFilter, parallelism));
+	}
+
 	/**
 	 * @see org.junit.platform.commons.support.ReflectionSupport#findAllClassesInPackage(String, Predicate, Predicate)
 	 */
@@ -860,6 +874,21 @@ public final class ReflectionUtils {
 		return Collections.unmodifiableList(classpathScanner.scanForClassesInPackage(basePackageName, classFilter));
 	}
 
+	/**
+	 * Find all classes in the supplied package, scanning its classpath roots
+	 * and loading the classes using up to the supplied number of threads.
+	 *
+	 * <p>If the supplied parallelism is greater than one, the classes are
+	 * sorted by name.
+	 *
+	 * @since 1.4
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName, ClassFilter classFilter,
+			int parallelism) {
+		return Collections.unmodifiableList(
+			classpathScanner.scanForClassesInPackage(basePackageName, classFilter, parallelism));
+	}
+
 	/**
 	 * @since 1.1.1
 	 * @see org.junit.platform.commons.support.ReflectionSupport#findAllClassesInModule(String, Predicate, Predicate)
@@ -987,10 +1016,28 @@ public final class ReflectionUtils {
 		// @formatter:on
 	}
 
+	/**
+	 * Find all non-synthetic fields in the superclass and interface hierarchy.
+	 *
+	 * <p>The result is cached per class and traversal mode and must therefore
+	 * not be modified.
+	 */
 	private static List<Field> findAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return ReflectionCache.get(clazz, "fieldsInHierarchy",
+			() -> Collections.unmodifiableList(computeAllFieldsInHierarchy(clazz, traversalMode)), traversalMode);
+	}
+
+	/**
+	 * Find all non-synthetic fields in the superclass and interface hierarchy
+	 * without consulting the {@link ReflectionCache} for the supplied class;
+	 * the fields of its superclasses are still looked up in the cache.
+	 *
+	 * @since 1.4
+	 */
+	static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Field> localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1191,11 +1238,26 @@ public final class ReflectionUtils {
 	/**
 	 * Find all non-synthetic methods in the superclass and interface hierarchy,
 	 * excluding Object.
+	 *
+	 * <p>The result is cached per class and traversal mode and must therefore
+	 * not be modified.
 	 */
 	private static List<Method> findAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return ReflectionCache.get(clazz, "methodsInHierarchy",
+			() -> Collections.unmodifiableList(computeAllMethodsInHierarchy(clazz, traversalMode)), traversalMode);
+	}
+
+	/**
+	 * Find all non-synthetic methods in the superclass and interface hierarchy
+	 * without consulting the {@link ReflectionCache} for the supplied class;
+	 * the methods of its superclasses are still looked up in the cache.
+	 *
+	 * @since 1.4
+	 */
+	static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Method> localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reader for the central directory of ZIP files such as JAR files.
+ *
+ * <p>The central directory is memory-mapped and entry names are compared
+ * byte-wise against the requested prefix and suffix, so that a
+ * {@link String} is only created for matching entries. On Microsoft Windows,
+ * the central directory is read into a heap buffer instead since mapped
+ * files cannot be deleted until the mapping has been garbage collected.
+ *
+ * <p>ZIP64 archives and archives with leading data that is not accounted
+ * for in the central directory offsets are not supported; for those an
+ * {@link IOException} is thrown so that callers can fall back to
+ * {@link java.util.zip.ZipFile} or a ZIP file system.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+final class ZipCentralDirectory {
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+	private static final int ZIP64_MARKER_16 = 0xFFFF;
+	private static final long ZIP64_MARKER_32 = 0xFFFFFFFFL;
+
+	private static final boolean MAPPING_ENABLED = !System.getProperty("os.name", "").toLowerCase(
+		Locale.ROOT).contains("win");
+
+	private ZipCentralDirectory() {
+		/* no-op */
+	}
+
+	/**
+	 * Find the names of all entries in the supplied ZIP file that start with
+	 * the supplied prefix and end with the supplied suffix, in the order in
+	 * which they appear in the central directory.
+	 *
+	 * @param zipFile the ZIP file to read; never {@code null}
+	 * @param prefix the required prefix of entry names; never {@code null}
+	 * but potentially empty
+	 * @param suffix the required suffix of entry names; never {@code null}
+	 * but potentially empty
+	 * @return the list of matching entry names; never {@code null}
+	 * @throws IOException if the ZIP file cannot be read or is not supported
+	 */
+	static List<String> findEntryNames(Path zipFile, String prefix, String suffix) throws IOException {
+		byte[] prefixBytes = prefix.getBytes(UTF_8);
+		byte[] suffixBytes = suffix.getBytes(UTF_8);
+		try (FileChannel channel = FileChannel.open(zipFile, READ)) {
+			long fileSize = channel.size();
+			int tailSize = (int) Math.min(fileSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_LENGTH);
+			long tailOffset = fileSize - tailSize;
+			ByteBuffer tail = read(channel, tailOffset, tailSize);
+			int end = findEndOfCentralDirectory(tail);
+
+			int entryCount = tail.getShort(end + 10) & 0xFFFF;
+			long size = tail.getInt(end + 12) & 0xFFFFFFFFL;
+			long offset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+			if (entryCount == ZIP64_MARKER_16 || size == ZIP64_MARKER_32 || offset == ZIP64_MARKER_32) {
+				throw new IOException("ZIP64 archives are not supported: " + zipFile);
+			}
+			if (offset + size > tailOffset + end) {
+				throw new IOException("Invalid central directory in " + zipFile);
+			}
+
+			ByteBuffer centralDirectory = read(channel, offset, (int) size);
+			return findEntryNames(centralDirectory, entryCount, prefixBytes, suffixBytes);
+		}
+	}
+
+	private static List<String> findEntryNames(ByteBuffer centralDirectory, int entryCount, byte[] prefix,
+			byte[] suffix) throws IOException {
+
+		List<String> names = new ArrayList<>();
+		int limit = centralDirectory.limit();
+		int position = 0;
+		for (int i = 0; i < entryCount; i++) {
+			if (position + CENTRAL_DIRECTORY_HEADER_SIZE > limit
+					|| centralDirectory.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+				throw new IOException("Invalid central directory entry at offset " + position);
+			}
+			int nameLength = centralDirectory.getShort(position + 28) & 0xFFFF;
+			int extraLength = centralDirectory.getShort(position + 30) & 0xFFFF;
+			int commentLength = centralDirectory.getShort(position + 32) & 0xFFFF;
+			int nameStart = position + CENTRAL_DIRECTORY_HEADER_SIZE;
+			if (nameStart + nameLength > limit) {
+				throw new IOException("Invalid central directory entry at offset " + position);
+			}
+			if (matches(centralDirectory, nameStart, nameLength, prefix, suffix)) {
+				byte[] name = new byte[nameLength];
+				centralDirectory.position(nameStart);
+				centralDirectory.get(name);
+				names.add(new String(name, UTF_8));
+			}
+			position = nameStart + nameLength + extraLength + commentLength;
+		}
+		return names;
+	}
+
+	private static boolean matches(ByteBuffer buffer, int nameStart, int nameLength, byte[] prefix, byte[] suffix) {
+		if (nameLength < prefix.length + suffix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (buffer.get(nameStart + i) != prefix[i]) {
+				return false;
+			}
+		}
+		int suffixStart = nameStart + nameLength - suffix.length;
+		for (int i = 0; i < suffix.length; i++) {
+			if (buffer.get(suffixStart + i) != suffix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Search backwards for the end of central directory record, which is
+	 * followed by a variable length comment.
+	 */
+	private static int findEndOfCentralDirectory(ByteBuffer tail) throws IOException {
+		for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+			if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				int commentLength = tail.getShort(position + 20) & 0xFFFF;
+				if (position + END_OF_CENTRAL_DIRECTORY_SIZE + commentLength == tail.limit()) {
+					return position;
+				}
+			}
+		}
+		throw new IOException("End of central directory record not found");
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+		ByteBuffer buffer;
+		if (MAPPING_ENABLED) {
+			buffer = channel.map(MapMode.READ_ONLY, position, size);
+		}
+		else {
+			buffer = ByteBuffer.allocate(size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					throw new EOFException();
+				}
+			}
+			buffer.flip();
+		}
+		return buffer.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+}
@@ -10,15 +10,22 @@
 
 package org.junit.platform.engine;
 
-import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
@@ -31,6 +38,14 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * @implNote A {@code UniqueId} only stores its last segment and a reference
+ * to the {@code UniqueId} it was {@linkplain #append(Segment) appended to},
+ * so that all unique IDs of a hierarchy share the segments of their common
+ * ancestors. The hash code is computed on creation and the string
+ * representation is computed on first use and then cached. The serialized
+ * form still consists of the {@code uniqueIdFormat} and the list of all
+ * {@code segments}, so that it remains compatible with earlier versions.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -38,6 +53,10 @@ public class UniqueId implements Cloneable, Serializable {
 
 	private static final long serialVersionUID = 1L;
 
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("uniqueIdFormat", UniqueIdFormat.class),
+			new ObjectStreamField("segments", List.class) };
+
 	private static final String ENGINE_SEGMENT_TYPE = "engine";
 
 	/**
@@ -81,27 +100,62 @@ public class UniqueId implements Cloneable, Serializable {
 	}
 
 	private final UniqueIdFormat uniqueIdFormat;
-	private final List<Segment> segments;
+
+	/**
+	 * The {@code UniqueId} this {@code UniqueId} was appended to, or
+	 * {@code null} for a root.
+	 */
+	private final UniqueId parent;
+
+	private final Segment lastSegment;
+	private final int size;
+	private final int hashCode;
+
+	/**
+	 * Cached string representation; racy single-check idiom as in
+	 * {@link String#hashCode()}.
+	 */
+	private String cachedString;
+
+	/**
+	 * Fully initialized replacement of a deserialized instance.
+	 *
+	 * @see #readObject(ObjectInputStream)
+	 * @see #readResolve()
+	 */
+	private transient UniqueId deserialized;
 
 	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
+		this(uniqueIdFormat, null, segment);
+	}
+
+	private UniqueId(UniqueIdFormat uniqueIdFormat, UniqueId parent, Segment lastSegment) {
 		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = singletonList(segment);
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		this.size = (parent != null ? parent.size + 1 : 1);
+		// Same value as List.hashCode() of all segments
+		this.hashCode = 31 * (parent != null ? parent.hashCode : 1) + lastSegment.hashCode();
 	}
 
 	/**
-	 * Initialize a {@code UniqueId} instance.
-	 *
-	 * @implNote A defensive copy of the segment list is <b>not</b> created by
-	 * this implementation. All callers should immediately drop the reference
-	 * to the list instance that they pass into this constructor.
+	 * Create a {@code UniqueId} from the supplied non-empty list of segments.
 	 */
-	UniqueId(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
-		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = unmodifiableList(segments);
+	static UniqueId create(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+		Preconditions.notEmpty(segments, "segments must not be null or empty");
+		UniqueId uniqueId = null;
+		for (Segment segment : segments) {
+			uniqueId = new UniqueId(uniqueIdFormat, uniqueId, segment);
+		}
+		return uniqueId;
 	}
 
 	final Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+		UniqueId root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		return Optional.of(root.lastSegment);
 	}
 
 	/**
@@ -118,7 +172,13 @@ public class UniqueId implements Cloneable, Serializable {
 	 * {@code UniqueId}.
 	 */
 	public final List<Segment> getSegments() {
-		return this.segments;
+		Segment[] segments = new Segment[this.size];
+		UniqueId current = this;
+		for (int i = this.size - 1; i >= 0; i--) {
+			segments[i] = current.lastSegment;
+			current = current.parent;
+		}
+		return unmodifiableList(Arrays.asList(segments));
 	}
 
 	/**
@@ -152,9 +212,7 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public final UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments);
-		baseSegments.add(segment);
-		return new UniqueId(this.uniqueIdFormat, baseSegments);
+		return new UniqueId(this.uniqueIdFormat, this, segment);
 	}
 
 	/**
@@ -168,9 +226,29 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public boolean hasPrefix(UniqueId potentialPrefix) {
 		Preconditions.notNull(potentialPrefix, "potentialPrefix must not be null");
-		int size = this.segments.size();
-		int prefixSize = potentialPrefix.segments.size();
-		return size >= prefixSize && this.segments.subList(0, prefixSize).equals(potentialPrefix.segments);
+		if (this.size < potentialPrefix.size) {
+			return false;
+		}
+		UniqueId candidate = this;
+		while (candidate.size > potentialPrefix.size) {
+			candidate = candidate.parent;
+		}
+		return haveEqualSegments(candidate, potentialPrefix);
+	}
+
+	/**
+	 * Determine if the supplied unique IDs of the same size have equal
+	 * segments, stopping as soon as both share the same ancestor.
+	 */
+	private static boolean haveEqualSegments(UniqueId first, UniqueId second) {
+		while (first != second) {
+			if (first.hashCode != second.hashCode || !first.lastSegment.equals(second.lastSegment)) {
+				return false;
+			}
+			first = first.parent;
+			second = second.parent;
+		}
+		return true;
 	}
 
 	@Override
@@ -188,12 +266,12 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		return this.size == that.size && haveEqualSegments(this, that);
 	}
 
 	@Override
 	public int hashCode() {
-		return this.segments.hashCode();
+		return this.hashCode;
 	}
 
 	/**
@@ -202,7 +280,41 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@Override
 	public String toString() {
-		return this.uniqueIdFormat.format(this);
+		String toString = this.cachedString;
+		if (toString == null) {
+			toString = this.uniqueIdFormat.format(this);
+			this.cachedString = toString;
+		}
+		return toString;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("uniqueIdFormat", this.uniqueIdFormat);
+		fields.put("segments", unmodifiableList(new ArrayList<>(getSegments())));
+		out.writeFields();
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		Object uniqueIdFormat = fields.get("uniqueIdFormat", null);
+		Object segments = fields.get("segments", null);
+		if (!(uniqueIdFormat instanceof UniqueIdFormat) || !(segments instanceof List)
+				|| ((List<?>) segments).isEmpty()) {
+			throw new InvalidObjectException("uniqueIdFormat and non-empty segments required");
+		}
+		List<Segment> validatedSegments = new ArrayList<>();
+		for (Object segment : (List<?>) segments) {
+			if (!(segment instanceof Segment)) {
+				throw new InvalidObjectException("segments must only contain instances of Segment");
+			}
+			validatedSegments.add((Segment) segment);
+		}
+		this.deserialized = create((UniqueIdFormat) uniqueIdFormat, validatedSegments);
+	}
+
+	private Object readResolve() {
+		return this.deserialized;
 	}
 
 	/**
@@ -214,6 +326,26 @@ public class UniqueId implements Cloneable, Serializable {
 
 		private static final long serialVersionUID = 1L;
 
+		private static final int MAX_INTERNED_TYPES = 256;
+
+		/**
+		 * Segment types stem from a small vocabulary and are therefore shared
+		 * between all segments, up to {@value #MAX_INTERNED_TYPES} distinct types.
+		 */
+		private static final ConcurrentMap<String, String> internedTypes = new ConcurrentHashMap<>();
+
+		private static String internType(String type) {
+			String interned = internedTypes.get(type);
+			if (interned != null) {
+				return interned;
+			}
+			if (internedTypes.size() >= MAX_INTERNED_TYPES) {
+				return type;
+			}
+			interned = internedTypes.putIfAbsent(type, type);
+			return (interned != null ? interned : type);
+		}
+
 		private final String type;
 		private final String value;
 
@@ -227,7 +359,7 @@ public class UniqueId implements Cloneable, Serializable {
 		Segment(String type, String value) {
 			Preconditions.notBlank(type, "type must not be null or blank");
 			Preconditions.notBlank(value, "value must not be null or blank");
-			this.type = type;
+			this.type = internType(type);
 			this.value = value;
 		}
 
@@ -247,7 +379,8 @@ public class UniqueId implements Cloneable, Serializable {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.type, this.value);
+			// Same value as Objects.hash(type, value) without allocating an array
+			return 31 * (31 + this.type.hashCode()) + this.value.hashCode();
 		}
 
 		@Override
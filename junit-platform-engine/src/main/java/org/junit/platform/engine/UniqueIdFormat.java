@@ -10,7 +10,6 @@
 
 package org.junit.platform.engine;
 
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
@@ -93,7 +92,7 @@ class UniqueIdFormat implements Serializable {
 	UniqueId parse(String source) throws JUnitException {
 		String[] parts = source.split(String.valueOf(this.segmentDelimiter));
 		List<Segment> segments = Arrays.stream(parts).map(this::createSegment).collect(toList());
-		return new UniqueId(this, segments);
+		return UniqueId.create(this, segments);
 	}
 
 	private Segment createSegment(String segmentString) throws JUnitException {
@@ -123,11 +122,14 @@ class UniqueIdFormat implements Serializable {
 	 * Format and return the string representation of the supplied {@code UniqueId}.
 	 */
 	String format(UniqueId uniqueId) {
-		// @formatter:off
-		return uniqueId.getSegments().stream()
-			.map(this::describe)
-			.collect(joining(String.valueOf(this.segmentDelimiter)));
-		// @formatter:on
+		StringBuilder builder = new StringBuilder();
+		for (Segment segment : uniqueId.getSegments()) {
+			if (builder.length() > 0) {
+				builder.append(this.segmentDelimiter);
+			}
+			builder.append(describe(segment));
+		}
+		return builder.toString();
 	}
 
 	private String describe(Segment segment) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+/**
+ * {@link ParallelExecutionConfiguration} created by the
+ * {@link DefaultParallelExecutionConfigurationStrategy#ADAPTIVE ADAPTIVE}
+ * strategy.
+ *
+ * <p>The {@linkplain #getParallelism() parallelism} corresponds to the
+ * maximum parallelism so that enough worker threads are available; the number
+ * of tasks that are executed at the same time is adjusted at runtime by an
+ * {@link AdaptiveParallelismController}.
+ *
+ * @since 1.4
+ */
+class AdaptiveParallelExecutionConfiguration extends DefaultParallelExecutionConfiguration {
+
+	private final int minimumParallelism;
+	private final int initialParallelism;
+
+	AdaptiveParallelExecutionConfiguration(int minimumParallelism, int initialParallelism, int maximumParallelism,
+			int keepAliveSeconds) {
+		super(maximumParallelism, minimumParallelism, 256 + maximumParallelism, maximumParallelism,
+			keepAliveSeconds);
+		this.minimumParallelism = minimumParallelism;
+		this.initialParallelism = initialParallelism;
+	}
+
+	int getMinimumParallelism() {
+		return minimumParallelism;
+	}
+
+	int getInitialParallelism() {
+		return initialParallelism;
+	}
+
+	int getMaximumParallelism() {
+		return getParallelism();
+	}
+
+	AdaptiveParallelismController createController() {
+		return new AdaptiveParallelismController(minimumParallelism, initialParallelism, getMaximumParallelism());
+	}
+
+}
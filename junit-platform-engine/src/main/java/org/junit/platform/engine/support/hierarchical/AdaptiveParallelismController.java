@@ -0,0 +1,239 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Limits the number of test tasks that are executed at the same time and
+ * periodically adjusts that limit between a minimum and a maximum
+ * parallelism.
+ *
+ * <p>Threads acquire a permit before executing a task and release it while
+ * they are {@linkplain #whileBlocked(BlockingAction) blocked}, e.g. waiting
+ * for a resource lock or for child tasks to finish. Hence, blocked threads do
+ * not count towards the limit.
+ *
+ * <p>The limit is increased if tasks are waiting for a permit and the system
+ * load indicates that there are idle processors. It is decreased if the
+ * system is overloaded or the JVM spends a significant share of its time
+ * collecting garbage.
+ *
+ * @since 1.4
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveParallelismController implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	static final long SAMPLING_INTERVAL_MILLIS = 500;
+
+	/**
+	 * System load per processor above which parallelism is decreased.
+	 */
+	static final double SATURATED_LOAD = 1.0;
+
+	/**
+	 * System load per processor below which parallelism may be increased.
+	 */
+	static final double IDLE_LOAD = 0.75;
+
+	/**
+	 * Share of time spent collecting garbage above which parallelism is
+	 * decreased.
+	 */
+	static final double GC_PRESSURE = 0.1;
+
+	private final int minimumParallelism;
+	private final int maximumParallelism;
+	private final AdjustableSemaphore permits;
+	private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+	private final AtomicInteger blockedThreads = new AtomicInteger();
+	private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+	private final int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+	private volatile int targetParallelism;
+	private ScheduledExecutorService sampler;
+	private long lastSampleTime;
+	private long lastGarbageCollectionTime;
+
+	AdaptiveParallelismController(int minimumParallelism, int initialParallelism, int maximumParallelism) {
+		this.minimumParallelism = minimumParallelism;
+		this.maximumParallelism = maximumParallelism;
+		this.targetParallelism = initialParallelism;
+		this.permits = new AdjustableSemaphore(initialParallelism);
+	}
+
+	/**
+	 * Start sampling system metrics and adjusting the parallelism
+	 * periodically.
+	 */
+	void start() {
+		lastSampleTime = System.nanoTime();
+		lastGarbageCollectionTime = getTotalGarbageCollectionTime();
+		sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-adaptive-parallelism");
+			thread.setDaemon(true);
+			return thread;
+		});
+		sampler.scheduleWithFixedDelay(this::adjust, SAMPLING_INTERVAL_MILLIS, SAMPLING_INTERVAL_MILLIS,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void close() {
+		if (sampler != null) {
+			sampler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Acquire a permit for the current thread unless it already holds one.
+	 *
+	 * @return whether a permit was acquired and must be
+	 * {@linkplain #releasePermit() released}
+	 */
+	boolean acquirePermit() throws InterruptedException {
+		if (holdsPermit.get()) {
+			return false;
+		}
+		permits.acquire();
+		holdsPermit.set(true);
+		return true;
+	}
+
+	void releasePermit() {
+		holdsPermit.set(false);
+		permits.release();
+	}
+
+	/**
+	 * Perform the supplied blocking action after temporarily releasing the
+	 * permit held by the current thread, if any, so that other tasks may be
+	 * executed in the meantime.
+	 */
+	<T> T whileBlocked(BlockingAction<T> action) throws InterruptedException {
+		blockedThreads.incrementAndGet();
+		try {
+			if (!holdsPermit.get()) {
+				return action.run();
+			}
+			releasePermit();
+			try {
+				return action.run();
+			}
+			finally {
+				permits.acquireUninterruptibly();
+				holdsPermit.set(true);
+			}
+		}
+		finally {
+			blockedThreads.decrementAndGet();
+		}
+	}
+
+	int getTargetParallelism() {
+		return targetParallelism;
+	}
+
+	void adjust() {
+		long now = System.nanoTime();
+		long garbageCollectionTime = getTotalGarbageCollectionTime();
+		long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(now - lastSampleTime));
+		double garbageCollectionRatio = (double) (garbageCollectionTime - lastGarbageCollectionTime) / elapsedMillis;
+		lastSampleTime = now;
+		lastGarbageCollectionTime = garbageCollectionTime;
+
+		double systemLoad = operatingSystem.getSystemLoadAverage();
+		double loadPerProcessor = systemLoad < 0 ? systemLoad : systemLoad / availableProcessors;
+		adjustTo(computeTargetParallelism(targetParallelism, loadPerProcessor, permits.getQueueLength(),
+			blockedThreads.get(), garbageCollectionRatio));
+	}
+
+	/**
+	 * Compute the new target parallelism based on the supplied metrics.
+	 *
+	 * @param current the current target parallelism
+	 * @param loadPerProcessor the system load average divided by the number of
+	 * available processors; negative if unavailable
+	 * @param waitingThreads the number of threads waiting for a permit
+	 * @param blockedThreads the number of threads that are blocked and do not
+	 * hold a permit
+	 * @param garbageCollectionRatio the share of time spent collecting garbage
+	 * since the last sample
+	 */
+	int computeTargetParallelism(int current, double loadPerProcessor, int waitingThreads, int blockedThreads,
+			double garbageCollectionRatio) {
+		int target = current;
+		if (garbageCollectionRatio > GC_PRESSURE || loadPerProcessor > SATURATED_LOAD) {
+			target = current - 1;
+		}
+		else if (waitingThreads > 0 && loadPerProcessor < IDLE_LOAD) {
+			// blocked threads indicate waiting for I/O or other tasks, so allow
+			// more than one additional task to make up for them
+			target = current + Math.max(1, Math.min(waitingThreads, blockedThreads));
+		}
+		return Math.max(minimumParallelism, Math.min(maximumParallelism, target));
+	}
+
+	void adjustTo(int newTargetParallelism) {
+		int delta = newTargetParallelism - targetParallelism;
+		if (delta > 0) {
+			permits.release(delta);
+		}
+		else if (delta < 0) {
+			permits.reducePermits(-delta);
+		}
+		if (delta != 0) {
+			int oldTargetParallelism = targetParallelism;
+			targetParallelism = newTargetParallelism;
+			logger.debug(() -> String.format("Adjusted parallelism from %d to %d", oldTargetParallelism,
+				newTargetParallelism));
+		}
+	}
+
+	private static long getTotalGarbageCollectionTime() {
+		long total = 0;
+		for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			total += Math.max(0, garbageCollector.getCollectionTime());
+		}
+		return total;
+	}
+
+	@FunctionalInterface
+	interface BlockingAction<T> {
+		T run() throws InterruptedException;
+	}
+
+	@SuppressWarnings("serial")
+	private static class AdjustableSemaphore extends Semaphore {
+
+		AdjustableSemaphore(int permits) {
+			super(permits);
+		}
+
+		@Override
+		protected void reducePermits(int reduction) {
+			super.reducePermits(reduction);
+		}
+	}
+
+}
@@ -10,8 +10,12 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.unmodifiableSet;
+
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
@@ -20,9 +24,11 @@ import java.util.concurrent.locks.Lock;
  */
 class CompositeLock implements ResourceLock {
 
+	private final Set<ExclusiveResource> resources;
 	private final List<Lock> locks;
 
-	CompositeLock(List<Lock> locks) {
+	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks) {
+		this.resources = unmodifiableSet(new LinkedHashSet<>(resources));
 		this.locks = locks;
 	}
 
@@ -31,6 +37,11 @@ class CompositeLock implements ResourceLock {
 		return locks;
 	}
 
+	@Override
+	public Set<ExclusiveResource> getResources() {
+		return resources;
+	}
+
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
 		ForkJoinPool.managedBlock(new CompositeLockManagedBlocker());
@@ -51,6 +62,19 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		List<Lock> acquiredLocks = new ArrayList<>(locks.size());
+		for (Lock lock : locks) {
+			if (!lock.tryLock()) {
+				release(acquiredLocks);
+				return false;
+			}
+			acquiredLocks.add(lock);
+		}
+		return true;
+	}
+
 	@Override
 	public void release() {
 		release(locks);
@@ -69,6 +69,43 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	},
 
+	/**
+	 * Starts with a parallelism equal to the number of available
+	 * processors/cores and adjusts it at runtime between the
+	 * {@value CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME} and
+	 * {@value CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters based on the system load, the number of blocked and waiting
+	 * tasks, and the time spent collecting garbage.
+	 *
+	 * <p>Parallelism is only adjusted at runtime by the
+	 * {@link ForkJoinPoolHierarchicalTestExecutorService}; other executor
+	 * services use the maximum parallelism.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(1);
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 2 * availableProcessors));
+
+			Preconditions.condition(minParallelism > 0,
+				() -> String.format("Value '%d' specified via configuration parameter '%s' must be greater than 0",
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> String.format("Value '%d' specified via configuration parameter '%s' must be at least %d",
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			int initialParallelism = Math.max(minParallelism, Math.min(maxParallelism, availableProcessors));
+			return new AdaptiveParallelExecutionConfiguration(minParallelism, initialParallelism, maxParallelism,
+				KEEP_ALIVE_SECONDS);
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -98,8 +135,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -123,6 +160,31 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = "dynamic.factor";
 
+	/**
+	 * Property name used to determine the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min.parallelism";
+
+	/**
+	 * Property name used to determine the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer that is not less than the minimum
+	 * parallelism; defaults to twice the number of available processors/cores.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max.parallelism";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Default implementations of {@link TestTaskScheduler}.
+ *
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public enum DefaultTestTaskScheduler implements TestTaskScheduler {
+
+	/**
+	 * Submits tasks in declaration order.
+	 */
+	DECLARATION_ORDER {
+		@Override
+		public <T extends TestTask> List<T> schedule(List<T> testTasks) {
+			return testTasks;
+		}
+	},
+
+	/**
+	 * Orders tasks based on the {@linkplain ResourceLock#getResources()
+	 * exclusive resources} guarded by their resource locks.
+	 *
+	 * <p>Tasks that require resources are grouped into consecutive batches of
+	 * tasks whose resources do not conflict with each other, i.e. that can
+	 * be executed at the same time. Tasks that require the same resource in
+	 * {@link LockMode#READ_WRITE READ_WRITE} mode thus end up in different
+	 * batches and are spread out over time. Tasks that don't require any
+	 * resources are distributed evenly between the batches. Within each
+	 * batch, declaration order is preserved.
+	 */
+	RESOURCE_AWARE {
+		@Override
+		public <T extends TestTask> List<T> schedule(List<T> testTasks) {
+			List<T> unconstrainedTasks = new ArrayList<>();
+			List<T> constrainedTasks = new ArrayList<>();
+			for (T testTask : testTasks) {
+				if (testTask.getResourceLock().getResources().isEmpty()) {
+					unconstrainedTasks.add(testTask);
+				}
+				else {
+					constrainedTasks.add(testTask);
+				}
+			}
+			if (constrainedTasks.size() < 2) {
+				return testTasks;
+			}
+			List<List<T>> batches = toNonConflictingBatches(constrainedTasks);
+			return interleave(batches, unconstrainedTasks, testTasks.size());
+		}
+	};
+
+	/**
+	 * Property name used to determine the desired scheduler.
+	 *
+	 * <p>Value must be one of {@code declaration_order},
+	 * {@code resource_aware}, or {@code longest_first}; defaults to
+	 * {@code declaration_order}.
+	 *
+	 * <p>The {@code longest_first} scheduler records the execution duration of
+	 * each test and container in the file configured via the
+	 * {@value #CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME} configuration
+	 * parameter and submits the tasks that took the longest during the
+	 * previous run first.
+	 */
+	public static final String CONFIG_SCHEDULER_PROPERTY_NAME = "scheduler";
+
+	/**
+	 * Property name used to specify the path of the file used by the
+	 * {@code longest_first} scheduler to store execution durations.
+	 *
+	 * <p>Defaults to {@value #DEFAULT_DURATIONS_FILE}, relative to the current
+	 * working directory.
+	 */
+	public static final String CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME = "scheduler.durations.file";
+
+	private static final String DEFAULT_DURATIONS_FILE = "junit-test-durations.properties";
+
+	static TestTaskScheduler getScheduler(ConfigurationParameters configurationParameters) {
+		String name = configurationParameters.get(CONFIG_SCHEDULER_PROPERTY_NAME).orElse("declaration_order").trim();
+		if ("longest_first".equalsIgnoreCase(name)) {
+			String file = configurationParameters.get(CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME).orElse(
+				DEFAULT_DURATIONS_FILE);
+			return new LongestFirstTestTaskScheduler(TestDurationStore.load(Paths.get(file.trim())));
+		}
+		return valueOf(name.toUpperCase());
+	}
+
+	private static <T extends TestTask> List<List<T>> toNonConflictingBatches(List<T> tasks) {
+		List<T> remainingTasks = new ArrayList<>(tasks);
+		List<List<T>> batches = new ArrayList<>();
+		while (!remainingTasks.isEmpty()) {
+			List<T> batch = new ArrayList<>();
+			Map<String, LockMode> lockModesByKey = new HashMap<>();
+			for (Iterator<T> iterator = remainingTasks.iterator(); iterator.hasNext();) {
+				T task = iterator.next();
+				Set<ExclusiveResource> resources = task.getResourceLock().getResources();
+				if (isCompatible(lockModesByKey, resources)) {
+					batch.add(task);
+					resources.forEach(resource -> lockModesByKey.merge(resource.getKey(), resource.getLockMode(),
+						(a, b) -> a == READ_WRITE ? a : b));
+					iterator.remove();
+				}
+			}
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	private static boolean isCompatible(Map<String, LockMode> lockModesByKey, Set<ExclusiveResource> resources) {
+		for (ExclusiveResource resource : resources) {
+			LockMode lockMode = lockModesByKey.get(resource.getKey());
+			if (lockMode != null && (lockMode == READ_WRITE || resource.getLockMode() == READ_WRITE)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static <T> List<T> interleave(List<List<T>> batches, List<T> unconstrainedTasks, int size) {
+		List<T> result = new ArrayList<>(size);
+		int unconstrainedTasksPerBatch = (unconstrainedTasks.size() + batches.size() - 1) / batches.size();
+		Iterator<T> unconstrained = unconstrainedTasks.iterator();
+		for (List<T> batch : batches) {
+			result.addAll(batch);
+			for (int i = 0; i < unconstrainedTasksPerBatch && unconstrained.hasNext(); i++) {
+				result.add(unconstrained.next());
+			}
+		}
+		return result;
+	}
+
+}
@@ -16,9 +16,12 @@ import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinTask;
@@ -26,13 +29,17 @@ import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
@@ -40,32 +47,118 @@ import org.junit.platform.engine.ConfigurationParameters;
  * {@linkplain HierarchicalTestExecutorService executor service} that executes
  * {@linkplain TestTask test tasks} with the configured parallelism.
  *
+ * <p>By default, a worker thread that executes a task whose
+ * {@linkplain TestTask#getResourceLock() resource lock} is currently held by
+ * another task blocks until the lock becomes available. If the
+ * {@value #CONFIG_LOCK_ACQUISITION_PROPERTY_NAME} configuration parameter is
+ * set to {@code deferred}, the worker thread instead executes other queued
+ * tasks while it waits and only blocks if no other work is available. Tasks
+ * are only executed that way if the waiting thread does not hold any
+ * resource lock itself; otherwise, they are left for other worker threads
+ * since resource locks are reentrant and would not prevent a task from
+ * entering the critical section of another task.
+ *
+ * <p>Sibling tasks that may be executed concurrently are forked in the order
+ * determined by the configured {@link TestTaskScheduler}.
+ *
+ * <p>If the {@link DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ * ADAPTIVE} configuration strategy is used, the number of tasks that are
+ * executed at the same time is adjusted at runtime. Worker threads that are
+ * blocked waiting for resource locks, child tasks, or dynamic tests do not
+ * count towards that number.
+ *
  * @see ForkJoinPool
  * @see DefaultParallelExecutionConfigurationStrategy
+ * @see DefaultTestTaskScheduler
  * @since 1.3
  */
 @API(status = EXPERIMENTAL, since = "1.3")
 public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
 
+	/**
+	 * Property name used to determine how resource locks are acquired.
+	 *
+	 * <p>Value must be either {@code blocking} or {@code deferred}; defaults to
+	 * {@code blocking}.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_LOCK_ACQUISITION_PROPERTY_NAME = "lock.acquisition";
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkJoinPoolHierarchicalTestExecutorService.class);
+
 	private final ForkJoinPool forkJoinPool;
 	private final int parallelism;
+	private final boolean deferLockAcquisition;
+	private final TestTaskScheduler scheduler;
+	private final LongestFirstTestTaskScheduler durationRecordingScheduler;
+	private final LongAdder acquiredLockCount = new LongAdder();
+	private final LongAdder contendedLockCount = new LongAdder();
+	private final ThreadLocal<Deque<ResourceLock>> heldResourceLocks = ThreadLocal.withInitial(ArrayDeque::new);
+	private final AdaptiveParallelismController adaptiveParallelismController;
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
 	 * the supplied {@link ConfigurationParameters}.
 	 *
+	 * <p>The {@link TestTaskScheduler} is determined via the
+	 * {@value DefaultTestTaskScheduler#CONFIG_SCHEDULER_PROPERTY_NAME}
+	 * configuration parameter.
+	 *
 	 * @see DefaultParallelExecutionConfigurationStrategy
+	 * @see DefaultTestTaskScheduler
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		forkJoinPool = createForkJoinPool(configurationParameters);
+		this(configurationParameters, DefaultTestTaskScheduler.getScheduler(configurationParameters));
+	}
+
+	/**
+	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
+	 * the supplied {@link ConfigurationParameters} that uses the supplied
+	 * {@link TestTaskScheduler} to order concurrent sibling tasks.
+	 *
+	 * @see DefaultParallelExecutionConfigurationStrategy
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters,
+			TestTaskScheduler scheduler) {
+		this.scheduler = Preconditions.notNull(scheduler, "scheduler must not be null");
+		this.durationRecordingScheduler = scheduler instanceof LongestFirstTestTaskScheduler
+				? (LongestFirstTestTaskScheduler) scheduler
+				: null;
+		ParallelExecutionConfiguration configuration = createConfiguration(configurationParameters);
+		forkJoinPool = createForkJoinPool(configuration);
 		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		deferLockAcquisition = isDeferredLockAcquisition(configurationParameters);
+		if (configuration instanceof AdaptiveParallelExecutionConfiguration) {
+			adaptiveParallelismController = ((AdaptiveParallelExecutionConfiguration) configuration).createController();
+			adaptiveParallelismController.start();
+			logger.config(() -> "Using ForkJoinPool with adaptive parallelism of at most " + parallelism);
+		}
+		else {
+			adaptiveParallelismController = null;
+			logger.config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		}
+	}
+
+	private static boolean isDeferredLockAcquisition(ConfigurationParameters configurationParameters) {
+		String value = configurationParameters.get(CONFIG_LOCK_ACQUISITION_PROPERTY_NAME).orElse("blocking").trim();
+		Preconditions.condition("blocking".equalsIgnoreCase(value) || "deferred".equalsIgnoreCase(value),
+			() -> String.format("Value '%s' specified via configuration parameter '%s' must be one of %s", value,
+				CONFIG_LOCK_ACQUISITION_PROPERTY_NAME, "[blocking, deferred]"));
+		return "deferred".equalsIgnoreCase(value);
 	}
 
-	private ForkJoinPool createForkJoinPool(ConfigurationParameters configurationParameters) {
+	private static ParallelExecutionConfiguration createConfiguration(
+			ConfigurationParameters configurationParameters) {
 		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
 			configurationParameters);
-		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configurationParameters);
+		return strategy.createConfiguration(configurationParameters);
+	}
+
+	private ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration) {
 		ForkJoinWorkerThreadFactory threadFactory = new WorkerThreadFactory();
 		return Try.call(() -> {
 			// Try to use constructor available in Java >= 9
@@ -99,7 +192,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		// longer, parallelism will drop. However, that only happens if the enclosing test
 		// task is the only one remaining which should rarely be the case.
 		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
-			return exclusiveTask.fork();
+			exclusiveTask.fork();
+			return new BlockingAwareFuture(exclusiveTask);
 		}
 		exclusiveTask.compute();
 		return completedFuture(null);
@@ -112,7 +206,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	@Override
 	public void invokeAll(List<? extends TestTask> tasks) {
 		if (tasks.size() == 1) {
-			new ExclusiveTask(tasks.get(0)).compute();
+			new ExclusiveTask(tasks.get(0), true).compute();
 			return;
 		}
 		Deque<ExclusiveTask> nonConcurrentTasks = new LinkedList<>();
@@ -124,16 +218,30 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	private void forkConcurrentTasks(List<? extends TestTask> tasks, Deque<ExclusiveTask> nonConcurrentTasks,
 			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
+		List<TestTask> concurrentTasks = new ArrayList<>(tasks.size());
 		for (TestTask testTask : tasks) {
-			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 			if (testTask.getExecutionMode() == CONCURRENT) {
-				exclusiveTask.fork();
-				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+				concurrentTasks.add(testTask);
 			}
 			else {
-				nonConcurrentTasks.add(exclusiveTask);
+				nonConcurrentTasks.add(new ExclusiveTask(testTask, true));
 			}
 		}
+		for (TestTask testTask : schedule(concurrentTasks)) {
+			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask, true);
+			exclusiveTask.fork();
+			concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+		}
+	}
+
+	private List<TestTask> schedule(List<TestTask> concurrentTasks) {
+		if (concurrentTasks.size() < 2) {
+			return concurrentTasks;
+		}
+		List<TestTask> scheduledTasks = scheduler.schedule(concurrentTasks);
+		Preconditions.condition(scheduledTasks.size() == concurrentTasks.size(),
+			() -> "TestTaskScheduler must return a permutation of the supplied tasks: " + scheduler);
+		return scheduledTasks;
 	}
 
 	private void executeNonConcurrentTasks(Deque<ExclusiveTask> nonConcurrentTasks) {
@@ -144,37 +252,283 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	private void joinConcurrentTasksInReverseOrderToEnableWorkStealing(
 			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
-		for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
-			forkedTask.join();
+		if (adaptiveParallelismController == null) {
+			for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
+				forkedTask.join();
+			}
+			return;
+		}
+		try {
+			adaptiveParallelismController.whileBlocked(() -> {
+				for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
+					forkedTask.join();
+				}
+				return null;
+			});
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
 		}
 	}
 
+	private <T> T whileBlocked(AdaptiveParallelismController.BlockingAction<T> action) throws InterruptedException {
+		if (adaptiveParallelismController == null) {
+			return action.run();
+		}
+		return adaptiveParallelismController.whileBlocked(action);
+	}
+
 	@Override
 	public void close() {
 		forkJoinPool.shutdownNow();
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.close();
+		}
+		if (durationRecordingScheduler != null) {
+			durationRecordingScheduler.getDurationStore().save();
+		}
+		logger.config(() -> String.format("Acquired %d resource locks of which %d were contended",
+			getAcquiredLockCount(), getContendedLockCount()));
+	}
+
+	/**
+	 * Get the number of times a resource lock has been acquired by this
+	 * service, not counting tasks that do not require any locks.
+	 */
+	long getAcquiredLockCount() {
+		return acquiredLockCount.sum();
+	}
+
+	/**
+	 * Get the number of tasks whose resource lock could not be acquired right
+	 * away because it was held by another task.
+	 *
+	 * <p>Each task is counted at most once, regardless of how often its
+	 * acquisition has been attempted.
+	 */
+	long getContendedLockCount() {
+		return contendedLockCount.sum();
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
 	@SuppressWarnings("serial")
-	static class ExclusiveTask extends RecursiveAction {
+	class ExclusiveTask extends RecursiveAction {
 
 		private final TestTask testTask;
+		private final boolean scheduled;
+		private boolean lockAcquired;
+		private boolean contended;
 
 		ExclusiveTask(TestTask testTask) {
+			this(testTask, false);
+		}
+
+		/**
+		 * @param scheduled whether the task is one of the siblings passed to
+		 * {@link #invokeAll(List)}, i.e. whether its duration is relevant for
+		 * scheduling
+		 */
+		ExclusiveTask(TestTask testTask, boolean scheduled) {
 			this.testTask = testTask;
+			this.scheduled = scheduled;
 		}
 
-		@SuppressWarnings("try")
 		@Override
 		public void compute() {
-			try (ResourceLock lock = testTask.getResourceLock().acquire()) {
-				testTask.execute();
+			if (adaptiveParallelismController == null) {
+				computeWithResourceLock();
+				return;
+			}
+			boolean permitAcquired = false;
+			try {
+				permitAcquired = adaptiveParallelismController.acquirePermit();
+				computeWithResourceLock();
+			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+			finally {
+				if (permitAcquired) {
+					adaptiveParallelismController.releasePermit();
+				}
+			}
+		}
+
+		@SuppressWarnings("try")
+		private void computeWithResourceLock() {
+			try (ResourceLock lock = acquireResourceLock()) {
+				executeHolding(lock);
 			}
 			catch (InterruptedException e) {
 				ExceptionUtils.throwAsUncheckedException(e);
 			}
 		}
 
+		private void executeHolding(ResourceLock lock) {
+			if (lock == NopLock.INSTANCE) {
+				execute();
+				return;
+			}
+			Deque<ResourceLock> locks = heldResourceLocks.get();
+			locks.push(lock);
+			try {
+				execute();
+			}
+			finally {
+				locks.pop();
+			}
+		}
+
+		private void execute() {
+			if (durationRecordingScheduler == null || !scheduled) {
+				testTask.execute();
+				return;
+			}
+			long startTime = System.nanoTime();
+			testTask.execute();
+			long durationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			durationRecordingScheduler.recordDuration(testTask, durationInMillis);
+		}
+
+		private ResourceLock acquireResourceLock() throws InterruptedException {
+			ResourceLock lock = testTask.getResourceLock();
+			if (lockAcquired || lock == NopLock.INSTANCE) {
+				return lock;
+			}
+			if (!lock.tryAcquire()) {
+				recordContention();
+				if (deferLockAcquisition) {
+					acquireWhileExecutingOtherTasks(lock);
+				}
+				else {
+					whileBlocked(lock::acquire);
+				}
+			}
+			acquiredLockCount.increment();
+			return lock;
+		}
+
+		private boolean tryAcquireResourceLock() throws InterruptedException {
+			ResourceLock lock = testTask.getResourceLock();
+			if (lock == NopLock.INSTANCE) {
+				return true;
+			}
+			lockAcquired = lock.tryAcquire();
+			if (lockAcquired) {
+				acquiredLockCount.increment();
+			}
+			else {
+				recordContention();
+			}
+			return lockAcquired;
+		}
+
+		private void recordContention() {
+			if (!contended) {
+				contended = true;
+				contendedLockCount.increment();
+			}
+		}
+
+		/**
+		 * Execute other queued tasks until the supplied lock becomes
+		 * available. Tasks whose own locks are currently unavailable are
+		 * set aside and forked again before this method returns or blocks,
+		 * so that they can be picked up by any worker thread. The same
+		 * applies to all tasks if the current thread already holds a
+		 * resource lock. If no other tasks are available, this method blocks
+		 * until the lock has been acquired.
+		 */
+		private void acquireWhileExecutingOtherTasks(ResourceLock lock) throws InterruptedException {
+			Deque<ForkJoinTask<?>> deferredTasks = new ArrayDeque<>();
+			try {
+				ForkJoinTask<?> task;
+				while ((task = pollTask()) != null) {
+					if (!tryPrepareForExecutionInCurrentThread(task)) {
+						deferredTasks.push(task);
+					}
+					else {
+						task.quietlyInvoke();
+					}
+					if (lock.tryAcquire()) {
+						return;
+					}
+				}
+			}
+			finally {
+				// fork in reverse order of polling to restore the original queue order
+				deferredTasks.forEach(ForkJoinTask::fork);
+			}
+			whileBlocked(lock::acquire);
+		}
+
+		/**
+		 * Determine whether the supplied task, which has been polled while
+		 * waiting for a lock, may be executed by the current thread and, if
+		 * so, acquire its resource lock.
+		 *
+		 * <p>Since resource locks are reentrant, a thread that already holds
+		 * one must not execute unrelated tasks: the task or one of its
+		 * descendants would acquire the same lock again without waiting and
+		 * run inside the critical section of the task further down the
+		 * stack.
+		 */
+		private boolean tryPrepareForExecutionInCurrentThread(ForkJoinTask<?> task) throws InterruptedException {
+			if (!heldResourceLocks.get().isEmpty()) {
+				return false;
+			}
+			return !(task instanceof ExclusiveTask) || ((ExclusiveTask) task).tryAcquireResourceLock();
+		}
+
+	}
+
+	/**
+	 * Future for a forked task that is joined cooperatively so that the
+	 * waiting worker thread executes the forked task, or other tasks, in the
+	 * meantime instead of blocking unnoticed by the pool. In addition, the
+	 * permit of the waiting thread is released while it is blocked so that
+	 * the forked task may be executed even if the
+	 * {@linkplain AdaptiveParallelismController target parallelism} has been
+	 * reached.
+	 */
+	private class BlockingAwareFuture implements Future<Void> {
+
+		private final ForkJoinTask<Void> task;
+
+		BlockingAwareFuture(ForkJoinTask<Void> task) {
+			this.task = task;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return task.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return task.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return task.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			if (!task.isDone()) {
+				whileBlocked(() -> {
+					task.quietlyJoin();
+					return null;
+				});
+			}
+			return task.get();
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			return task.get(timeout, unit);
+		}
 	}
 
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
@@ -25,6 +25,7 @@ import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
  * @see HierarchicalTestEngine#createExecutorService(ExecutionRequest)
  * @see SameThreadHierarchicalTestExecutorService
  * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see VirtualThreadHierarchicalTestExecutorService
  * @since 1.3
  */
 @API(status = EXPERIMENTAL, since = "1.3")
@@ -44,6 +45,11 @@ public interface HierarchicalTestExecutorService extends AutoCloseable {
 	 * execution unless they execute all tests in the same thread which
 	 * upholds the same guarantees.
 	 *
+	 * <p>Implementations that execute tasks in a pool of worker threads should
+	 * return futures that do not block a waiting worker thread unnoticed, for
+	 * example, by executing the awaited task or other pending tasks while
+	 * waiting.
+	 *
 	 * @param testTask the test task to be executed
 	 * @return a future that the caller can use to wait for the task's execution
 	 * to be finished
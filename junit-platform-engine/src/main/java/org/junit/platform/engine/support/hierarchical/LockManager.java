@@ -17,9 +17,11 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.L
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -34,13 +36,35 @@ class LockManager {
 		ExclusiveResource::getLockMode);
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final Map<Set<ExclusiveResource>, ResourceLock> resourceLocksByResources = new ConcurrentHashMap<>();
 
+	/**
+	 * Get the {@link ResourceLock} for the supplied resources.
+	 *
+	 * <p>Resource locks are interned: the same instance is returned for equal
+	 * sets of resources so that common combinations, e.g. a single
+	 * {@code READ} lock for system properties, are only computed once.
+	 */
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
-		List<Lock> locks = getDistinctSortedLocks(resources);
-		return toResourceLock(locks);
+		if (resources.isEmpty()) {
+			return NopLock.INSTANCE;
+		}
+		Set<ExclusiveResource> key = resources instanceof Set ? (Set<ExclusiveResource>) resources
+				: new HashSet<>(resources);
+		ResourceLock resourceLock = resourceLocksByResources.get(key);
+		if (resourceLock == null) {
+			resourceLock = resourceLocksByResources.computeIfAbsent(new HashSet<>(key),
+				distinctResources -> toResourceLock(getDistinctSortedResources(distinctResources)));
+		}
+		return resourceLock;
 	}
 
-	private List<Lock> getDistinctSortedLocks(Collection<ExclusiveResource> resources) {
+	// for tests only
+	int getResourceLockCount() {
+		return resourceLocksByResources.size();
+	}
+
+	private List<ExclusiveResource> getDistinctSortedResources(Collection<ExclusiveResource> resources) {
 		// @formatter:off
 		Map<String, List<ExclusiveResource>> resourcesByKey = resources.stream()
 				.distinct()
@@ -49,24 +73,25 @@ class LockManager {
 
 		return resourcesByKey.values().stream()
 				.map(resourcesWithSameKey -> resourcesWithSameKey.get(0))
-				.map(resource -> {
-					ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(),
-							key -> new ReentrantReadWriteLock());
-					return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
-				})
 				.collect(toList());
 		// @formatter:on
 	}
 
-	private ResourceLock toResourceLock(List<Lock> locks) {
-		int size = locks.size();
+	private Lock toLock(ExclusiveResource resource) {
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> new ReentrantReadWriteLock());
+		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
+	}
+
+	private ResourceLock toResourceLock(List<ExclusiveResource> resources) {
+		int size = resources.size();
 		if (size == 0) {
 			return NopLock.INSTANCE;
 		}
 		if (size == 1) {
-			return new SingleLock(locks.get(0));
+			ExclusiveResource resource = resources.get(0);
+			return new SingleLock(resource, toLock(resource));
 		}
-		return new CompositeLock(locks);
+		return new CompositeLock(resources, resources.stream().map(this::toLock).collect(toList()));
 	}
 
 }
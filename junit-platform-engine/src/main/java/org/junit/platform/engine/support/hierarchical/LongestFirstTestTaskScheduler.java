@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * {@link TestTaskScheduler} that submits the tasks that took the longest
+ * during the previous run first (<em>longest processing time first</em>),
+ * so that long-running tests and containers don't end up being started last
+ * and dominate the total execution time.
+ *
+ * <p>Tasks without a known duration are submitted before all others in
+ * declaration order since they might be long-running as well.
+ *
+ * @since 1.4
+ * @see TestDurationStore
+ */
+class LongestFirstTestTaskScheduler implements TestTaskScheduler {
+
+	private final TestDurationStore durationStore;
+
+	LongestFirstTestTaskScheduler(TestDurationStore durationStore) {
+		this.durationStore = durationStore;
+	}
+
+	TestDurationStore getDurationStore() {
+		return durationStore;
+	}
+
+	@Override
+	public <T extends TestTask> List<T> schedule(List<T> testTasks) {
+		List<T> result = new ArrayList<>(testTasks);
+		result.sort(comparingLong(this::getDuration).reversed());
+		return result;
+	}
+
+	private long getDuration(TestTask testTask) {
+		if (testTask instanceof NodeTestTask) {
+			long duration = durationStore.getDuration(getUniqueId((NodeTestTask<?>) testTask));
+			return duration == TestDurationStore.UNKNOWN ? Long.MAX_VALUE : duration;
+		}
+		return Long.MAX_VALUE;
+	}
+
+	void recordDuration(TestTask testTask, long durationInMillis) {
+		if (testTask instanceof NodeTestTask) {
+			durationStore.recordDuration(getUniqueId((NodeTestTask<?>) testTask), durationInMillis);
+		}
+	}
+
+	private static String getUniqueId(NodeTestTask<?> testTask) {
+		return testTask.getTestDescriptor().getUniqueId().toString();
+	}
+
+}
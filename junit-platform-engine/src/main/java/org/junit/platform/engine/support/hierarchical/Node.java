@@ -251,9 +251,41 @@ public interface Node<C extends EngineExecutionContext> {
 		 * {@link #execute(EngineExecutionContext, DynamicTestExecutor)} method
 		 * after all its dynamic children have finished.
 		 *
+		 * <p>If the execution of one or more dynamic test descriptors failed,
+		 * one of their failures is rethrown. If
+		 * {@link #awaitInFlightAtMost(int)} has been called, this is the
+		 * failure of the first descriptor whose completion was observed while
+		 * waiting, which is not necessarily the first failed descriptor in
+		 * submission order.
+		 *
 		 * @throws InterruptedException if interrupted while waiting
 		 */
 		void awaitFinished() throws InterruptedException;
+
+		/**
+		 * Block until at most {@code maxInFlight} dynamic test descriptors
+		 * submitted to this executor are still executing.
+		 *
+		 * <p>This method is useful if the node submits a large or unbounded
+		 * number of dynamic test descriptors and wants to limit how many of
+		 * them are pending at the same time.
+		 *
+		 * <p>Failures of finished dynamic test descriptors are not rethrown by
+		 * this method but remembered and rethrown by {@link #awaitFinished()}.
+		 *
+		 * <p>The default implementation waits for all submitted dynamic test
+		 * descriptors to finish by calling {@link #awaitFinished()}.
+		 *
+		 * @param maxInFlight the maximum number of dynamic test descriptors
+		 * that may still be executing when this method returns; must not be
+		 * negative
+		 * @throws InterruptedException if interrupted while waiting
+		 * @since 1.4
+		 */
+		@API(status = EXPERIMENTAL, since = "1.4")
+		default void awaitInFlightAtMost(int maxInFlight) throws InterruptedException {
+			awaitFinished();
+		}
 	}
 
 	/**
@@ -10,7 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -18,12 +18,20 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
 
 /**
+ * Advises {@link NodeTestTask NodeTestTasks} about forced execution modes and
+ * resource locks computed by {@link NodeTreeWalker}.
+ *
+ * <p>Test descriptors are looked up by identity since the {@code hashCode()}
+ * and {@code equals()} implementations of test descriptors are typically
+ * based on their {@link org.junit.platform.engine.UniqueId UniqueId} which
+ * is comparatively expensive to hash for deeply nested descriptors.
+ *
  * @since 1.3.1
  */
 class NodeExecutionAdvisor {
 
-	private final Map<TestDescriptor, ExecutionMode> forcedExecutionModeByTestDescriptor = new HashMap<>();
-	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new HashMap<>();
+	private final Map<TestDescriptor, ExecutionMode> forcedExecutionModeByTestDescriptor = new IdentityHashMap<>();
+	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new IdentityHashMap<>();
 
 	void forceExecutionMode(TestDescriptor testDescriptor, ExecutionMode executionMode) {
 		forcedExecutionModeByTestDescriptor.put(testDescriptor, executionMode);
@@ -38,6 +46,9 @@ class NodeExecutionAdvisor {
 	}
 
 	ResourceLock getResourceLock(TestDescriptor testDescriptor) {
+		if (resourceLocksByTestDescriptor.isEmpty()) {
+			return NopLock.INSTANCE;
+		}
 		return resourceLocksByTestDescriptor.getOrDefault(testDescriptor, NopLock.INSTANCE);
 	}
 }
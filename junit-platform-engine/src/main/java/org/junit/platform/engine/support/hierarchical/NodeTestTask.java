@@ -13,7 +13,10 @@ package org.junit.platform.engine.support.hierarchical;
 import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -23,6 +26,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
@@ -53,6 +57,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		this.node = NodeUtils.asNode(testDescriptor);
 	}
 
+	TestDescriptor getTestDescriptor() {
+		return testDescriptor;
+	}
+
 	@Override
 	public ResourceLock getResourceLock() {
 		return taskContext.getExecutionAdvisor().getResourceLock(testDescriptor);
@@ -159,7 +167,15 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
-		private final List<Future<?>> futures = new ArrayList<>();
+
+		private static final int MIN_COMPACTION_THRESHOLD = 16;
+
+		// futures of dynamic tests that have not been awaited yet; completed
+		// futures are released eagerly so memory does not grow with the
+		// number of dynamic tests
+		private final Deque<Future<?>> futures = new ArrayDeque<>();
+		private int compactionThreshold = MIN_COMPACTION_THRESHOLD;
+		private Throwable failure;
 
 		@Override
 		public void execute(TestDescriptor dynamicTestDescriptor) {
@@ -173,20 +189,80 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			else {
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext, dynamicTestDescriptor);
 				nodeTestTask.setParentContext(context);
-				futures.add(taskContext.getExecutorService().submit(nodeTestTask));
+				Future<?> future = taskContext.getExecutorService().submit(nodeTestTask);
+				if (!release(future)) {
+					futures.add(future);
+				}
+				if (futures.size() >= compactionThreshold) {
+					futures.removeIf(this::release);
+					compactionThreshold = Math.max(MIN_COMPACTION_THRESHOLD, 2 * futures.size());
+				}
 			}
 		}
 
 		@Override
 		public void awaitFinished() throws InterruptedException {
-			for (Future<?> future : futures) {
-				try {
-					future.get();
-				}
-				catch (ExecutionException e) {
-					ExceptionUtils.throwAsUncheckedException(e.getCause());
+			// wait in reverse order so the current worker thread can execute
+			// the most recently forked tasks from its own queue
+			Iterator<Future<?>> iterator = futures.descendingIterator();
+			while (iterator.hasNext()) {
+				awaitDone(iterator.next());
+			}
+			awaitInFlightAtMost(0);
+			if (failure != null) {
+				Throwable throwable = failure;
+				failure = null;
+				ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+
+		@Override
+		public void awaitInFlightAtMost(int maxInFlight) throws InterruptedException {
+			Preconditions.condition(maxInFlight >= 0, "maxInFlight must not be negative");
+			futures.removeIf(this::release);
+			while (futures.size() > maxInFlight) {
+				getResult(futures.removeFirst());
+			}
+		}
+
+		private void awaitDone(Future<?> future) throws InterruptedException {
+			try {
+				future.get();
+			}
+			catch (ExecutionException e) {
+				// reported in submission order by awaitInFlightAtMost()
+			}
+		}
+
+		/**
+		 * Release the supplied future if it is done, remembering the first
+		 * failure, if any.
+		 *
+		 * @return {@code true} if the future is done
+		 */
+		private boolean release(Future<?> future) {
+			if (!future.isDone()) {
+				return false;
+			}
+			try {
+				getResult(future);
+			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+			return true;
+		}
+
+		private void getResult(Future<?> future) throws InterruptedException {
+			try {
+				future.get();
+			}
+			catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause();
 				}
 			}
 		}
 	}
+
 }
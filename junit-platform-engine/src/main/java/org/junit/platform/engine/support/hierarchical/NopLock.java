@@ -27,6 +27,11 @@ class NopLock implements ResourceLock {
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return true;
+	}
+
 	@Override
 	public void release() {
 		// nothing to do
@@ -10,8 +10,11 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptySet;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+import java.util.Set;
+
 import org.apiguardian.api.API;
 
 /**
@@ -34,6 +37,41 @@ public interface ResourceLock extends AutoCloseable {
 	 */
 	ResourceLock acquire() throws InterruptedException;
 
+	/**
+	 * Try to acquire this resource lock without blocking.
+	 *
+	 * <p>If this method returns {@code true}, the lock has been acquired and
+	 * must be {@linkplain #release() released} by the caller.
+	 *
+	 * <p>The default implementation does not acquire the lock and always
+	 * returns {@code false} so that callers fall back to {@link #acquire()}.
+	 * Implementations should override this method if they support
+	 * non-blocking acquisition.
+	 *
+	 * @return {@code true} if the lock was acquired; {@code false} if it is
+	 * currently held by another thread or cannot be acquired without blocking
+	 * @throws InterruptedException if the calling thread is interrupted
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	default boolean tryAcquire() throws InterruptedException {
+		return false;
+	}
+
+	/**
+	 * Get the {@linkplain ExclusiveResource exclusive resources} guarded by
+	 * this lock.
+	 *
+	 * <p>The default implementation returns an empty set.
+	 *
+	 * @return the resources guarded by this lock; never {@code null}
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	default Set<ExclusiveResource> getResources() {
+		return emptySet();
+	}
+
 	/**
 	 * Release this resource lock.
 	 */
@@ -10,6 +10,9 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.singleton;
+
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
@@ -18,9 +21,11 @@ import java.util.concurrent.locks.Lock;
  */
 class SingleLock implements ResourceLock {
 
+	private final Set<ExclusiveResource> resources;
 	private final Lock lock;
 
-	SingleLock(Lock lock) {
+	SingleLock(ExclusiveResource resource, Lock lock) {
+		this.resources = singleton(resource);
 		this.lock = lock;
 	}
 
@@ -29,12 +34,22 @@ class SingleLock implements ResourceLock {
 		return lock;
 	}
 
+	@Override
+	public Set<ExclusiveResource> getResources() {
+		return resources;
+	}
+
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
 		ForkJoinPool.managedBlock(new SingleLockManagedBlocker());
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return lock.tryLock();
+	}
+
 	@Override
 	public void release() {
 		lock.unlock();
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Persistent store of the execution durations of tests and containers
+ * measured during previous runs, keyed by unique ID.
+ *
+ * <p>Durations are stored as a properties file in which each key is a
+ * unique ID and each value the duration in milliseconds. Durations recorded
+ * during the current run replace previously stored values for the same
+ * unique ID when the store is {@linkplain #save() saved}; durations of tests
+ * that were not executed are retained.
+ *
+ * @since 1.4
+ * @see LongestFirstTestTaskScheduler
+ */
+class TestDurationStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestDurationStore.class);
+
+	static final long UNKNOWN = -1;
+
+	private final Path file;
+	private final Map<String, Long> previousDurations;
+	private final Map<String, Long> recordedDurations = new ConcurrentHashMap<>();
+
+	static TestDurationStore load(Path file) {
+		Map<String, Long> durations = new ConcurrentHashMap<>();
+		if (Files.isRegularFile(file)) {
+			Properties properties = new Properties();
+			try (InputStream inputStream = Files.newInputStream(file)) {
+				properties.load(inputStream);
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> String.format("Failed to load test durations from file [%s].", file));
+			}
+			properties.stringPropertyNames().forEach(uniqueId -> {
+				try {
+					durations.put(uniqueId, Long.valueOf(properties.getProperty(uniqueId)));
+				}
+				catch (NumberFormatException ex) {
+					logger.debug(() -> String.format("Ignoring invalid duration for [%s] in file [%s].", uniqueId, file));
+				}
+			});
+		}
+		return new TestDurationStore(file, durations);
+	}
+
+	private TestDurationStore(Path file, Map<String, Long> previousDurations) {
+		this.file = file;
+		this.previousDurations = previousDurations;
+	}
+
+	/**
+	 * Get the duration in milliseconds measured for the supplied unique ID
+	 * during the previous run or {@link #UNKNOWN} if there is none.
+	 */
+	long getDuration(String uniqueId) {
+		return previousDurations.getOrDefault(uniqueId, UNKNOWN);
+	}
+
+	void recordDuration(String uniqueId, long durationInMillis) {
+		recordedDurations.put(uniqueId, durationInMillis);
+	}
+
+	void save() {
+		if (recordedDurations.isEmpty()) {
+			return;
+		}
+		Map<String, Long> durations = new TreeMap<>(previousDurations);
+		durations.putAll(recordedDurations);
+		Properties properties = new Properties();
+		durations.forEach((uniqueId, duration) -> properties.setProperty(uniqueId, String.valueOf(duration)));
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			try (OutputStream outputStream = Files.newOutputStream(file)) {
+				properties.store(outputStream, "JUnit test durations in milliseconds");
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> String.format("Failed to save test durations to file [%s].", file));
+		}
+	}
+
+}
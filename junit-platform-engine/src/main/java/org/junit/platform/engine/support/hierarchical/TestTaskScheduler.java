@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * A scheduler determines the order in which sibling
+ * {@linkplain TestTask test tasks} that may be executed
+ * {@linkplain ExecutionMode#CONCURRENT concurrently} are submitted for
+ * execution.
+ *
+ * <p>Implementations must return a permutation of the supplied tasks, i.e.
+ * they must neither add nor remove tasks.
+ *
+ * @see DefaultTestTaskScheduler
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public interface TestTaskScheduler {
+
+	/**
+	 * Determine the order in which the supplied concurrent test tasks should
+	 * be submitted for execution.
+	 *
+	 * @param testTasks the sibling tasks in declaration order; never
+	 * {@code null}
+	 * @return the supplied tasks in the desired order; never {@code null}
+	 */
+	<T extends TestTask> List<T> schedule(List<T> testTasks);
+
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * A {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each concurrent {@linkplain TestTask test task} in its own
+ * virtual thread if the Java runtime supports virtual threads (Java 21 and
+ * later) and in its own platform thread otherwise.
+ *
+ * <p>When virtual threads are used, tests that spend most of their time
+ * blocked in I/O or sleeping only occupy a virtual thread rather than a
+ * worker of a thread pool. In both cases, the number of concurrently executed
+ * tasks is bounded by the {@linkplain ParallelExecutionConfiguration#getMaxPoolSize()
+ * maximum pool size} of the configured {@link ParallelExecutionConfiguration}
+ * by default; the bound may be set explicitly via the
+ * {@value #CONFIG_MAX_CONCURRENCY_PROPERTY_NAME} configuration parameter.
+ * Threads that wait for their resource lock, child tasks, or dynamic tests do
+ * not count towards this bound.
+ *
+ * <p>The {@linkplain DefaultTestTaskScheduler scheduler} and
+ * {@linkplain ForkJoinPoolHierarchicalTestExecutorService#CONFIG_LOCK_ACQUISITION_PROPERTY_NAME
+ * lock acquisition} configuration parameters are ignored by this executor
+ * service, and the parallelism of the
+ * {@link DefaultParallelExecutionConfigurationStrategy#ADAPTIVE ADAPTIVE}
+ * configuration strategy is not adjusted at runtime.
+ *
+ * @see DefaultParallelExecutionConfigurationStrategy
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	/**
+	 * Property name used to set the maximum number of tasks that are executed
+	 * at the same time.
+	 *
+	 * <p>Value must be a positive integer; defaults to the maximum pool size
+	 * of the configured {@link ParallelExecutionConfiguration}.
+	 */
+	public static final String CONFIG_MAX_CONCURRENCY_PROPERTY_NAME = "virtual_threads.max.concurrency";
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadHierarchicalTestExecutorService.class);
+
+	private static final String THREAD_NAME_PREFIX = "junit-test-thread-";
+
+	private final ExecutorService executorService;
+	private final boolean virtualThreads;
+	private final Semaphore runningTasks;
+	private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService} based
+	 * on the supplied {@link ConfigurationParameters}.
+	 *
+	 * @see DefaultParallelExecutionConfigurationStrategy
+	 */
+	public VirtualThreadHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
+		Optional<ExecutorService> virtualThreadPerTaskExecutor = tryToCreateVirtualThreadPerTaskExecutor();
+		this.virtualThreads = virtualThreadPerTaskExecutor.isPresent();
+		this.executorService = virtualThreadPerTaskExecutor.orElseGet(
+			() -> Executors.newCachedThreadPool(new PlatformThreadFactory()));
+		int maxConcurrency = getMaxConcurrency(configurationParameters);
+		this.runningTasks = new Semaphore(maxConcurrency);
+		logger.config(() -> String.format("Using %s threads with at most %d concurrently executing tasks",
+			virtualThreads ? "virtual" : "platform", maxConcurrency));
+	}
+
+	private static int getMaxConcurrency(ConfigurationParameters configurationParameters) {
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
+			configurationParameters);
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configurationParameters);
+		int maxConcurrency = configurationParameters.get(CONFIG_MAX_CONCURRENCY_PROPERTY_NAME,
+			Integer::valueOf).orElse(configuration.getMaxPoolSize());
+		Preconditions.condition(maxConcurrency > 0,
+			() -> String.format("Value '%d' specified via configuration parameter '%s' must be greater than 0",
+				maxConcurrency, CONFIG_MAX_CONCURRENCY_PROPERTY_NAME));
+		return maxConcurrency;
+	}
+
+	private static Optional<ExecutorService> tryToCreateVirtualThreadPerTaskExecutor() {
+		return Try.call(() -> {
+			// Try to use methods available in Java >= 21
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 1L);
+			ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) method.invoke(null, threadFactory);
+		}).toOptional();
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		if (testTask.getExecutionMode() == CONCURRENT) {
+			return fork(testTask);
+		}
+		executeInCurrentThread(testTask);
+		return completedFuture(null);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> testTasks) {
+		List<Future<Void>> futures = new ArrayList<>(testTasks.size());
+		List<TestTask> nonConcurrentTasks = new ArrayList<>(testTasks.size());
+		for (TestTask testTask : testTasks) {
+			if (testTask.getExecutionMode() == CONCURRENT && testTasks.size() > 1) {
+				futures.add(fork(testTask));
+			}
+			else {
+				nonConcurrentTasks.add(testTask);
+			}
+		}
+		nonConcurrentTasks.forEach(this::executeInCurrentThread);
+		for (Future<Void> future : futures) {
+			try {
+				future.get();
+			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+			catch (ExecutionException e) {
+				ExceptionUtils.throwAsUncheckedException(e.getCause());
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+	}
+
+	// for tests only
+	boolean isUsingVirtualThreads() {
+		return virtualThreads;
+	}
+
+	private Future<Void> fork(TestTask testTask) {
+		return new PermitReleasingFuture(executorService.submit(() -> {
+			executeInForkedThread(testTask);
+			return null;
+		}));
+	}
+
+	private void executeInForkedThread(TestTask testTask) {
+		try {
+			runningTasks.acquire();
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+		holdsPermit.set(true);
+		try {
+			executeInCurrentThread(testTask);
+		}
+		finally {
+			holdsPermit.set(false);
+			runningTasks.release();
+		}
+	}
+
+	@SuppressWarnings("try")
+	private void executeInCurrentThread(TestTask testTask) {
+		// release the permit while waiting so lock holders can always proceed
+		try (ResourceLock lock = whileBlocked(testTask.getResourceLock()::acquire)) {
+			testTask.execute();
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	/**
+	 * Perform the supplied blocking action after temporarily releasing the
+	 * permit held by the current thread, if any, so that other tasks may run
+	 * in the meantime.
+	 */
+	private <T> T whileBlocked(BlockingAction<T> action) throws InterruptedException {
+		if (!holdsPermit.get()) {
+			return action.run();
+		}
+		runningTasks.release();
+		holdsPermit.set(false);
+		try {
+			return action.run();
+		}
+		finally {
+			runningTasks.acquireUninterruptibly();
+			holdsPermit.set(true);
+		}
+	}
+
+	@FunctionalInterface
+	private interface BlockingAction<T> {
+		T run() throws InterruptedException;
+	}
+
+	private class PermitReleasingFuture implements Future<Void> {
+
+		private final Future<Void> delegate;
+
+		PermitReleasingFuture(Future<Void> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return delegate.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return delegate.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return delegate.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			if (delegate.isDone()) {
+				return delegate.get();
+			}
+			try {
+				return whileBlocked(() -> {
+					try {
+						return delegate.get();
+					}
+					catch (ExecutionException e) {
+						throw new WrappedCheckedException(e);
+					}
+				});
+			}
+			catch (WrappedCheckedException e) {
+				throw (ExecutionException) e.getCause();
+			}
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			if (delegate.isDone()) {
+				return delegate.get();
+			}
+			try {
+				return whileBlocked(() -> {
+					try {
+						return delegate.get(timeout, unit);
+					}
+					catch (ExecutionException | TimeoutException e) {
+						throw new WrappedCheckedException(e);
+					}
+				});
+			}
+			catch (WrappedCheckedException e) {
+				if (e.getCause() instanceof TimeoutException) {
+					throw (TimeoutException) e.getCause();
+				}
+				throw (ExecutionException) e.getCause();
+			}
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class WrappedCheckedException extends RuntimeException {
+
+		WrappedCheckedException(Exception cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized Exception getCause() {
+			return (Exception) super.getCause();
+		}
+	}
+
+	private static class PlatformThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}
+	}
+
+}
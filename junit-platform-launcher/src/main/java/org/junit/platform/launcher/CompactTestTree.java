@@ -0,0 +1,360 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * Immutable, array-based tree of the {@link TestIdentifier TestIdentifiers}
+ * of a {@link TestPlan} as discovered by a {@link Launcher}.
+ *
+ * <p>Identifiers are addressed by their index in pre-order. The descendants
+ * of an identifier therefore occupy the contiguous range of indices from its
+ * own index (exclusive) to its {@linkplain #descendantsEnd end index}. The
+ * parent of each identifier is stored in {@link #parents}, and its children
+ * are stored in {@link #childIndices} starting at the offset stored in
+ * {@link #childOffsets}. Unique IDs are mapped to indices via an open
+ * addressing hash table; unique IDs must not occur more than once.
+ *
+ * <p>All identifiers are created while building the tree, so the tree does
+ * not reflect later changes to the {@link TestDescriptor TestDescriptors} and
+ * does not keep them reachable. Equal sets of tags are shared between
+ * identifiers.
+ *
+ * <p>All returned sets are unmodifiable views that are created in constant
+ * time.
+ *
+ * @since 1.4
+ */
+final class CompactTestTree {
+
+	private static final int NO_PARENT = -1;
+
+	private static final int NOT_FOUND = -1;
+
+	static CompactTestTree from(Collection<TestDescriptor> engineDescriptors) {
+		int size = 0;
+		for (TestDescriptor engineDescriptor : engineDescriptors) {
+			size += countDescriptors(engineDescriptor);
+		}
+		CompactTestTree tree = new CompactTestTree(size, engineDescriptors.size());
+		Map<Set<TestTag>, Set<TestTag>> internedTags = new HashMap<>();
+		int next = 0;
+		for (TestDescriptor engineDescriptor : engineDescriptors) {
+			next = tree.add(engineDescriptor, NO_PARENT, next, internedTags);
+		}
+		tree.index();
+		return tree;
+	}
+
+	private static int countDescriptors(TestDescriptor descriptor) {
+		int count = 1;
+		for (TestDescriptor child : descriptor.getChildren()) {
+			count += countDescriptors(child);
+		}
+		return count;
+	}
+
+	private final TestIdentifier[] identifiers;
+	private final int[] parents;
+	private final int[] descendantsEnd;
+	private final int[] childOffsets;
+	private final int[] childIndices;
+	private final int[] rootIndices;
+	private final int[] uniqueIdTable;
+
+	private CompactTestTree(int size, int roots) {
+		this.identifiers = new TestIdentifier[size];
+		this.parents = new int[size];
+		this.descendantsEnd = new int[size];
+		this.childOffsets = new int[size + 1];
+		this.childIndices = new int[size];
+		this.rootIndices = new int[roots];
+		this.uniqueIdTable = new int[tableSize(size)];
+	}
+
+	private static int tableSize(int size) {
+		int tableSize = 2;
+		while (tableSize < 2 * size) {
+			tableSize <<= 1;
+		}
+		return tableSize;
+	}
+
+	/**
+	 * Add the supplied descriptor and its descendants in pre-order, starting
+	 * at the supplied index.
+	 *
+	 * @return the index following the last descendant
+	 */
+	private int add(TestDescriptor descriptor, int parent, int index,
+			Map<Set<TestTag>, Set<TestTag>> internedTags) {
+		String parentId = (parent != NO_PARENT ? this.identifiers[parent].getUniqueId() : null);
+		this.identifiers[index] = TestIdentifier.from(descriptor, descriptor.getUniqueId().toString(), parentId,
+			internTags(descriptor.getTags(), internedTags));
+		this.parents[index] = parent;
+		int next = index + 1;
+		for (TestDescriptor child : descriptor.getChildren()) {
+			next = add(child, index, next, internedTags);
+		}
+		this.descendantsEnd[index] = next;
+		return next;
+	}
+
+	/**
+	 * Build the child offsets, child indices, root indices, and unique ID
+	 * table once all identifiers have been added.
+	 */
+	private void index() {
+		int size = this.identifiers.length;
+		for (int i = 0; i < size; i++) {
+			int parent = this.parents[i];
+			if (parent != NO_PARENT) {
+				this.childOffsets[parent + 1]++;
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			this.childOffsets[i + 1] += this.childOffsets[i];
+		}
+		int[] nextChild = new int[size];
+		int nextRoot = 0;
+		for (int i = 0; i < size; i++) {
+			int parent = this.parents[i];
+			if (parent == NO_PARENT) {
+				this.rootIndices[nextRoot++] = i;
+			}
+			else {
+				this.childIndices[this.childOffsets[parent] + nextChild[parent]++] = i;
+			}
+			putIndex(i);
+		}
+	}
+
+	private void putIndex(int index) {
+		String uniqueId = uniqueIdAt(index);
+		int mask = this.uniqueIdTable.length - 1;
+		for (int slot = hash(uniqueId) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.uniqueIdTable[slot];
+			if (entry == 0) {
+				this.uniqueIdTable[slot] = index + 1;
+				return;
+			}
+			if (uniqueIdAt(entry - 1).equals(uniqueId)) {
+				throw new PreconditionViolationException(
+					String.format("Cannot create TestPlan with duplicate unique ID [%s].", uniqueId));
+			}
+		}
+	}
+
+	private int indexOf(String uniqueId) {
+		int mask = this.uniqueIdTable.length - 1;
+		for (int slot = hash(uniqueId) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.uniqueIdTable[slot];
+			if (entry == 0) {
+				return NOT_FOUND;
+			}
+			if (uniqueIdAt(entry - 1).equals(uniqueId)) {
+				return entry - 1;
+			}
+		}
+	}
+
+	private String uniqueIdAt(int index) {
+		return this.identifiers[index].getUniqueId();
+	}
+
+	private static int hash(String uniqueId) {
+		int hash = uniqueId.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	boolean contains(String uniqueId) {
+		return indexOf(uniqueId) != NOT_FOUND;
+	}
+
+	/**
+	 * Get the {@link TestIdentifier} with the supplied unique ID, or
+	 * {@code null} if it is not part of this tree.
+	 */
+	TestIdentifier get(String uniqueId) {
+		int index = indexOf(uniqueId);
+		return (index != NOT_FOUND ? this.identifiers[index] : null);
+	}
+
+	private static Set<TestTag> internTags(Set<TestTag> tags, Map<Set<TestTag>, Set<TestTag>> internedTags) {
+		if (tags.isEmpty()) {
+			return emptySet();
+		}
+		Set<TestTag> interned = internedTags.get(tags);
+		if (interned == null) {
+			interned = unmodifiableSet(new LinkedHashSet<>(tags));
+			internedTags.put(interned, interned);
+		}
+		return interned;
+	}
+
+	Set<TestIdentifier> getRoots() {
+		return new ChildSet(this.rootIndices, 0, this.rootIndices.length, NO_PARENT);
+	}
+
+	/**
+	 * Get the children of the identifier with the supplied unique ID; empty
+	 * if it is not part of this tree.
+	 */
+	Set<TestIdentifier> getChildren(String parentId) {
+		int parent = indexOf(parentId);
+		if (parent == NOT_FOUND) {
+			return emptySet();
+		}
+		return new ChildSet(this.childIndices, this.childOffsets[parent], this.childOffsets[parent + 1], parent);
+	}
+
+	/**
+	 * Get the descendants of the identifier with the supplied unique ID in
+	 * pre-order; empty if it is not part of this tree.
+	 */
+	Set<TestIdentifier> getDescendants(String parentId) {
+		int parent = indexOf(parentId);
+		if (parent == NOT_FOUND) {
+			return emptySet();
+		}
+		return new DescendantSet(parent + 1, this.descendantsEnd[parent]);
+	}
+
+	long count(Predicate<? super TestIdentifier> predicate) {
+		long count = 0;
+		for (TestIdentifier identifier : this.identifiers) {
+			if (predicate.test(identifier)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private int indexOfIdentifier(Object object) {
+		return (object instanceof TestIdentifier ? indexOf(((TestIdentifier) object).getUniqueId()) : NOT_FOUND);
+	}
+
+	/**
+	 * Unmodifiable view of the identifiers whose indices are stored in a
+	 * slice of an index array and which share the same parent.
+	 */
+	private final class ChildSet extends AbstractSet<TestIdentifier> {
+
+		private final int[] indices;
+		private final int from;
+		private final int to;
+		private final int parent;
+
+		ChildSet(int[] indices, int from, int to, int parent) {
+			this.indices = indices;
+			this.from = from;
+			this.to = to;
+			this.parent = parent;
+		}
+
+		@Override
+		public int size() {
+			return this.to - this.from;
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			int index = indexOfIdentifier(object);
+			return index != NOT_FOUND && parents[index] == this.parent;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<TestIdentifier>() {
+
+				private int next = from;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < to;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return identifiers[indices[this.next++]];
+				}
+			};
+		}
+
+	}
+
+	/**
+	 * Unmodifiable view of the identifiers within a range of indices.
+	 */
+	private final class DescendantSet extends AbstractSet<TestIdentifier> {
+
+		private final int from;
+		private final int to;
+
+		DescendantSet(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public int size() {
+			return this.to - this.from;
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			int index = indexOfIdentifier(object);
+			return index >= this.from && index < this.to;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<TestIdentifier>() {
+
+				private int next = from;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < to;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return identifiers[this.next++];
+				}
+			};
+		}
+
+	}
+
+}
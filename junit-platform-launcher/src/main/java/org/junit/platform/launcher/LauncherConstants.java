@@ -77,6 +77,25 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to configure whether captured output is also written
+	 * to the original {@link System#out} or {@link System#err} stream:
+	 * {@value}
+	 *
+	 * <p>By default, captured output is passed through to the original stream.
+	 *
+	 * <p>If set to {@code false}, output written while a test or container is
+	 * being executed is only published as a {@link ReportEntry}. Threads that
+	 * write such output then no longer contend for the locks of the original
+	 * streams.
+	 *
+	 * @since 1.4
+	 * @see #CAPTURE_STDOUT_PROPERTY_NAME
+	 * @see #CAPTURE_STDERR_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CAPTURE_PASS_THROUGH_PROPERTY_NAME = "junit.platform.output.capture.passThrough";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -89,6 +108,147 @@ public class LauncherConstants {
 	 */
 	public static final String STDERR_REPORT_ENTRY_KEY = "stderr";
 
+	/**
+	 * Property name used to enable parallel execution of test engines:
+	 * {@value}
+	 *
+	 * <p>By default, test engines are executed sequentially.
+	 *
+	 * <p>If enabled, the {@link Launcher} executes each test engine in its own
+	 * thread. Registered {@link TestExecutionListener TestExecutionListeners}
+	 * are still notified of all events of one engine before being notified of
+	 * any event of the next engine; events of engines whose turn has not yet
+	 * come are buffered in the meantime, unless
+	 * {@linkplain #ENGINES_PARALLEL_EVENTS_INTERLEAVED_PROPERTY_NAME
+	 * interleaved delivery} is enabled.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLELISM_PROPERTY_NAME
+	 * @see #ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_PROPERTY_NAME
+	 * @see #ENGINES_PARALLEL_EVENTS_INTERLEAVED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.engines.parallel.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of test engines that
+	 * are executed at the same time if
+	 * {@linkplain #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME parallel
+	 * execution of test engines} is enabled: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to the number of test
+	 * engines.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLELISM_PROPERTY_NAME = "junit.platform.execution.engines.parallel.parallelism";
+
+	/**
+	 * Property name used to configure the maximum number of buffered events
+	 * per test engine if {@linkplain #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME
+	 * parallel execution of test engines} is enabled: {@value}
+	 *
+	 * <p>Threads of a test engine whose turn has not yet come block while its
+	 * buffer is full. Value must be a positive integer; defaults to
+	 * {@value ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_DEFAULT}.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_DEFAULT
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_PROPERTY_NAME = "junit.platform.execution.engines.parallel.events.buffer.capacity";
+
+	/**
+	 * Default maximum number of buffered events per test engine if
+	 * {@linkplain #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME parallel
+	 * execution of test engines} is enabled.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final int ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_DEFAULT = 10_000;
+
+	/**
+	 * Property name used to enable interleaved delivery of the events of test
+	 * engines that are executed in parallel: {@value}
+	 *
+	 * <p>By default, listeners are notified of all events of one engine before
+	 * being notified of any event of the next engine. If enabled, events are
+	 * forwarded as soon as they are reported, so events of different engines
+	 * may be interleaved. In both cases, listeners are never notified
+	 * concurrently.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLEL_EVENTS_INTERLEAVED_PROPERTY_NAME = "junit.platform.execution.engines.parallel.events.interleaved";
+
+	/**
+	 * Property name used to enable parallel discovery of tests across test
+	 * engines: {@value}
+	 *
+	 * <p>By default, test engines discover their tests one after the other.
+	 *
+	 * <p>If enabled, the {@link Launcher} lets all test engines discover their
+	 * tests concurrently. The resulting {@link TestPlan} is identical to the
+	 * one produced by sequential discovery; in particular, its roots are
+	 * ordered in the same way.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.platform.discovery.engines.parallel.enabled";
+
+	/**
+	 * Property name used to enable asynchronous notification of registered
+	 * {@link TestExecutionListener TestExecutionListeners}: {@value}
+	 *
+	 * <p>By default, all listeners are notified synchronously in the thread
+	 * that reports an event.
+	 *
+	 * <p>If enabled, each listener is notified in a dedicated thread that
+	 * delivers the events reported by the test engines in batches and in the
+	 * order in which they were reported. All events have been delivered once
+	 * {@link TestExecutionListener#testPlanExecutionFinished} has been called.
+	 * Listeners implementing {@link SynchronousTestExecutionListener} are
+	 * always notified synchronously.
+	 *
+	 * @since 1.4
+	 * @see #LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String LISTENERS_ASYNC_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of pending events per
+	 * listener if {@linkplain #LISTENERS_ASYNC_ENABLED_PROPERTY_NAME
+	 * asynchronous notification of listeners} is enabled: {@value}
+	 *
+	 * <p>Threads reporting events block while the queue of a listener is full.
+	 * Value must be a positive integer; defaults to
+	 * {@value LISTENERS_ASYNC_QUEUE_CAPACITY_DEFAULT}.
+	 *
+	 * @since 1.4
+	 * @see #LISTENERS_ASYNC_QUEUE_CAPACITY_DEFAULT
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME = "junit.platform.execution.listeners.async.queue.capacity";
+
+	/**
+	 * Default maximum number of pending events per listener if
+	 * {@linkplain #LISTENERS_ASYNC_ENABLED_PROPERTY_NAME asynchronous
+	 * notification of listeners} is enabled.
+	 *
+	 * @since 1.4
+	 * @see #LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final int LISTENERS_ASYNC_QUEUE_CAPACITY_DEFAULT = 1024;
+
 	private LauncherConstants() {
 		/* no-op */
 	}
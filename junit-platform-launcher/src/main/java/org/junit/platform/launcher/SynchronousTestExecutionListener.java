@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marker interface for {@link TestExecutionListener TestExecutionListeners}
+ * that must be notified synchronously in the thread that reports an event.
+ *
+ * <p>Listeners implementing this interface are notified synchronously even if
+ * {@linkplain LauncherConstants#LISTENERS_ASYNC_ENABLED_PROPERTY_NAME
+ * asynchronous notification of listeners} is enabled. Implement it if your
+ * listener relies on being called in the thread that executes a test, e.g.
+ * because it inspects thread-local state.
+ *
+ * @since 1.4
+ * @see LauncherConstants#LISTENERS_ASYNC_ENABLED_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public interface SynchronousTestExecutionListener extends TestExecutionListener {
+}
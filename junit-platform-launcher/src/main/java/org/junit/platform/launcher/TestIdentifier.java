@@ -65,14 +65,36 @@ public final class TestIdentifier implements Serializable {
 		return new TestIdentifier(uniqueId, displayName, source, tags, type, parentId, legacyReportingName);
 	}
 
+	/**
+	 * Factory for creating a new {@link TestIdentifier} from a {@link TestDescriptor}
+	 * using its already computed unique ID, parent ID, and tags.
+	 *
+	 * <p>The supplied set of tags must be unmodifiable; it will be shared
+	 * rather than copied.
+	 *
+	 * @since 1.4
+	 */
+	static TestIdentifier from(TestDescriptor testDescriptor, String uniqueId, String parentId,
+			Set<TestTag> unmodifiableTags) {
+
+		return new TestIdentifier(uniqueId, testDescriptor.getDisplayName(), testDescriptor.getSource().orElse(null),
+			testDescriptor.getType(), parentId, testDescriptor.getLegacyReportingName(), unmodifiableTags);
+	}
+
 	TestIdentifier(String uniqueId, String displayName, TestSource source, Set<TestTag> tags, Type type,
 			String parentId, String legacyReportingName) {
+		this(uniqueId, displayName, source, type, parentId, legacyReportingName,
+			unmodifiableSet(new LinkedHashSet<>(tags)));
+	}
+
+	private TestIdentifier(String uniqueId, String displayName, TestSource source, Type type, String parentId,
+			String legacyReportingName, Set<TestTag> unmodifiableTags) {
 		Preconditions.notNull(type, "TestDescriptor.Type must not be null");
 		this.uniqueId = uniqueId;
 		this.parentId = parentId;
 		this.displayName = displayName;
 		this.source = source;
-		this.tags = unmodifiableSet(new LinkedHashSet<>(tags));
+		this.tags = unmodifiableTags;
 		this.type = type;
 		this.legacyReportingName = legacyReportingName;
 	}
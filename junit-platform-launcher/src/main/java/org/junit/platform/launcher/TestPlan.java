@@ -15,9 +15,11 @@ import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -28,7 +30,6 @@ import org.apiguardian.api.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestDescriptor;
-import org.junit.platform.engine.TestDescriptor.Visitor;
 
 /**
  * {@code TestPlan} describes the tree of tests and containers as discovered
@@ -47,6 +48,12 @@ import org.junit.platform.engine.TestDescriptor.Visitor;
  * test is registered at runtime, it is added to the original test plan and
  * reported to {@link TestExecutionListener} implementations.
  *
+ * @implNote The identifiers discovered by the {@link Launcher} are stored in
+ * a compact, immutable array-based tree which answers queries for children
+ * and descendants without copying. Only identifiers that are
+ * {@linkplain #add(TestIdentifier) added} afterwards are stored in hash-based
+ * collections.
+ *
  * @since 1.0
  * @see Launcher
  * @see TestExecutionListener
@@ -54,6 +61,9 @@ import org.junit.platform.engine.TestDescriptor.Visitor;
 @API(status = STABLE, since = "1.0")
 public final class TestPlan {
 
+	private final CompactTestTree discoveredIdentifiers;
+
+	// Identifiers added after discovery, e.g. for dynamic tests
 	private final Set<TestIdentifier> roots = Collections.synchronizedSet(new LinkedHashSet<>(4));
 
 	private final Map<String, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
@@ -76,13 +86,12 @@ public final class TestPlan {
 	@API(status = INTERNAL, since = "1.0")
 	public static TestPlan from(Collection<TestDescriptor> engineDescriptors) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
-		TestPlan testPlan = new TestPlan(engineDescriptors.stream().anyMatch(TestDescriptor::containsTests));
-		Visitor visitor = descriptor -> testPlan.add(TestIdentifier.from(descriptor));
-		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
-		return testPlan;
+		return new TestPlan(CompactTestTree.from(engineDescriptors),
+			engineDescriptors.stream().anyMatch(TestDescriptor::containsTests));
 	}
 
-	private TestPlan(boolean containsTests) {
+	private TestPlan(CompactTestTree discoveredIdentifiers, boolean containsTests) {
+		this.discoveredIdentifiers = discoveredIdentifiers;
 		this.containsTests = containsTests;
 	}
 
@@ -93,6 +102,9 @@ public final class TestPlan {
 	 */
 	public void add(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		if (discoveredIdentifiers.contains(testIdentifier.getUniqueId())) {
+			return;
+		}
 		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
 		if (testIdentifier.getParentId().isPresent()) {
 			String parentId = testIdentifier.getParentId().get();
@@ -111,7 +123,7 @@ public final class TestPlan {
 	 * @return an unmodifiable set of the root identifiers
 	 */
 	public Set<TestIdentifier> getRoots() {
-		return unmodifiableSet(roots);
+		return union(discoveredIdentifiers.getRoots(), roots);
 	}
 
 	/**
@@ -147,7 +159,21 @@ public final class TestPlan {
 	 */
 	public Set<TestIdentifier> getChildren(String parentId) {
 		Preconditions.notBlank(parentId, "parent ID must not be null or blank");
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		return union(discoveredIdentifiers.getChildren(parentId), children.getOrDefault(parentId, emptySet()));
+	}
+
+	private static Set<TestIdentifier> union(Set<TestIdentifier> discovered, Set<TestIdentifier> added) {
+		if (added.isEmpty()) {
+			return discovered;
+		}
+		if (discovered.isEmpty()) {
+			return unmodifiableSet(added);
+		}
+		Set<TestIdentifier> result = new LinkedHashSet<>(discovered);
+		synchronized (added) {
+			result.addAll(added);
+		}
+		return unmodifiableSet(result);
 	}
 
 	/**
@@ -161,9 +187,13 @@ public final class TestPlan {
 	 */
 	public TestIdentifier getTestIdentifier(String uniqueId) throws PreconditionViolationException {
 		Preconditions.notBlank(uniqueId, "unique ID must not be null or blank");
-		Preconditions.condition(allIdentifiers.containsKey(uniqueId),
+		TestIdentifier testIdentifier = discoveredIdentifiers.get(uniqueId);
+		if (testIdentifier == null) {
+			testIdentifier = allIdentifiers.get(uniqueId);
+		}
+		Preconditions.condition(testIdentifier != null,
 			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
-		return allIdentifiers.get(uniqueId);
+		return testIdentifier;
 	}
 
 	/**
@@ -176,7 +206,7 @@ public final class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		return discoveredIdentifiers.count(predicate) + allIdentifiers.values().stream().filter(predicate).count();
 	}
 
 	/**
@@ -188,15 +218,36 @@ public final class TestPlan {
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
-		Set<TestIdentifier> result = new LinkedHashSet<>(16);
-		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
-		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
+		Set<TestIdentifier> discoveredDescendants = discoveredIdentifiers.getDescendants(parent.getUniqueId());
+		if (allIdentifiers.isEmpty()) {
+			return discoveredDescendants;
+		}
+		Set<TestIdentifier> result = new LinkedHashSet<>(discoveredDescendants);
+		collectAddedDescendants(parent, result);
+		for (TestIdentifier descendant : discoveredDescendants) {
+			collectAddedDescendants(descendant, result);
 		}
 		return unmodifiableSet(result);
 	}
 
+	/**
+	 * Collect the descendants of the supplied {@link TestIdentifier} that
+	 * were {@linkplain #add(TestIdentifier) added} to this test plan.
+	 */
+	private void collectAddedDescendants(TestIdentifier parent, Set<TestIdentifier> result) {
+		Set<TestIdentifier> addedChildren = children.get(parent.getUniqueId());
+		if (addedChildren != null) {
+			List<TestIdentifier> copy;
+			synchronized (addedChildren) {
+				copy = new ArrayList<>(addedChildren);
+			}
+			for (TestIdentifier child : copy) {
+				result.add(child);
+				collectAddedDescendants(child, result);
+			}
+		}
+	}
+
 	public boolean containsTests() {
 		return containsTests;
 	}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Notifies a delegate {@link TestExecutionListener} in a dedicated thread.
+ *
+ * <p>Events are put into a bounded queue that is drained in batches by a
+ * single consumer thread, so the delegate is notified of all events in the
+ * order in which they were reported and never concurrently. Threads reporting
+ * events block while the queue is full. Once
+ * {@link #testPlanExecutionFinished(TestPlan)} returns, the delegate has been
+ * notified of all events; events reported afterwards are delivered
+ * synchronously, but still one at a time and only after all queued events.
+ * Reporting an event never fails because the reporting thread has been
+ * interrupted; its interrupt status is restored once the event has been
+ * queued.
+ *
+ * <p>Exceptions thrown by the delegate are logged and do not prevent it from
+ * being notified of subsequent events.
+ *
+ * @since 1.4
+ */
+class AsynchronousTestExecutionListener implements TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsynchronousTestExecutionListener.class);
+
+	private static final int MAX_BATCH_SIZE = 256;
+
+	private static final AtomicInteger threadNumber = new AtomicInteger();
+
+	private static final Consumer<TestExecutionListener> STOP = listener -> {
+	};
+
+	private final TestExecutionListener delegate;
+	private final BlockingQueue<Consumer<TestExecutionListener>> queue;
+	private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+
+	// guarded by this
+	private Thread consumer;
+
+	private volatile boolean stopped;
+
+	AsynchronousTestExecutionListener(TestExecutionListener delegate, int queueCapacity) {
+		this.delegate = delegate;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		start();
+		enqueue(listener -> listener.testPlanExecutionStarted(testPlan));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		enqueue(listener -> listener.testPlanExecutionFinished(testPlan));
+		stop();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		enqueue(listener -> listener.dynamicTestRegistered(testIdentifier));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		enqueue(listener -> listener.executionSkipped(testIdentifier, reason));
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		enqueue(listener -> listener.executionStarted(testIdentifier));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		enqueue(listener -> listener.executionFinished(testIdentifier, testExecutionResult));
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		enqueue(listener -> listener.reportingEntryPublished(testIdentifier, entry));
+	}
+
+	/**
+	 * Wait until the delegate has been notified of all pending events and stop
+	 * the consumer thread.
+	 *
+	 * <p>Calling this method more than once has no effect.
+	 */
+	synchronized void stop() {
+		if (this.consumer == null || this.stopped) {
+			return;
+		}
+		Lock writeLock = this.stopLock.writeLock();
+		writeLock.lock();
+		try {
+			this.stopped = true;
+			putUninterruptibly(STOP);
+		}
+		finally {
+			writeLock.unlock();
+		}
+		joinUninterruptibly(this.consumer);
+	}
+
+	private synchronized void start() {
+		if (this.consumer == null) {
+			this.consumer = new Thread(this::deliverEvents,
+				"junit-platform-listener-" + threadNumber.incrementAndGet());
+			this.consumer.setDaemon(true);
+			this.consumer.start();
+		}
+	}
+
+	private void enqueue(Consumer<TestExecutionListener> event) {
+		Lock readLock = this.stopLock.readLock();
+		readLock.lock();
+		try {
+			if (!this.stopped) {
+				putUninterruptibly(event);
+				return;
+			}
+		}
+		finally {
+			readLock.unlock();
+		}
+		deliverSynchronously(event);
+	}
+
+	/**
+	 * Deliver the supplied event in the calling thread once the consumer
+	 * thread has delivered all queued events.
+	 *
+	 * <p>Since {@link #stop()} holds this object's monitor until the consumer
+	 * thread has terminated, acquiring it here also serializes all synchronous
+	 * deliveries.
+	 */
+	private synchronized void deliverSynchronously(Consumer<TestExecutionListener> event) {
+		deliver(event);
+	}
+
+	private void putUninterruptibly(Consumer<TestExecutionListener> event) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				this.queue.put(event);
+				break;
+			}
+			catch (InterruptedException e) {
+				// the event must not be lost, so keep trying
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void joinUninterruptibly(Thread thread) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				thread.join();
+				break;
+			}
+			catch (InterruptedException e) {
+				// pending events must not be lost, so keep waiting
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void deliverEvents() {
+		List<Consumer<TestExecutionListener>> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		try {
+			while (true) {
+				batch.add(this.queue.take());
+				this.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+				for (Consumer<TestExecutionListener> event : batch) {
+					if (event == STOP) {
+						return;
+					}
+					deliver(event);
+				}
+				batch.clear();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void deliver(Consumer<TestExecutionListener> event) {
+		try {
+			event.accept(this.delegate);
+		}
+		catch (Throwable throwable) {
+			logger.warn(throwable, () -> String.format("TestExecutionListener [%s] failed to handle event",
+				this.delegate.getClass().getName()));
+		}
+	}
+
+}
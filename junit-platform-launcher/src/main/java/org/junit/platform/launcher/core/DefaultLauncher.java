@@ -10,15 +10,34 @@
 
 package org.junit.platform.launcher.core;
 
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EVENTS_INTERLEAVED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.LISTENERS_ASYNC_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.LISTENERS_ASYNC_QUEUE_CAPACITY_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME;
+
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ParallelUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.ExecutionRequest;
@@ -26,9 +45,11 @@ import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 
 /**
@@ -133,7 +154,7 @@ class DefaultLauncher implements Launcher {
 	}
 
 	private Root discoverRoot(LauncherDiscoveryRequest discoveryRequest, String phase) {
-		Root root = new Root();
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 
 		for (TestEngine testEngine : this.testEngines) {
 			// @formatter:off
@@ -149,11 +170,19 @@ class DefaultLauncher implements Launcher {
 				continue;
 			}
 
-			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
-				testEngine.getId()));
+			includedTestEngines.add(testEngine);
+		}
 
-			Optional<TestDescriptor> engineRoot = discoverEngineRoot(testEngine, discoveryRequest);
-			engineRoot.ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
+		boolean parallel = discoveryRequest.getConfigurationParameters().getBoolean(
+			ENGINES_PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false);
+		List<Optional<TestDescriptor>> engineRoots = ParallelUtils.mapInParallel(includedTestEngines,
+			testEngine -> discoverEngineRoot(testEngine, discoveryRequest, phase),
+			parallel ? includedTestEngines.size() : 1);
+
+		Root root = new Root();
+		for (int i = 0; i < includedTestEngines.size(); i++) {
+			TestEngine testEngine = includedTestEngines.get(i);
+			engineRoots.get(i).ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
 		}
 		root.applyPostDiscoveryFilters(discoveryRequest);
 		root.prune();
@@ -161,7 +190,10 @@ class DefaultLauncher implements Launcher {
 	}
 
 	private Optional<TestDescriptor> discoverEngineRoot(TestEngine testEngine,
-			LauncherDiscoveryRequest discoveryRequest) {
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+
+		logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
+			testEngine.getId()));
 
 		UniqueId uniqueEngineId = UniqueId.forEngine(testEngine.getId());
 		try {
@@ -177,44 +209,151 @@ class DefaultLauncher implements Launcher {
 
 	private void execute(Root root, ConfigurationParameters configurationParameters,
 			TestExecutionListener... listeners) {
-		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
-		withInterceptedStreams(configurationParameters, listenerRegistry, testExecutionListener -> {
+		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(configurationParameters,
+			listeners);
+		try {
+			execute(root, configurationParameters, listenerRegistry);
+		}
+		finally {
+			listenerRegistry.stopAsynchronousTestExecutionListeners();
+		}
+	}
+
+	private void execute(Root root, ConfigurationParameters configurationParameters,
+			TestExecutionListenerRegistry listenerRegistry) {
+		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
+		List<TestEngine> testEngines = new ArrayList<>();
+		root.getTestEngines().forEach(testEngines::add);
+		int parallelism = getEngineParallelism(configurationParameters, testEngines.size());
+		EngineEventSequencer sequencer = parallelism > 1
+				? createEngineEventSequencer(configurationParameters, listenerRegistry, testEngines.size())
+				: null;
+		BiConsumer<TestIdentifier, ReportEntry> reporter = sequencer != null ? sequencer::reportingEntryPublished
+				: testExecutionListener::reportingEntryPublished;
+		withInterceptedStreams(configurationParameters, listenerRegistry, reporter, () -> {
 			TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
 			testExecutionListener.testPlanExecutionStarted(testPlan);
-			ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
-				testExecutionListener);
-			for (TestEngine testEngine : root.getTestEngines()) {
-				TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
-				execute(testEngine,
-					new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+			if (sequencer != null) {
+				executeInParallel(root, testEngines, testPlan, configurationParameters, sequencer, parallelism);
+			}
+			else {
+				ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
+					testExecutionListener);
+				for (TestEngine testEngine : testEngines) {
+					TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
+					execute(testEngine,
+						new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+				}
 			}
 			testExecutionListener.testPlanExecutionFinished(testPlan);
 		});
 	}
 
+	private static int getEngineParallelism(ConfigurationParameters configurationParameters, int numberOfEngines) {
+		boolean enabled = configurationParameters.getBoolean(ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(
+			false);
+		if (!enabled || numberOfEngines < 2) {
+			return 1;
+		}
+		int parallelism = configurationParameters.get(ENGINES_PARALLELISM_PROPERTY_NAME, Integer::valueOf).orElse(
+			numberOfEngines);
+		Preconditions.condition(parallelism > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': must be a positive integer, but was %d",
+			ENGINES_PARALLELISM_PROPERTY_NAME, parallelism));
+		return Math.min(parallelism, numberOfEngines);
+	}
+
+	private static EngineEventSequencer createEngineEventSequencer(ConfigurationParameters configurationParameters,
+			TestExecutionListenerRegistry listenerRegistry, int numberOfEngines) {
+		int bufferCapacity = configurationParameters.get(ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_PROPERTY_NAME,
+			Integer::valueOf).orElse(ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_DEFAULT);
+		Preconditions.condition(bufferCapacity > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': must be a positive integer, but was %d",
+			ENGINES_PARALLEL_EVENTS_BUFFER_CAPACITY_PROPERTY_NAME, bufferCapacity));
+		boolean interleaved = configurationParameters.getBoolean(
+			ENGINES_PARALLEL_EVENTS_INTERLEAVED_PROPERTY_NAME).orElse(false);
+		return new EngineEventSequencer(listenerRegistry, numberOfEngines, bufferCapacity, interleaved);
+	}
+
+	private void executeInParallel(Root root, List<TestEngine> testEngines, TestPlan testPlan,
+			ConfigurationParameters configurationParameters, EngineEventSequencer sequencer, int parallelism) {
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "junit-platform-engine-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>(testEngines.size());
+			for (int i = 0; i < testEngines.size(); i++) {
+				int index = i;
+				TestEngine testEngine = testEngines.get(index);
+				ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
+					sequencer.forEngine(index));
+				ExecutionRequest executionRequest = new ExecutionRequest(root.getTestDescriptorFor(testEngine),
+					engineExecutionListener, configurationParameters);
+				futures.add(executorService.submit(() -> {
+					try {
+						execute(testEngine, executionRequest);
+					}
+					finally {
+						sequencer.engineFinished(index);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (ExecutionException e) {
+			ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
-			TestExecutionListenerRegistry listenerRegistry, Consumer<TestExecutionListener> action) {
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
+			TestExecutionListenerRegistry listenerRegistry, BiConsumer<TestIdentifier, ReportEntry> reporter,
+			Runnable action) {
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
-			configurationParameters, testExecutionListener::reportingEntryPublished);
+			configurationParameters, reporter);
 		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::registerListeners);
 		try {
-			action.accept(testExecutionListener);
+			action.run();
 		}
 		finally {
 			streamInterceptingTestExecutionListener.ifPresent(StreamInterceptingTestExecutionListener::unregister);
 		}
 	}
 
-	private TestExecutionListenerRegistry buildListenerRegistryForExecution(TestExecutionListener... listeners) {
-		if (listeners.length == 0) {
-			return this.listenerRegistry;
+	private TestExecutionListenerRegistry buildListenerRegistryForExecution(
+			ConfigurationParameters configurationParameters, TestExecutionListener... listeners) {
+		TestExecutionListenerRegistry registry = this.listenerRegistry;
+		if (listeners.length > 0) {
+			registry = new TestExecutionListenerRegistry(this.listenerRegistry);
+			registry.registerListeners(listeners);
+		}
+		if (configurationParameters.getBoolean(LISTENERS_ASYNC_ENABLED_PROPERTY_NAME).orElse(false)) {
+			int queueCapacity = getListenerQueueCapacity(configurationParameters);
+			registry = registry.withAsynchronousTestExecutionListeners(queueCapacity);
 		}
-		TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry(this.listenerRegistry);
-		registry.registerListeners(listeners);
 		return registry;
 	}
 
+	private static int getListenerQueueCapacity(ConfigurationParameters configurationParameters) {
+		int capacity = configurationParameters.get(LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME,
+			Integer::valueOf).orElse(LISTENERS_ASYNC_QUEUE_CAPACITY_DEFAULT);
+		Preconditions.condition(capacity > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': must be a positive integer, but was %d",
+			LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME, capacity));
+		return capacity;
+	}
+
 	private void execute(TestEngine testEngine, ExecutionRequest executionRequest) {
 		try {
 			testEngine.execute(executionRequest);
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.TestExecutionListenerRegistry.EagerTestExecutionListener;
+
+/**
+ * Sequences the events of test engines that are executed in parallel so that
+ * {@link TestExecutionListener TestExecutionListeners} are notified of all
+ * events of one engine before being notified of any event of the next engine,
+ * just as if the engines were executed sequentially.
+ *
+ * <p>Events of the engine whose turn it is are forwarded immediately while
+ * events of all subsequent engines are buffered until all previous engines
+ * have finished. The buffer of each engine is bounded: a thread that reports
+ * an event while the buffer of its engine is full blocks until the engine's
+ * turn has come. If events are to be interleaved, all events are forwarded
+ * immediately instead. Listeners are never notified concurrently.
+ *
+ * <p>Callbacks of {@link EagerTestExecutionListener EagerTestExecutionListeners}
+ * are always forwarded immediately in the thread that reported the event since
+ * they may depend on it, e.g. for capturing output. Reporting entries they
+ * publish via {@link #reportingEntryPublished(TestIdentifier, ReportEntry)}
+ * are sequenced along with the events of the engine that caused them.
+ *
+ * @since 1.4
+ */
+class EngineEventSequencer {
+
+	private final TestExecutionListener delegate;
+	private final EagerTestExecutionListener eagerDelegate;
+	private final List<EngineChannel> channels;
+	private final int bufferCapacity;
+	private final boolean interleaved;
+	private final ThreadLocal<EngineChannel> currentChannel = new ThreadLocal<>();
+
+	// guarded by this
+	private int currentIndex;
+
+	EngineEventSequencer(TestExecutionListenerRegistry listenerRegistry, int numberOfEngines, int bufferCapacity,
+			boolean interleaved) {
+		this.delegate = listenerRegistry.getCompositeNonEagerTestExecutionListener();
+		this.eagerDelegate = listenerRegistry.getCompositeEagerTestExecutionListener();
+		this.bufferCapacity = bufferCapacity;
+		this.interleaved = interleaved;
+		this.channels = new ArrayList<>(numberOfEngines);
+		for (int i = 0; i < numberOfEngines; i++) {
+			this.channels.add(new EngineChannel(i));
+		}
+	}
+
+	/**
+	 * Get the listener for the engine with the supplied index.
+	 */
+	TestExecutionListener forEngine(int index) {
+		return this.channels.get(index);
+	}
+
+	/**
+	 * Signal that the engine with the supplied index has finished and that all
+	 * buffered events of the next engine may be forwarded.
+	 */
+	synchronized void engineFinished(int index) {
+		this.channels.get(index).finished = true;
+		while (this.currentIndex < this.channels.size() && this.channels.get(this.currentIndex).finished) {
+			this.currentIndex++;
+			if (this.currentIndex < this.channels.size()) {
+				this.channels.get(this.currentIndex).flush();
+			}
+		}
+		notifyAll();
+	}
+
+	/**
+	 * Publish the supplied reporting entry along with the events of the engine
+	 * whose eager listeners are currently being notified in the current thread,
+	 * if any.
+	 */
+	void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		EngineChannel channel = this.currentChannel.get();
+		if (channel != null) {
+			channel.reportingEntryPublished(testIdentifier, entry);
+		}
+		else {
+			synchronized (this) {
+				this.delegate.reportingEntryPublished(testIdentifier, entry);
+			}
+		}
+	}
+
+	private class EngineChannel implements TestExecutionListener {
+
+		private final int index;
+
+		// guarded by EngineEventSequencer.this
+		private final List<Consumer<TestExecutionListener>> bufferedEvents = new ArrayList<>();
+		private boolean finished;
+
+		EngineChannel(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			notify(listener -> listener.dynamicTestRegistered(testIdentifier));
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			notify(listener -> listener.executionSkipped(testIdentifier, reason));
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			notifyEagerly(() -> eagerDelegate.executionJustStarted(testIdentifier));
+			notify(listener -> listener.executionStarted(testIdentifier));
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			notifyEagerly(() -> eagerDelegate.executionJustFinished(testIdentifier, testExecutionResult));
+			notify(listener -> listener.executionFinished(testIdentifier, testExecutionResult));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			notify(listener -> listener.reportingEntryPublished(testIdentifier, entry));
+		}
+
+		private void notifyEagerly(Runnable action) {
+			currentChannel.set(this);
+			try {
+				action.run();
+			}
+			finally {
+				currentChannel.remove();
+			}
+		}
+
+		private void notify(Consumer<TestExecutionListener> event) {
+			synchronized (EngineEventSequencer.this) {
+				if (!interleaved) {
+					awaitBufferCapacity();
+				}
+				if (interleaved || this.index == currentIndex) {
+					event.accept(delegate);
+				}
+				else {
+					this.bufferedEvents.add(event);
+				}
+			}
+		}
+
+		private void awaitBufferCapacity() {
+			boolean interrupted = false;
+			while (this.index != currentIndex && this.bufferedEvents.size() >= bufferCapacity) {
+				try {
+					EngineEventSequencer.this.wait();
+				}
+				catch (InterruptedException e) {
+					// the event must not be lost, so keep waiting
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void flush() {
+			this.bufferedEvents.forEach(event -> event.accept(delegate));
+			this.bufferedEvents.clear();
+		}
+
+	}
+
+}
@@ -22,6 +22,13 @@ import org.junit.platform.launcher.TestPlan;
  * An {@code ExecutionListenerAdapter} adapts a {@link TestPlan} and a corresponding
  * {@link TestExecutionListener} to the {@link EngineExecutionListener} API.
  *
+ * <p>An adapter may be notified by multiple threads concurrently, e.g. if an
+ * engine executes tests in parallel or if multiple engines share the same
+ * test plan. The {@code TestPlan} supports concurrent modification; calls
+ * to the {@code TestExecutionListener} are not serialized by the adapter. If engines are executed in parallel, each
+ * engine's adapter notifies an {@link EngineEventSequencer} channel that
+ * never notifies the registered listeners concurrently.
+ *
  * @since 1.0
  */
 class ExecutionListenerAdapter implements EngineExecutionListener {
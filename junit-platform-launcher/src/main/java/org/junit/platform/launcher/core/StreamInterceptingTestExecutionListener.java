@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_DEFAULT;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_PASS_THROUGH_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
@@ -49,10 +50,13 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 
 		int maxSize = configurationParameters.get(CAPTURE_MAX_BUFFER_PROPERTY_NAME, Integer::valueOf) //
 				.orElse(CAPTURE_MAX_BUFFER_DEFAULT);
+		boolean passThrough = configurationParameters.getBoolean(CAPTURE_PASS_THROUGH_PROPERTY_NAME).orElse(true);
 
-		Optional<StreamInterceptor> stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize)
+		Optional<StreamInterceptor> stdoutInterceptor = captureStdout
+				? StreamInterceptor.registerStdout(maxSize, passThrough)
 				: Optional.empty();
-		Optional<StreamInterceptor> stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize)
+		Optional<StreamInterceptor> stderrInterceptor = captureStderr
+				? StreamInterceptor.registerStderr(maxSize, passThrough)
 				: Optional.empty();
 
 		if ((!stdoutInterceptor.isPresent() && captureStdout) || (!stderrInterceptor.isPresent() && captureStderr)) {
@@ -10,49 +10,92 @@
 
 package org.junit.platform.launcher.core;
 
-import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
+ * Captures the output written to a {@link PrintStream} per thread.
+ *
+ * <p>Captured output is stored in segments on the heap that are pooled and
+ * shared by all threads. It is only decoded when it is
+ * {@linkplain #consume() consumed}. Once a thread has consumed all of its
+ * captured output, it returns all of its segments to the pool.
+ *
+ * <p>If pass-through is disabled, output written while capturing is not
+ * forwarded to the original stream. In this case, {@code print()} and
+ * {@code println()} of strings and objects bypass the locks of this and the
+ * original stream so that threads writing concurrently do not contend.
+ *
  * @since 1.3
  */
 class StreamInterceptor extends PrintStream {
 
+	private static final int SEGMENT_SIZE = 8 * 1024;
+	private static final int MAX_POOLED_SEGMENTS = 64;
+
 	private final PrintStream originalStream;
 	private final Consumer<PrintStream> unregisterAction;
 	private final int maxNumberOfBytesPerThread;
+	private final boolean passThrough;
+	private final int segmentSize;
+	private final Charset charset = Charset.defaultCharset();
+	private final byte[] lineSeparator = System.lineSeparator().getBytes(charset);
 
-	private final ThreadLocal<RewindableByteArrayOutputStream> output = ThreadLocal.withInitial(
-		RewindableByteArrayOutputStream::new);
+	private final Queue<ByteBuffer> segmentPool = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger numberOfPooledSegments = new AtomicInteger();
+
+	private final ThreadLocal<CaptureBuffer> output = ThreadLocal.withInitial(CaptureBuffer::new);
 
 	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+		return registerStdout(maxNumberOfBytesPerThread, true);
+	}
+
+	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread, boolean passThrough) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, passThrough);
 	}
 
 	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+		return registerStderr(maxNumberOfBytesPerThread, true);
+	}
+
+	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread, boolean passThrough) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, passThrough);
 	}
 
 	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, true);
+	}
+
+	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, boolean passThrough) {
 		if (originalStream instanceof StreamInterceptor) {
 			return Optional.empty();
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread,
+			passThrough);
 		streamSetter.accept(interceptor);
 		return Optional.of(interceptor);
 	}
 
 	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
-			int maxNumberOfBytesPerThread) {
+			int maxNumberOfBytesPerThread, boolean passThrough) {
 		super(originalStream);
 		this.originalStream = originalStream;
 		this.unregisterAction = unregisterAction;
 		this.maxNumberOfBytesPerThread = maxNumberOfBytesPerThread;
+		this.passThrough = passThrough;
+		this.segmentSize = Math.max(1, Math.min(SEGMENT_SIZE, maxNumberOfBytesPerThread));
 	}
 
 	void capture() {
@@ -69,9 +112,12 @@ class StreamInterceptor extends PrintStream {
 
 	@Override
 	public void write(int b) {
-		RewindableByteArrayOutputStream out = output.get();
-		if (out.isMarked() && out.size() < maxNumberOfBytesPerThread) {
+		CaptureBuffer out = output.get();
+		if (out.isMarked()) {
 			out.write(b);
+			if (!passThrough) {
+				return;
+			}
 		}
 		super.write(b);
 	}
@@ -83,36 +129,180 @@ class StreamInterceptor extends PrintStream {
 
 	@Override
 	public void write(byte[] buf, int off, int len) {
-		RewindableByteArrayOutputStream out = output.get();
+		CaptureBuffer out = output.get();
 		if (out.isMarked()) {
-			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.size()));
-			if (actualLength > 0) {
-				out.write(buf, off, actualLength);
+			out.write(buf, off, len);
+			if (!passThrough) {
+				return;
 			}
 		}
 		super.write(buf, off, len);
 	}
 
-	class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
+	@Override
+	public void print(String s) {
+		CaptureBuffer out = getBufferForExclusiveCapture();
+		if (out == null) {
+			super.print(s);
+			return;
+		}
+		byte[] bytes = String.valueOf(s).getBytes(charset);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void print(Object obj) {
+		print(String.valueOf(obj));
+	}
 
-		private final Deque<Integer> markedPositions = new ArrayDeque<>();
+	@Override
+	public void println() {
+		CaptureBuffer out = getBufferForExclusiveCapture();
+		if (out == null) {
+			super.println();
+			return;
+		}
+		out.write(lineSeparator, 0, lineSeparator.length);
+	}
+
+	@Override
+	public void println(String x) {
+		CaptureBuffer out = getBufferForExclusiveCapture();
+		if (out == null) {
+			super.println(x);
+			return;
+		}
+		byte[] bytes = String.valueOf(x).getBytes(charset);
+		out.write(bytes, 0, bytes.length);
+		out.write(lineSeparator, 0, lineSeparator.length);
+	}
+
+	@Override
+	public void println(Object x) {
+		println(String.valueOf(x));
+	}
+
+	/**
+	 * Get the buffer of the current thread if it is capturing and captured
+	 * output is not passed through to the original stream; {@code null}
+	 * otherwise.
+	 */
+	private CaptureBuffer getBufferForExclusiveCapture() {
+		if (passThrough) {
+			return null;
+		}
+		CaptureBuffer out = output.get();
+		return out.isMarked() ? out : null;
+	}
+
+	private ByteBuffer acquireSegment() {
+		ByteBuffer segment = segmentPool.poll();
+		if (segment == null) {
+			return ByteBuffer.allocate(segmentSize);
+		}
+		numberOfPooledSegments.decrementAndGet();
+		return segment;
+	}
+
+	private void releaseSegment(ByteBuffer segment) {
+		if (numberOfPooledSegments.incrementAndGet() <= MAX_POOLED_SEGMENTS) {
+			((Buffer) segment).clear();
+			segmentPool.offer(segment);
+		}
+		else {
+			numberOfPooledSegments.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Output captured by a single thread, stored in equally sized segments.
+	 *
+	 * <p>The position of each segment equals the number of bytes it holds;
+	 * all but the last segment are full.
+	 */
+	private class CaptureBuffer {
+
+		private final List<ByteBuffer> segments = new ArrayList<>();
+		private int[] markedPositions = new int[4];
+		private int numberOfMarks;
+		private int size;
 
 		boolean isMarked() {
-			return !markedPositions.isEmpty();
+			return numberOfMarks > 0;
 		}
 
 		void mark() {
-			markedPositions.addFirst(count);
+			if (numberOfMarks == markedPositions.length) {
+				markedPositions = Arrays.copyOf(markedPositions, numberOfMarks * 2);
+			}
+			markedPositions[numberOfMarks++] = size;
+		}
+
+		void write(int b) {
+			if (size < maxNumberOfBytesPerThread) {
+				segmentForWriting().put((byte) b);
+				size++;
+			}
+		}
+
+		void write(byte[] buf, int off, int len) {
+			int remaining = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - size));
+			while (remaining > 0) {
+				ByteBuffer segment = segmentForWriting();
+				int length = Math.min(remaining, segment.remaining());
+				segment.put(buf, off, length);
+				off += length;
+				remaining -= length;
+				size += length;
+			}
 		}
 
 		String rewind() {
-			Integer position = markedPositions.pollFirst();
-			if (position == null || position == count) {
+			if (numberOfMarks == 0) {
 				return "";
 			}
-			int length = count - position;
-			count -= length;
-			return new String(buf, position, length);
+			int position = markedPositions[--numberOfMarks];
+			if (position == size) {
+				truncate(position);
+				return "";
+			}
+			byte[] bytes = new byte[size - position];
+			int copied = 0;
+			for (int index = position / segmentSize; copied < bytes.length; index++) {
+				ByteBuffer segment = segments.get(index).duplicate();
+				((Buffer) segment).flip();
+				((Buffer) segment).position(copied == 0 ? position % segmentSize : 0);
+				int length = segment.remaining();
+				segment.get(bytes, copied, length);
+				copied += length;
+			}
+			truncate(position);
+			return new String(bytes, charset);
+		}
+
+		private ByteBuffer segmentForWriting() {
+			int index = size / segmentSize;
+			if (index == segments.size()) {
+				segments.add(acquireSegment());
+			}
+			return segments.get(index);
+		}
+
+		private void truncate(int position) {
+			// Output written while not capturing is discarded, so once the outermost
+			// capture has been consumed, none of the segments are needed anymore.
+			if (numberOfMarks == 0) {
+				position = 0;
+			}
+			int numberOfRetainedSegments = (position + segmentSize - 1) / segmentSize;
+			while (segments.size() > numberOfRetainedSegments) {
+				releaseSegment(segments.remove(segments.size() - 1));
+			}
+			if (numberOfRetainedSegments > 0) {
+				int lastIndex = numberOfRetainedSegments - 1;
+				((Buffer) segments.get(lastIndex)).position(position - lastIndex * segmentSize);
+			}
+			size = position;
 		}
 	}
 }
@@ -10,25 +10,32 @@
 
 package org.junit.platform.launcher.core;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.SynchronousTestExecutionListener;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 
 /**
+ * Registry of {@link TestExecutionListener TestExecutionListeners}.
+ *
+ * <p>Listeners may be registered while composite listeners obtained from this
+ * registry are being notified by multiple threads.
+ *
  * @since 1.0
  */
 class TestExecutionListenerRegistry {
 
-	private final List<TestExecutionListener> testExecutionListeners = new ArrayList<>();
-	private final List<EagerTestExecutionListener> eagerTestExecutionListeners = new ArrayList<>();
+	private final List<TestExecutionListener> testExecutionListeners = new CopyOnWriteArrayList<>();
+	private final List<EagerTestExecutionListener> eagerTestExecutionListeners = new CopyOnWriteArrayList<>();
+	private final List<AsynchronousTestExecutionListener> asynchronousListeners = new CopyOnWriteArrayList<>();
 
 	TestExecutionListenerRegistry() {
 		this(null);
@@ -55,6 +62,46 @@ class TestExecutionListenerRegistry {
 		// @formatter:on
 	}
 
+	/**
+	 * Create a copy of this registry whose listeners are notified
+	 * asynchronously, except for {@link EagerTestExecutionListener
+	 * EagerTestExecutionListeners} and {@link SynchronousTestExecutionListener
+	 * SynchronousTestExecutionListeners}.
+	 *
+	 * <p>Each asynchronously notified listener has its own queue holding at
+	 * most {@code queueCapacity} pending events.
+	 *
+	 * @since 1.4
+	 * @see #stopAsynchronousTestExecutionListeners()
+	 */
+	TestExecutionListenerRegistry withAsynchronousTestExecutionListeners(int queueCapacity) {
+		TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry();
+		for (TestExecutionListener listener : this.testExecutionListeners) {
+			if (listener instanceof EagerTestExecutionListener
+					|| listener instanceof SynchronousTestExecutionListener) {
+				registry.registerListeners(listener);
+			}
+			else {
+				AsynchronousTestExecutionListener asynchronousListener = new AsynchronousTestExecutionListener(listener,
+					queueCapacity);
+				registry.asynchronousListeners.add(asynchronousListener);
+				registry.registerListeners(asynchronousListener);
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * Wait until all asynchronously notified listeners have been notified of
+	 * all pending events and stop their consumer threads.
+	 *
+	 * @since 1.4
+	 * @see #withAsynchronousTestExecutionListeners(int)
+	 */
+	void stopAsynchronousTestExecutionListeners() {
+		this.asynchronousListeners.forEach(AsynchronousTestExecutionListener::stop);
+	}
+
 	private void notifyTestExecutionListeners(Consumer<TestExecutionListener> consumer) {
 		this.testExecutionListeners.forEach(consumer);
 	}
@@ -64,11 +111,40 @@ class TestExecutionListenerRegistry {
 	}
 
 	TestExecutionListener getCompositeTestExecutionListener() {
-		return new CompositeTestExecutionListener();
+		return new CompositeTestExecutionListener(true);
+	}
+
+	/**
+	 * Get a composite listener that notifies all registered listeners except
+	 * for the {@link EagerTestExecutionListener}-specific callbacks.
+	 *
+	 * @since 1.4
+	 * @see #getCompositeEagerTestExecutionListener()
+	 */
+	TestExecutionListener getCompositeNonEagerTestExecutionListener() {
+		return new CompositeTestExecutionListener(false);
+	}
+
+	/**
+	 * Get a composite listener that only notifies registered
+	 * {@link EagerTestExecutionListener EagerTestExecutionListeners} of the
+	 * {@link EagerTestExecutionListener}-specific callbacks.
+	 *
+	 * @since 1.4
+	 * @see #getCompositeNonEagerTestExecutionListener()
+	 */
+	EagerTestExecutionListener getCompositeEagerTestExecutionListener() {
+		return new CompositeEagerTestExecutionListener();
 	}
 
 	private class CompositeTestExecutionListener implements TestExecutionListener {
 
+		private final boolean notifyEagerListeners;
+
+		CompositeTestExecutionListener(boolean notifyEagerListeners) {
+			this.notifyEagerListeners = notifyEagerListeners;
+		}
+
 		@Override
 		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
 			notifyTestExecutionListeners(listener -> listener.dynamicTestRegistered(testIdentifier));
@@ -81,14 +157,18 @@ class TestExecutionListenerRegistry {
 
 		@Override
 		public void executionStarted(TestIdentifier testIdentifier) {
-			notifyEagerTestExecutionListeners(listener -> listener.executionJustStarted(testIdentifier));
+			if (notifyEagerListeners) {
+				notifyEagerTestExecutionListeners(listener -> listener.executionJustStarted(testIdentifier));
+			}
 			notifyTestExecutionListeners(listener -> listener.executionStarted(testIdentifier));
 		}
 
 		@Override
 		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
-			notifyEagerTestExecutionListeners(
-				listener -> listener.executionJustFinished(testIdentifier, testExecutionResult));
+			if (notifyEagerListeners) {
+				notifyEagerTestExecutionListeners(
+					listener -> listener.executionJustFinished(testIdentifier, testExecutionResult));
+			}
 			notifyTestExecutionListeners(listener -> listener.executionFinished(testIdentifier, testExecutionResult));
 		}
 
@@ -109,6 +189,21 @@ class TestExecutionListenerRegistry {
 
 	}
 
+	private class CompositeEagerTestExecutionListener implements EagerTestExecutionListener {
+
+		@Override
+		public void executionJustStarted(TestIdentifier testIdentifier) {
+			notifyEagerTestExecutionListeners(listener -> listener.executionJustStarted(testIdentifier));
+		}
+
+		@Override
+		public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			notifyEagerTestExecutionListeners(
+				listener -> listener.executionJustFinished(testIdentifier, testExecutionResult));
+		}
+
+	}
+
 	interface EagerTestExecutionListener extends TestExecutionListener {
 		default void executionJustStarted(TestIdentifier testIdentifier) {
 		}
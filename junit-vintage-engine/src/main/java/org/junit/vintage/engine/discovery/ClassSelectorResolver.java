@@ -10,6 +10,11 @@
 
 package org.junit.vintage.engine.discovery;
 
+import static org.junit.platform.commons.util.ParallelUtils.mapInParallel;
+import static org.junit.vintage.engine.discovery.VintageDiscoverer.getParallelism;
+
+import java.util.Optional;
+
 import org.junit.platform.commons.util.ClassFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.discovery.ClassSelector;
@@ -22,10 +27,12 @@ class ClassSelectorResolver implements DiscoverySelectorResolver {
 	@Override
 	public void resolve(EngineDiscoveryRequest request, ClassFilter classFilter, TestClassCollector collector) {
 		// @formatter:off
-		request.getSelectorsByType(ClassSelector.class)
+		mapInParallel(request.getSelectorsByType(ClassSelector.class),
+					selector -> Optional.<Class<?>> of(selector.getJavaClass()).filter(classFilter),
+					getParallelism(request))
 			.stream()
-			.map(ClassSelector::getJavaClass)
-			.filter(classFilter)
+			.filter(Optional::isPresent)
+			.map(Optional::get)
 			.forEach(collector::addCompletely);
 		// @formatter:on
 	}
@@ -11,6 +11,7 @@
 package org.junit.vintage.engine.discovery;
 
 import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
+import static org.junit.vintage.engine.discovery.VintageDiscoverer.getParallelism;
 
 import java.util.Collection;
 
@@ -29,7 +30,7 @@ class ClasspathRootSelectorResolver implements DiscoverySelectorResolver {
 		request.getSelectorsByType(ClasspathRootSelector.class)
 			.stream()
 			.map(ClasspathRootSelector::getClasspathRoot)
-			.map(root -> findAllClassesInClasspathRoot(root, classFilter))
+			.map(root -> findAllClassesInClasspathRoot(root, classFilter, getParallelism(request)))
 			.flatMap(Collection::stream)
 			.forEach(collector::addCompletely);
 		// @formatter:on
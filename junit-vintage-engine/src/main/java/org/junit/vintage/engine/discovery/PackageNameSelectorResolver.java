@@ -10,9 +10,12 @@
 
 package org.junit.vintage.engine.discovery;
 
+import static org.junit.platform.commons.util.ParallelUtils.mapInParallel;
 import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInPackage;
+import static org.junit.vintage.engine.discovery.VintageDiscoverer.getParallelism;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.platform.commons.util.ClassFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -25,11 +28,15 @@ class PackageNameSelectorResolver implements DiscoverySelectorResolver {
 
 	@Override
 	public void resolve(EngineDiscoveryRequest request, ClassFilter classFilter, TestClassCollector collector) {
+		List<PackageSelector> selectors = request.getSelectorsByType(PackageSelector.class);
+		int parallelism = getParallelism(request);
+		// Scan a single selected package in parallel instead of multiple packages.
+		int scanParallelism = selectors.size() == 1 ? parallelism : 1;
 		// @formatter:off
-		request.getSelectorsByType(PackageSelector.class)
+		mapInParallel(selectors,
+					selector -> findAllClassesInPackage(selector.getPackageName(), classFilter, scanParallelism),
+					parallelism)
 			.stream()
-			.map(PackageSelector::getPackageName)
-			.map(packageName -> findAllClassesInPackage(packageName, classFilter))
 			.flatMap(Collection::stream)
 			.forEach(collector::addCompletely);
 		// @formatter:on
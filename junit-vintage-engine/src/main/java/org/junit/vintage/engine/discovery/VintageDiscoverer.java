@@ -11,14 +11,18 @@
 package org.junit.vintage.engine.discovery;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.commons.util.ParallelUtils.mapInParallel;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassNamePredicate;
 
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
@@ -30,6 +34,54 @@ import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 @API(status = INTERNAL, since = "4.12")
 public class VintageDiscoverer {
 
+	/**
+	 * Property name used to enable parallel test discovery: {@value}
+	 *
+	 * <p>If enabled, classes selected via class selectors are loaded, packages
+	 * selected via package selectors are scanned, the classes found in
+	 * selected classpath roots are loaded, and runners for the found test
+	 * classes are created in parallel. The resulting test descriptors
+	 * are ordered in the same way as if they had been discovered sequentially.
+	 *
+	 * <p>By default, tests are discovered sequentially.
+	 *
+	 * @since 5.4
+	 */
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.vintage.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to enable the bytecode pre-filter for classpath
+	 * scanning: {@value}
+	 *
+	 * <p>If enabled, the bytecode of each class file found while scanning
+	 * classpath roots and packages is inspected before the class is loaded,
+	 * and classes that cannot contain tests are not loaded at all.
+	 *
+	 * <p>By default, every class file whose name matches the class name
+	 * filters is loaded.
+	 *
+	 * @since 5.4
+	 */
+	public static final String BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME = //
+		"junit.vintage.discovery.bytecode.prefilter.enabled";
+
+	/**
+	 * Property name used to configure the directory in which the results of
+	 * the bytecode pre-filter are stored across test runs: {@value}
+	 *
+	 * <p>If configured and the bytecode pre-filter is
+	 * {@linkplain #BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME enabled}, only
+	 * class files whose size or last modification time has changed since the
+	 * previous run are inspected. The index stored in the directory may be
+	 * shared with other test engines.
+	 *
+	 * <p>By default, all class files are inspected in every test run.
+	 *
+	 * @since 5.4
+	 */
+	public static final String BYTECODE_PREFILTER_INDEX_DIRECTORY_PROPERTY_NAME = //
+		"junit.vintage.discovery.bytecode.prefilter.index.directory";
+
 	private static final IsPotentialJUnit4TestClass isPotentialJUnit4TestClass = new IsPotentialJUnit4TestClass();
 
 	private final TestClassRequestResolver resolver = new TestClassRequestResolver();
@@ -47,18 +99,41 @@ public class VintageDiscoverer {
 
 	public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
 		EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "JUnit Vintage");
+		List<TestClassRequest> requests = collectTestClasses(discoveryRequest).toRequests().collect(toList());
 		// @formatter:off
-		collectTestClasses(discoveryRequest)
-				.toRequests()
-				.map(request -> resolver.createRunnerTestDescriptor(request, uniqueId))
+		mapInParallel(requests, request -> resolver.createRunnerTestDescriptor(request, uniqueId),
+					getParallelism(discoveryRequest))
+				.stream()
 				.filter(Objects::nonNull)
 				.forEach(engineDescriptor::addChild);
 		// @formatter:on
 		return engineDescriptor;
 	}
 
+	static int getParallelism(EngineDiscoveryRequest discoveryRequest) {
+		boolean enabled = discoveryRequest.getConfigurationParameters().getBoolean(
+			PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false);
+		return enabled ? Runtime.getRuntime().availableProcessors() : 1;
+	}
+
+	private static ClassFilter configureBytecodePrefilter(ClassFilter classFilter,
+			ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(BYTECODE_PREFILTER_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return classFilter;
+		}
+		// @formatter:off
+		return configurationParameters.get(BYTECODE_PREFILTER_INDEX_DIRECTORY_PROPERTY_NAME)
+				.map(String::trim)
+				.filter(directory -> !directory.isEmpty())
+				.map(directory -> classFilter.withBytecodePrefilter(Paths.get(directory)))
+				.orElseGet(classFilter::withBytecodePrefilter);
+		// @formatter:on
+	}
+
 	private TestClassCollector collectTestClasses(EngineDiscoveryRequest discoveryRequest) {
-		ClassFilter classFilter = ClassFilter.of(buildClassNamePredicate(discoveryRequest), isPotentialJUnit4TestClass);
+		ClassFilter classFilter = configureBytecodePrefilter(
+			ClassFilter.of(buildClassNamePredicate(discoveryRequest), isPotentialJUnit4TestClass),
+			discoveryRequest.getConfigurationParameters());
 		TestClassCollector collector = new TestClassCollector();
 		for (DiscoverySelectorResolver selectorResolver : selectorResolvers) {
 			selectorResolver.resolve(discoveryRequest, classFilter, collector);
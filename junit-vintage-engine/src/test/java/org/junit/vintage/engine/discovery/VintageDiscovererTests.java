@@ -10,15 +10,18 @@
 
 package org.junit.vintage.engine.discovery;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.vintage.engine.VintageUniqueIdBuilder.engineId;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.engine.TrackLogRecords;
 import org.junit.platform.commons.logging.LogRecordListener;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.discovery.ClassNameFilter;
@@ -66,6 +69,30 @@ class VintageDiscovererTests {
 		assertThat(testDescriptor.getChildren()).isEmpty();
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Test
+	void parallelDiscoveryResultsInSameTestDescriptorsInSameOrder() {
+		DiscoverySelector[] selectors = { selectPackage("org.junit.vintage.engine.samples.junit4"),
+				selectClass(Foo.class), selectClass(Bar.class),
+				selectPackage("org.junit.vintage.engine.samples.junit3") };
+		VintageDiscoverer discoverer = new VintageDiscoverer();
+
+		TestDescriptor sequential = discoverer.discover(request().selectors(selectors).build(), engineId());
+		// @formatter:off
+		TestDescriptor parallel = discoverer.discover(request()
+				.selectors(selectors)
+				.configurationParameter(VintageDiscoverer.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true")
+				.build(), engineId());
+		// @formatter:on
+
+		assertThat(sequential.getDescendants().size()).isGreaterThan(10);
+		assertThat(parallel.getDescendants()).extracting(TestDescriptor::getUniqueId) //
+				.containsExactlyElementsOf(
+					sequential.getDescendants().stream().map(TestDescriptor::getUniqueId).collect(toList()));
+	}
+
 	@Test
 	void doesNotResolveAbstractJUnit3Classes(LogRecordListener listener) {
 		doesNotResolve(listener, AbstractJUnit3TestCase.class);
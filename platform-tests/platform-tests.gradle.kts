@@ -30,6 +30,9 @@ dependencies {
 	}
 	jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${Versions.jmh}")
 	jmh(project(":junit-jupiter-api"))
+	jmh(project(":junit-platform-engine"))
+	jmh(project(":junit-platform-launcher"))
+	jmh(project(":junit-jupiter-engine"))
 	jmh("junit:junit:${Versions.junit4}")
 }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.engine.execution.ExtensionValuesStore;
+import org.junit.jupiter.engine.execution.NamespaceAwareStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks for {@link Store} lookups across a hierarchy of stores
+ * resembling the one of a test method in a nested test class.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ExtensionStoreBenchmarks {
+
+	private static final Namespace NAMESPACE = Namespace.create(ExtensionStoreBenchmarks.class, "pool");
+
+	private final ExtensionValuesStore engineStore = new ExtensionValuesStore(null);
+	private final ExtensionValuesStore classStore = new ExtensionValuesStore(engineStore);
+	private final ExtensionValuesStore nestedClassStore = new ExtensionValuesStore(classStore);
+	private final ExtensionValuesStore methodStore = new ExtensionValuesStore(nestedClassStore);
+
+	private final Store store = new NamespaceAwareStore(methodStore, NAMESPACE);
+
+	public ExtensionStoreBenchmarks() {
+		new NamespaceAwareStore(engineStore, NAMESPACE).put("root", "value");
+		store.put("local", "value");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object getLocalValue() {
+		return store.get("local");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object getValueFromRootStore() {
+		return store.get("root");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object getOrComputeValueFromRootStore() {
+		return store.getOrComputeIfAbsent("root", key -> "computed");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object getMissingValue() {
+		return store.get("missing");
+	}
+
+}
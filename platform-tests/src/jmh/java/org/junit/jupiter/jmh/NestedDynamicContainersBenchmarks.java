@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH stress benchmarks for executing deeply nested dynamic containers in
+ * parallel, which used to block worker threads while waiting for dynamic
+ * tests to finish.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+public class NestedDynamicContainersBenchmarks {
+
+	@Param({ "4", "6" })
+	public int depth;
+
+	@Param({ "fork_join_pool", "virtual_threads" })
+	public String executor;
+
+	@Param({ "fixed", "adaptive" })
+	public String strategy;
+
+	private Launcher launcher;
+	private LauncherDiscoveryRequest request;
+
+	@Setup
+	public void createLauncher() {
+		NestedDynamicContainersTestCase.depth = depth;
+		launcher = LauncherFactory.create();
+		// @formatter:off
+		request = request()
+				.selectors(selectClass(NestedDynamicContainersTestCase.class))
+				.configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+				.configurationParameter("junit.jupiter.execution.parallel.config.executor", executor)
+				.configurationParameter("junit.jupiter.execution.parallel.config.strategy", strategy)
+				.configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+				.configurationParameter("junit.jupiter.execution.parallel.config.adaptive.max.parallelism", "4")
+				.build();
+		// @formatter:on
+	}
+
+	@Benchmark
+	public long executeNestedDynamicContainers() {
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		launcher.execute(request, listener);
+		if (listener.getSummary().getTotalFailureCount() > 0) {
+			throw new IllegalStateException("Dynamic tests failed");
+		}
+		return listener.getSummary().getTestsSucceededCount();
+	}
+
+	@Execution(ExecutionMode.CONCURRENT)
+	public static class NestedDynamicContainersTestCase {
+
+		private static final int WIDTH = 3;
+
+		static int depth;
+
+		@TestFactory
+		Stream<DynamicNode> nestedDynamicContainers() {
+			return dynamicNodes(depth);
+		}
+
+		private static Stream<DynamicNode> dynamicNodes(int depth) {
+			if (depth == 1) {
+				return IntStream.range(0, WIDTH).mapToObj(i -> dynamicTest("test" + i, () -> {
+				}));
+			}
+			return IntStream.range(0, WIDTH).mapToObj(
+				i -> dynamicContainer("container" + i, dynamicNodes(depth - 1)));
+		}
+	}
+
+}
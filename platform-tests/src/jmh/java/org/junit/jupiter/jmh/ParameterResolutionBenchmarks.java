@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.util.Collections.emptyList;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.DeterministicParameterResolver;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.execution.ExecutableInvoker;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for resolving the parameters of a test method with
+ * {@link ParameterResolver ParameterResolvers} that are registered on the
+ * test class, comparing regular resolvers with otherwise identical
+ * {@link DeterministicParameterResolver DeterministicParameterResolvers}.
+ *
+ * <p>The registry hierarchy resembles the one of an invocation of a
+ * {@code @RepeatedTest} method: the engine registry with the default
+ * extensions, a class registry with the resolvers, a method registry, and
+ * an invocation registry.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ParameterResolutionBenchmarks {
+
+	private final ExecutableInvoker executableInvoker = new ExecutableInvoker();
+	private final TestCase testCase = new TestCase();
+
+	private Method testMethod;
+	private ExtensionRegistry registryWithRegularResolvers;
+	private ExtensionRegistry registryWithDeterministicResolvers;
+
+	@Setup
+	public void createRegistries() throws Exception {
+		testMethod = TestCase.class.getDeclaredMethod("test", String.class, String.class, int.class);
+		registryWithRegularResolvers = createInvocationRegistry(new PrefixResolver(), new IndexResolver());
+		registryWithDeterministicResolvers = createInvocationRegistry(new DeterministicPrefixResolver(),
+			new DeterministicIndexResolver());
+	}
+
+	private static ExtensionRegistry createInvocationRegistry(ParameterResolver... resolvers) {
+		ExtensionRegistry engineRegistry = ExtensionRegistry.createRegistryWithDefaultExtensions(
+			new EmptyConfigurationParameters());
+		ExtensionRegistry classRegistry = ExtensionRegistry.createRegistryFrom(engineRegistry, emptyList());
+		for (ParameterResolver resolver : resolvers) {
+			classRegistry.registerExtension(resolver, resolver);
+		}
+		ExtensionRegistry methodRegistry = ExtensionRegistry.createRegistryFrom(classRegistry, emptyList());
+		return ExtensionRegistry.createRegistryFrom(methodRegistry, emptyList());
+	}
+
+	@Benchmark
+	public Object invokeWithRegularResolvers() {
+		return executableInvoker.invoke(testMethod, testCase, null, registryWithRegularResolvers);
+	}
+
+	@Benchmark
+	public Object invokeWithDeterministicResolvers() {
+		return executableInvoker.invoke(testMethod, testCase, null, registryWithDeterministicResolvers);
+	}
+
+	@Target(ElementType.PARAMETER)
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Prefix {
+	}
+
+	@Target(ElementType.PARAMETER)
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Index {
+	}
+
+	static class TestCase {
+
+		int test(@Prefix String first, @Prefix String second, @Index int index) {
+			return first.length() + second.length() + index;
+		}
+
+	}
+
+	static class PrefixResolver implements ParameterResolver {
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == String.class
+					&& parameterContext.isAnnotated(Prefix.class);
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return "prefix";
+		}
+
+	}
+
+	static class IndexResolver implements ParameterResolver {
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == int.class && parameterContext.isAnnotated(Index.class);
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getIndex();
+		}
+
+	}
+
+	static class DeterministicPrefixResolver extends PrefixResolver implements DeterministicParameterResolver {
+	}
+
+	static class DeterministicIndexResolver extends IndexResolver implements DeterministicParameterResolver {
+	}
+
+	private static class EmptyConfigurationParameters implements ConfigurationParameters {
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+
+	}
+
+}
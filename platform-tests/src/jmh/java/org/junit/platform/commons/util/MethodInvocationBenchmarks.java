@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks comparing the invocation of test methods and constructors
+ * via core reflection in {@link ReflectionUtils} with the invocation via
+ * method handles that are cached per {@link Executable}.
+ *
+ * <p>The {@code ViaCachedMethodHandle} benchmarks look up the method handle
+ * for every invocation, as an {@code ExecutableInvoker} backed by method
+ * handles would have to; the {@code ViaMethodHandle} benchmarks invoke a
+ * method handle that has been looked up in advance.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+public class MethodInvocationBenchmarks {
+
+	private final TestCase testCase = new TestCase();
+
+	private Method testMethod;
+	private Method parameterizedTestMethod;
+	private Constructor<TestCase> constructor;
+
+	private MethodHandle testMethodHandle;
+	private MethodHandle parameterizedTestMethodHandle;
+	private MethodHandle constructorHandle;
+
+	@Setup
+	public void findExecutables() throws Exception {
+		testMethod = TestCase.class.getDeclaredMethod("test");
+		parameterizedTestMethod = TestCase.class.getDeclaredMethod("parameterizedTest", int.class, String.class);
+		constructor = TestCase.class.getDeclaredConstructor();
+
+		testMethodHandle = MethodHandleCache.get(testMethod);
+		parameterizedTestMethodHandle = MethodHandleCache.get(parameterizedTestMethod);
+		constructorHandle = MethodHandleCache.get(constructor);
+	}
+
+	@Benchmark
+	public Object invokeTestMethodViaReflection() {
+		return ReflectionUtils.invokeMethod(testMethod, testCase);
+	}
+
+	@Benchmark
+	public Object invokeTestMethodViaCachedMethodHandle() throws Throwable {
+		return (Object) MethodHandleCache.get(testMethod).invokeExact((Object) testCase, new Object[0]);
+	}
+
+	@Benchmark
+	public Object invokeTestMethodViaMethodHandle() throws Throwable {
+		return (Object) testMethodHandle.invokeExact((Object) testCase, new Object[0]);
+	}
+
+	@Benchmark
+	public Object invokeParameterizedTestMethodViaReflection() {
+		return ReflectionUtils.invokeMethod(parameterizedTestMethod, testCase, 42, "answer");
+	}
+
+	@Benchmark
+	public Object invokeParameterizedTestMethodViaCachedMethodHandle() throws Throwable {
+		return (Object) MethodHandleCache.get(parameterizedTestMethod).invokeExact((Object) testCase,
+			new Object[] { 42, "answer" });
+	}
+
+	@Benchmark
+	public Object invokeParameterizedTestMethodViaMethodHandle() throws Throwable {
+		return (Object) parameterizedTestMethodHandle.invokeExact((Object) testCase, new Object[] { 42, "answer" });
+	}
+
+	@Benchmark
+	public Object instantiateTestClassViaReflection() {
+		return ReflectionUtils.newInstance(constructor);
+	}
+
+	@Benchmark
+	public Object instantiateTestClassViaCachedMethodHandle() throws Throwable {
+		return (Object) MethodHandleCache.get(constructor).invokeExact((Object) null, new Object[0]);
+	}
+
+	@Benchmark
+	public Object instantiateTestClassViaMethodHandle() throws Throwable {
+		return (Object) constructorHandle.invokeExact((Object) null, new Object[0]);
+	}
+
+	/**
+	 * Method handles of type {@code (Object target, Object[] args)Object},
+	 * cached per executable in a {@link ClassValue} of its declaring class.
+	 */
+	static final class MethodHandleCache {
+
+		private static final MethodType INVOKER_TYPE = methodType(Object.class, Object.class, Object[].class);
+
+		private static final ClassValue<ConcurrentMap<Executable, MethodHandle>> handles = //
+				new ClassValue<ConcurrentMap<Executable, MethodHandle>>() {
+
+					@Override
+					protected ConcurrentMap<Executable, MethodHandle> computeValue(Class<?> type) {
+						return new ConcurrentHashMap<>();
+					}
+				};
+
+		static MethodHandle get(Executable executable) {
+			return handles.get(executable.getDeclaringClass()).computeIfAbsent(executable, MethodHandleCache::create);
+		}
+
+		private static MethodHandle create(Executable executable) {
+			try {
+				ReflectionUtils.makeAccessible(executable);
+				MethodHandle handle = executable instanceof Method
+						? MethodHandles.lookup().unreflect((Method) executable)
+						: MethodHandles.lookup().unreflectConstructor((Constructor<?>) executable);
+				int parameterCount = executable.getParameterCount();
+				boolean hasTarget = handle.type().parameterCount() > parameterCount;
+				MethodHandle invoker = handle.asFixedArity().asType(
+					genericMethodType(handle.type().parameterCount())).asSpreader(Object[].class, parameterCount);
+				if (!hasTarget) {
+					invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+				}
+				return invoker.asType(INVOKER_TYPE);
+			}
+			catch (IllegalAccessException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+	static class TestCase {
+
+		private int invocations;
+
+		private void test() {
+			invocations++;
+		}
+
+		private int parameterizedTest(int number, String text) {
+			return number + text.length() + invocations;
+		}
+	}
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for finding methods, fields, and annotations in a class
+ * hierarchy that is ten levels deep, with and without the
+ * {@link ReflectionCache}.
+ *
+ * <p>The {@code uncached} variants call the methods that compute the results
+ * directly. Annotations are thus searched without consulting the cache at
+ * all, whereas the methods and fields of superclasses are still looked up in
+ * the cache.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+public class ReflectionCacheBenchmarks {
+
+	private Method method;
+
+	@Setup
+	public void findMethod() throws Exception {
+		method = Level9.class.getDeclaredMethod("method9");
+	}
+
+	@Benchmark
+	public List<Method> findAnnotatedMethods() {
+		return AnnotationUtils.findAnnotatedMethods(Level9.class, Marker.class, HierarchyTraversalMode.TOP_DOWN);
+	}
+
+	@Benchmark
+	public List<Method> findAnnotatedMethodsUncached() {
+		// @formatter:off
+		return ReflectionUtils.computeAllMethodsInHierarchy(Level9.class, HierarchyTraversalMode.TOP_DOWN).stream()
+				.filter(method -> AnnotationUtils.computeAnnotation(method, Marker.class).isPresent())
+				.collect(toList());
+		// @formatter:on
+	}
+
+	@Benchmark
+	public List<Field> findAnnotatedFields() {
+		return AnnotationUtils.findAnnotatedFields(Level9.class, Marker.class, field -> true,
+			HierarchyTraversalMode.TOP_DOWN);
+	}
+
+	@Benchmark
+	public List<Field> findAnnotatedFieldsUncached() {
+		// @formatter:off
+		return ReflectionUtils.computeAllFieldsInHierarchy(Level9.class, HierarchyTraversalMode.TOP_DOWN).stream()
+				.filter(field -> AnnotationUtils.computeAnnotation(field, Marker.class).isPresent())
+				.collect(toList());
+		// @formatter:on
+	}
+
+	@Benchmark
+	public void findMetaAnnotations(Blackhole blackhole) {
+		blackhole.consume(AnnotationUtils.findAnnotation(Level9.class, Marker.class));
+		blackhole.consume(AnnotationUtils.findAnnotation(method, Marker.class));
+		blackhole.consume(AnnotationUtils.findAnnotation(method, Unused.class));
+	}
+
+	@Benchmark
+	public void findMetaAnnotationsUncached(Blackhole blackhole) {
+		blackhole.consume(AnnotationUtils.computeAnnotation(Level9.class, Marker.class));
+		blackhole.consume(AnnotationUtils.computeAnnotation(method, Marker.class));
+		blackhole.consume(AnnotationUtils.computeAnnotation(method, Unused.class));
+	}
+
+	@Benchmark
+	public List<Tag> findRepeatableAnnotations() {
+		return AnnotationUtils.findRepeatableAnnotations(Level9.class, Tag.class);
+	}
+
+	@Benchmark
+	public List<Tag> findRepeatableAnnotationsUncached() {
+		return AnnotationUtils.computeRepeatableAnnotations(Level9.class, Tag.class, Tags.class);
+	}
+
+	@Benchmark
+	public Optional<Unused> findMissingInheritedAnnotation() {
+		return AnnotationUtils.findAnnotation(Level9.class, Unused.class);
+	}
+
+	@Benchmark
+	public Optional<Unused> findMissingInheritedAnnotationUncached() {
+		return AnnotationUtils.computeAnnotation(Level9.class, Unused.class);
+	}
+
+	@Retention(RUNTIME)
+	@Inherited
+	@interface Marker {
+	}
+
+	@Retention(RUNTIME)
+	@Inherited
+	@interface Unused {
+	}
+
+	@Retention(RUNTIME)
+	@Marker
+	@interface ComposedMarker {
+	}
+
+	@Retention(RUNTIME)
+	@Inherited
+	@Repeatable(Tags.class)
+	@interface Tag {
+
+		String value();
+	}
+
+	@Retention(RUNTIME)
+	@Inherited
+	@interface Tags {
+
+		Tag[] value();
+	}
+
+	interface Interface0 {
+
+		@Marker
+		default void interfaceMethod0() {
+		}
+	}
+
+	interface Interface1 extends Interface0 {
+
+		@ComposedMarker
+		default void interfaceMethod1() {
+		}
+	}
+
+	@Tag("level0")
+	static class Level0 implements Interface1 {
+
+		@Marker
+		String field0;
+
+		@Marker
+		void method0() {
+		}
+
+		void helper0() {
+		}
+	}
+
+	@Tag("level1")
+	static class Level1 extends Level0 {
+
+		@Marker
+		String field1;
+
+		@ComposedMarker
+		void method1() {
+		}
+
+		void helper1() {
+		}
+	}
+
+	static class Level2 extends Level1 {
+
+		@Marker
+		String field2;
+
+		@Marker
+		void method2() {
+		}
+
+		void helper2() {
+		}
+	}
+
+	@Tag("level3")
+	static class Level3 extends Level2 implements Interface0 {
+
+		@Marker
+		String field3;
+
+		@ComposedMarker
+		void method3() {
+		}
+
+		void helper3() {
+		}
+	}
+
+	static class Level4 extends Level3 {
+
+		@Marker
+		String field4;
+
+		@Marker
+		void method4() {
+		}
+
+		void helper4() {
+		}
+	}
+
+	static class Level5 extends Level4 {
+
+		@Marker
+		String field5;
+
+		@ComposedMarker
+		void method5() {
+		}
+
+		void helper5() {
+		}
+	}
+
+	@Tag("level6")
+	static class Level6 extends Level5 {
+
+		@Marker
+		String field6;
+
+		@Marker
+		void method6() {
+		}
+
+		void helper6() {
+		}
+	}
+
+	static class Level7 extends Level6 {
+
+		@Marker
+		String field7;
+
+		@ComposedMarker
+		void method7() {
+		}
+
+		void helper7() {
+		}
+	}
+
+	static class Level8 extends Level7 {
+
+		@Marker
+		String field8;
+
+		@Marker
+		void method8() {
+		}
+
+		void helper8() {
+		}
+	}
+
+	@ComposedMarker
+	static class Level9 extends Level8 {
+
+		@Marker
+		String field9;
+
+		@ComposedMarker
+		void method9() {
+		}
+
+		void helper9() {
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for creating, hashing, comparing, and formatting
+ * {@link UniqueId UniqueIds} of a deep test hierarchy.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+public class UniqueIdBenchmarks {
+
+	private static final int DEPTH = 8;
+
+	private final UniqueId parent = create(DEPTH - 1);
+	private final UniqueId uniqueId = parent.append("method", "test()");
+	private final UniqueId equalUniqueId = create(DEPTH - 1).append("method", "test()");
+	private final UniqueId sibling = parent.append("method", "otherTest()");
+
+	private static UniqueId create(int depth) {
+		UniqueId uniqueId = UniqueId.forEngine("junit-jupiter");
+		for (int i = 1; i < depth; i++) {
+			uniqueId = uniqueId.append("nested-class", "Level" + i);
+		}
+		return uniqueId;
+	}
+
+	@Benchmark
+	public UniqueId append() {
+		return parent.append("method", "test()");
+	}
+
+	@Benchmark
+	public int hashCodeOfUniqueId() {
+		return uniqueId.hashCode();
+	}
+
+	@Benchmark
+	public boolean equalsWithEqualUniqueId() {
+		return uniqueId.equals(equalUniqueId);
+	}
+
+	@Benchmark
+	public boolean equalsWithSibling() {
+		return uniqueId.equals(sibling);
+	}
+
+	@Benchmark
+	public boolean hasPrefix() {
+		return uniqueId.hasPrefix(parent);
+	}
+
+	@Benchmark
+	public String toStringOfUniqueId() {
+		return uniqueId.toString();
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for computing and looking up resource locks of a test tree
+ * consisting of 100,000 nodes.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+public class NodeTreeWalkerBenchmarks {
+
+	private static final int CONTAINERS = 1_000;
+	private static final int TESTS_PER_CONTAINER = 99;
+
+	private static final Set<ExclusiveResource> SYSTEM_PROPERTIES_READ = singleton(
+		new ExclusiveResource("java.lang.System.properties", READ));
+	private static final Set<ExclusiveResource> SHARED_READ_WRITE = singleton(
+		new ExclusiveResource("shared", READ_WRITE));
+
+	private TestDescriptor engineDescriptor;
+	private List<TestDescriptor> testDescriptors;
+	private NodeExecutionAdvisor advisor;
+
+	@Setup
+	public void createTestTree() {
+		UniqueId engineId = UniqueId.forEngine("benchmark");
+		engineDescriptor = new EngineDescriptor(engineId, "Benchmark");
+		testDescriptors = new ArrayList<>(CONTAINERS * (TESTS_PER_CONTAINER + 1));
+		for (int i = 0; i < CONTAINERS; i++) {
+			Set<ExclusiveResource> containerResources = i % 100 == 0 ? SHARED_READ_WRITE : emptySet();
+			BenchmarkDescriptor container = new BenchmarkDescriptor(engineId.append("container", "c" + i),
+				containerResources);
+			engineDescriptor.addChild(container);
+			testDescriptors.add(container);
+			for (int j = 0; j < TESTS_PER_CONTAINER; j++) {
+				Set<ExclusiveResource> testResources = j % 10 == 0 ? SYSTEM_PROPERTIES_READ : emptySet();
+				BenchmarkDescriptor test = new BenchmarkDescriptor(container.getUniqueId().append("test", "t" + j),
+					testResources);
+				container.addChild(test);
+				testDescriptors.add(test);
+			}
+		}
+		advisor = new NodeTreeWalker().walk(engineDescriptor);
+	}
+
+	@Benchmark
+	public NodeExecutionAdvisor walk() {
+		return new NodeTreeWalker().walk(engineDescriptor);
+	}
+
+	@Benchmark
+	public void getResourceLock(Blackhole blackhole) {
+		for (TestDescriptor testDescriptor : testDescriptors) {
+			blackhole.consume(advisor.getResourceLock(testDescriptor));
+		}
+	}
+
+	@Benchmark
+	public void getForcedExecutionMode(Blackhole blackhole) {
+		for (TestDescriptor testDescriptor : testDescriptors) {
+			blackhole.consume(advisor.getForcedExecutionMode(testDescriptor));
+		}
+	}
+
+	private static class BenchmarkDescriptor extends AbstractTestDescriptor
+			implements Node<EngineExecutionContext> {
+
+		private final Set<ExclusiveResource> exclusiveResources;
+
+		BenchmarkDescriptor(UniqueId uniqueId, Set<ExclusiveResource> exclusiveResources) {
+			super(uniqueId, uniqueId.toString());
+			this.exclusiveResources = exclusiveResources;
+		}
+
+		@Override
+		public Type getType() {
+			return Type.CONTAINER_AND_TEST;
+		}
+
+		@Override
+		public Set<ExclusiveResource> getExclusiveResources() {
+			return exclusiveResources;
+		}
+
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks for capturing output of concurrently executed tests via a
+ * {@link StreamInterceptor}.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class StreamInterceptorBenchmarks {
+
+	private static final int LINES_PER_TEST = 20;
+
+	@Param({ "true", "false" })
+	public boolean passThrough;
+
+	private StreamInterceptor streamInterceptor;
+
+	@Setup
+	public void registerStreamInterceptor() {
+		PrintStream originalStream = new PrintStream(new OutputStream() {
+
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		});
+		streamInterceptor = StreamInterceptor.register(originalStream, stream -> {
+		}, 4 * 1024 * 1024, passThrough).orElseThrow(IllegalStateException::new);
+	}
+
+	@Benchmark
+	public String captureOutputOfTest() {
+		streamInterceptor.capture();
+		for (int i = 0; i < LINES_PER_TEST; i++) {
+			streamInterceptor.println("Some output of a chatty test that is captured");
+		}
+		return streamInterceptor.consume();
+	}
+
+}
@@ -116,6 +116,28 @@ class AnnotationUtilsTests {
 		assertThat(findAnnotation(SubInheritedComposedAnnotationClass.class, Annotation1.class)).isPresent();
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void findAnnotationMetaPresentViaCycleOnAnnotationWhoseEarlierSearchWasCutShort() {
+		// Searching CycleStart visits CycleMiddle, whose only meta-annotation
+		// has already been visited at that point.
+		assertThat(findAnnotation(CycleStartClass.class, Annotation1.class)).isPresent();
+		assertThat(findAnnotation(CycleMiddleClass.class, Annotation1.class)).isPresent();
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void findAnnotationRemembersAnnotationTypesThatCannotContainSearchedAnnotation() {
+		assertThat(findAnnotation(ComposedAnnotationClass.class, Annotation2.class)).isEmpty();
+
+		assertTrue(MetaAnnotationCache.cannotContain(ComposedAnnotation.class, Annotation2.class));
+		assertFalse(MetaAnnotationCache.cannotContain(ComposedAnnotation.class, Annotation1.class));
+	}
+
 	@Test
 	void findAnnotationDirectlyPresentOnImplementedInterface() {
 		assertThat(findAnnotation(TestingTraitClass.class, Annotation1.class)).isPresent();
@@ -589,6 +611,22 @@ class AnnotationUtilsTests {
 	@interface FastAndSmoky {
 	}
 
+	@Retention(RetentionPolicy.RUNTIME)
+	@CycleMiddle
+	@CycleEnd
+	@interface CycleStart {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@CycleStart
+	@interface CycleMiddle {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Annotation1
+	@interface CycleEnd {
+	}
+
 	@Target({ ElementType.TYPE, ElementType.METHOD })
 	@Retention(RetentionPolicy.RUNTIME)
 	@Inherited
@@ -626,6 +664,14 @@ class AnnotationUtilsTests {
 	}
 
 	@AnnotationWithDefaultValue
+	@CycleStart
+	static class CycleStartClass {
+	}
+
+	@CycleMiddle
+	static class CycleMiddleClass {
+	}
+
 	static class AnnotationWithDefaultValueClass {
 	}
 
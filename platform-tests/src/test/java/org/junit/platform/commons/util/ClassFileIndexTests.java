@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+
+/**
+ * Unit tests for {@link ClassFileIndex}.
+ *
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class ClassFileIndexTests {
+
+	private static final URI BASE_URI = URI.create("file:/classes/");
+
+	private Path indexDirectory;
+	private Path testClassFile;
+	private Path nonTestClassFile;
+
+	@BeforeEach
+	void copyClassFiles(@TempDir Path tempDir) throws Exception {
+		indexDirectory = tempDir.resolve("index");
+		Path classesDirectory = Files.createDirectory(tempDir.resolve("classes"));
+		testClassFile = copyClassFile(ClassFileIndexTests.class, classesDirectory.resolve("Test.class"));
+		nonTestClassFile = copyClassFile(NonTestClass.class, classesDirectory.resolve("NonTest.class"));
+	}
+
+	@Test
+	void inspectsClassFilesThatAreNotIndexed() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+
+		assertThat(index.mayContainTests(testClassFile, "Test.class")).isTrue();
+		assertThat(index.mayContainTests(nonTestClassFile, "NonTest.class")).isFalse();
+	}
+
+	@Test
+	void reusesIndexedResultsForUnchangedClassFiles() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests(nonTestClassFile, "NonTest.class");
+		index.store();
+
+		overwriteKeepingSizeAndLastModifiedTime(nonTestClassFile);
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+		assertThat(reloadedIndex.mayContainTests(nonTestClassFile, "NonTest.class")).isFalse();
+	}
+
+	@Test
+	void inspectsChangedClassFilesAgain() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests(nonTestClassFile, "NonTest.class");
+		index.store();
+
+		Files.copy(testClassFile, nonTestClassFile, StandardCopyOption.REPLACE_EXISTING);
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+		assertThat(reloadedIndex.mayContainTests(nonTestClassFile, "NonTest.class")).isTrue();
+	}
+
+	@Test
+	void reusesIndexedResultsForClassFilesWithUnchangedSizeAndFingerprint() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests("NonTest.class", 42, 0xCAFEL, () -> Files.newInputStream(nonTestClassFile));
+		index.store();
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+		assertThat(reloadedIndex.mayContainTests("NonTest.class", 42, 0xCAFEL,
+			() -> Files.newInputStream(testClassFile))).isFalse();
+	}
+
+	@Test
+	void inspectsClassFilesWithChangedFingerprintAgain() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests("NonTest.class", 42, 0xCAFEL, () -> Files.newInputStream(nonTestClassFile));
+		index.store();
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+		assertThat(reloadedIndex.mayContainTests("NonTest.class", 42, 0xBABEL,
+			() -> Files.newInputStream(testClassFile))).isTrue();
+	}
+
+	@Test
+	void neverIndexesClassFilesWithUnknownFingerprint() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests("NonTest.class", 42, ClassFileIndex.UNKNOWN_FINGERPRINT,
+			() -> Files.newInputStream(nonTestClassFile));
+		index.store();
+
+		assertThat(readIndexFile()).hasSize(1);
+	}
+
+	@Test
+	void storesOnlyEntriesOfClassFilesInspectedOrRetainedSinceLoading() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests(testClassFile, "Test.class");
+		index.mayContainTests(nonTestClassFile, "NonTest.class");
+		index.store();
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+		reloadedIndex.mayContainTests(testClassFile, "Test.class");
+		reloadedIndex.store();
+
+		List<String> lines = readIndexFile();
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(1)).endsWith("\tTest.class");
+	}
+
+	@Test
+	void retainsEntriesOfClassFilesThatWereFoundButNotInspected() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests(testClassFile, "Test.class");
+		index.mayContainTests(nonTestClassFile, "NonTest.class");
+		index.store();
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+		reloadedIndex.retain("Test.class");
+		reloadedIndex.retain("NonTest.class");
+		reloadedIndex.mayContainTests(testClassFile, "Test.class");
+		reloadedIndex.store();
+
+		overwriteKeepingSizeAndLastModifiedTime(nonTestClassFile);
+
+		ClassFileIndex indexOfNextRun = ClassFileIndex.load(indexDirectory, BASE_URI);
+		assertThat(readIndexFile()).hasSize(3);
+		assertThat(indexOfNextRun.mayContainTests(nonTestClassFile, "NonTest.class")).isFalse();
+	}
+
+	@Test
+	void usesSeparateIndexFilesPerBaseUri() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests(nonTestClassFile, "NonTest.class");
+		index.store();
+
+		overwriteKeepingSizeAndLastModifiedTime(nonTestClassFile);
+
+		ClassFileIndex otherIndex = ClassFileIndex.load(indexDirectory, URI.create("file:/other/"));
+		assertThrows(IOException.class, () -> otherIndex.mayContainTests(nonTestClassFile, "NonTest.class"));
+	}
+
+	@Test
+	void ignoresCorruptIndexFile() throws Exception {
+		ClassFileIndex index = ClassFileIndex.load(indexDirectory, BASE_URI);
+		index.mayContainTests(testClassFile, "Test.class");
+		index.store();
+		Path indexFile = getIndexFile();
+		Files.write(indexFile, Arrays.asList(readIndexFile().get(0), "corrupt"), UTF_8);
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(indexDirectory, BASE_URI);
+
+		assertThat(reloadedIndex.mayContainTests(testClassFile, "Test.class")).isTrue();
+	}
+
+	@Test
+	void transientIndexIsNotStored() throws Exception {
+		ClassFileIndex index = ClassFileIndex.transientIndex();
+		index.mayContainTests(testClassFile, "Test.class");
+		index.store();
+
+		assertThat(indexDirectory).doesNotExist();
+	}
+
+	private List<String> readIndexFile() throws IOException {
+		return Files.readAllLines(getIndexFile(), UTF_8);
+	}
+
+	private Path getIndexFile() throws IOException {
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			List<Path> indexFiles = files.collect(Collectors.toList());
+			assertThat(indexFiles).hasSize(1);
+			return indexFiles.get(0);
+		}
+	}
+
+	private static Path copyClassFile(Class<?> type, Path target) throws IOException {
+		try (InputStream inputStream = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+			Files.copy(inputStream, target);
+		}
+		return target;
+	}
+
+	private static void overwriteKeepingSizeAndLastModifiedTime(Path file) throws IOException {
+		FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+		Files.write(file, new byte[(int) Files.size(file)]);
+		Files.setLastModifiedTime(file, lastModifiedTime);
+	}
+
+	static class NonTestClass {
+	}
+
+}
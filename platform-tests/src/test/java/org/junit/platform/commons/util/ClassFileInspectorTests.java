@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClassFileInspector}.
+ *
+ * @since 1.4
+ */
+class ClassFileInspectorTests {
+
+	@Test
+	void classWithoutAnyMembersCannotContainTests() throws Exception {
+		assertThat(mayContainTests(EmptyClass.class)).isFalse();
+	}
+
+	@Test
+	void classWithUnannotatedMembersCannotContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithUnannotatedMembers.class)).isFalse();
+	}
+
+	@Test
+	void classWithOnlyJavaAnnotationsCannotContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithJavaAnnotations.class)).isFalse();
+	}
+
+	@Test
+	void classWithAnnotatedMethodMayContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithAnnotatedMethod.class)).isTrue();
+	}
+
+	@Test
+	void classWithMultipleAnnotatedMethodsMayContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithMultipleAnnotatedMethods.class)).isTrue();
+	}
+
+	@Test
+	void classWithAnnotatedFieldMayContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithAnnotatedField.class)).isTrue();
+	}
+
+	@Test
+	void annotatedClassMayContainTests() throws Exception {
+		assertThat(mayContainTests(AnnotatedClass.class)).isTrue();
+	}
+
+	@Test
+	void subclassMayContainTests() throws Exception {
+		assertThat(mayContainTests(Subclass.class)).isTrue();
+	}
+
+	@Test
+	void classImplementingInterfaceMayContainTests() throws Exception {
+		assertThat(mayContainTests(ClassImplementingInterface.class)).isTrue();
+	}
+
+	@Test
+	void classWithMemberClassMayContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithMemberClass.class)).isTrue();
+	}
+
+	@Test
+	void classWithSuiteMethodMayContainTests() throws Exception {
+		assertThat(mayContainTests(ClassWithSuiteMethod.class)).isTrue();
+	}
+
+	@Test
+	void classWithConstantsOfAllTypesIsParsed() throws Exception {
+		assertThat(mayContainTests(ClassWithConstants.class)).isFalse();
+	}
+
+	@Test
+	void malformedClassFileIsRejected() {
+		byte[] bytes = { 1, 2, 3, 4, 5, 6, 7, 8 };
+		assertThrows(IOException.class, () -> ClassFileInspector.mayContainTests(new ByteArrayInputStream(bytes)));
+	}
+
+	@Test
+	void truncatedClassFileIsRejected() throws Exception {
+		byte[] bytes;
+		try (InputStream inputStream = openClassFile(ClassWithAnnotatedMethod.class)) {
+			bytes = new byte[20];
+			inputStream.read(bytes);
+		}
+		assertThrows(IOException.class, () -> ClassFileInspector.mayContainTests(new ByteArrayInputStream(bytes)));
+	}
+
+	private static boolean mayContainTests(Class<?> type) throws IOException {
+		try (InputStream inputStream = openClassFile(type)) {
+			return ClassFileInspector.mayContainTests(inputStream);
+		}
+	}
+
+	private static InputStream openClassFile(Class<?> type) {
+		return type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class");
+	}
+
+	static class EmptyClass {
+	}
+
+	static class ClassWithUnannotatedMembers {
+
+		String field;
+
+		void method(String parameter) {
+		}
+	}
+
+	static class ClassWithJavaAnnotations {
+
+		@Deprecated
+		String field;
+
+		@Deprecated
+		void method() {
+		}
+	}
+
+	static class ClassWithAnnotatedMethod {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class ClassWithMultipleAnnotatedMethods {
+
+		@Tag("first")
+		@Test
+		void first() {
+		}
+
+		@Tag("second")
+		@Test
+		void second() {
+		}
+	}
+
+	static class ClassWithAnnotatedField {
+
+		@FieldMarker
+		String field;
+	}
+
+	@Tag("class")
+	static class AnnotatedClass {
+	}
+
+	static class Subclass extends EmptyClass {
+	}
+
+	static class ClassImplementingInterface implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	static class ClassWithMemberClass {
+
+		static class MemberClass {
+		}
+	}
+
+	static class ClassWithSuiteMethod {
+
+		static Object suite() {
+			return null;
+		}
+	}
+
+	@Retention(RUNTIME)
+	@interface FieldMarker {
+	}
+
+	static class ClassWithConstants {
+
+		static final long LONG = 42L;
+		static final double DOUBLE = 4.2d;
+		static final float FLOAT = 4.2f;
+		static final int INT = 42;
+
+		long longValue = System.nanoTime() + 123_456_789_012L;
+		double doubleValue = Math.random() + 1.23456789d;
+		float floatValue = (float) Math.random() + 1.2345f;
+		int intValue = (int) Math.random() + 123_456_789;
+		String stringValue = "value" + System.nanoTime();
+		Runnable runnable = () -> System.out.println(this.stringValue);
+	}
+
+}
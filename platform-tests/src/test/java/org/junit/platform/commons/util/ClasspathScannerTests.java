@@ -10,6 +10,7 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.Comparator.comparing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -25,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -51,7 +53,7 @@ class ClasspathScannerTests {
 
 	private static final ClassFilter allClasses = ClassFilter.of(type -> true);
 
-	private final List<Class<?>> loadedClasses = new ArrayList<>();
+	private final List<Class<?>> loadedClasses = Collections.synchronizedList(new ArrayList<>());
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> trackingClassLoader = (name,
 			classLoader) -> ReflectionUtils.tryToLoadClass(name, classLoader).ifSuccess(loadedClasses::add);
@@ -171,6 +173,66 @@ class ClasspathScannerTests {
 		}
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void readsOnlyJarFilesOnDefaultFileSystemFromTheirCentralDirectory() throws Exception {
+		URI jarfile = getClass().getResource("/jartest.jar").toURI();
+		URI directoryInJarFile = new URI("jar:" + jarfile + "!/org/junit/platform/jartest/");
+		URI nestedJarFile = new URI("jar:" + jarfile + "!/BOOT-INF/lib/nested.jar!/");
+
+		assertThat(ClasspathScanner.JarFileRoot.from(directoryInJarFile)).hasValueSatisfying(
+			root -> assertThat(root.entryPrefix).isEqualTo("org/junit/platform/jartest/"));
+		assertThat(ClasspathScanner.JarFileRoot.from(nestedJarFile)).isEmpty();
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileInParallel() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader,
+				ReflectionUtils::tryToLoadClass);
+
+			List<Class<?>> sequential = classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(), allClasses);
+			List<Class<?>> parallel = classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(), allClasses, 4);
+
+			assertThat(parallel).hasSize(3).containsExactlyInAnyOrderElementsOf(sequential).isSortedAccordingTo(
+				comparing(Class::getName));
+		}
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void doesNotLoadClassesInJarFileThatCannotContainTestsIfBytecodePrefilterIsEnabled(@TempDir Path tempDir)
+			throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+		List<String> loadedClassNames = Collections.synchronizedList(new ArrayList<>());
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, (name, loader) -> {
+				loadedClassNames.add(name);
+				return ReflectionUtils.tryToLoadClass(name, loader);
+			});
+
+			assertThat(classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(),
+				allClasses.withBytecodePrefilter())).isEmpty();
+			assertThat(classpathScanner.scanForClassesInPackage("org.junit.platform.jartest",
+				allClasses.withBytecodePrefilter(tempDir))).isEmpty();
+			assertThat(classpathScanner.scanForClassesInPackage("org.junit.platform.jartest",
+				allClasses.withBytecodePrefilter(tempDir))).isEmpty();
+			assertThat(loadedClassNames).isEmpty();
+			assertThat(Files.list(tempDir).count()).isEqualTo(1);
+		}
+	}
+
 	@Test
 	void scanForClassesInPackage() {
 		List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
@@ -327,6 +389,117 @@ class ClasspathScannerTests {
 		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void doesNotLoadClassesInClasspathRootThatCannotContainTestsIfBytecodePrefilterIsEnabled() throws Exception {
+		ClassFilter classFilter = ClassFilter.of(name -> name.startsWith(ClasspathScannerTests.class.getName()),
+			type -> true).withBytecodePrefilter();
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(), classFilter);
+
+		assertThat(classes).contains(ClasspathScannerTests.class, ThrowingClassLoader.class);
+		assertThat(loadedClasses).doesNotContain(NestedClassToBeFound.class, MemberClassToBeFound.class,
+			ClassForMalformedClassNameSimulation.class);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void findsSameClassesInClasspathRootWhenReusingBytecodePrefilterIndex(@TempDir Path tempDir) throws Exception {
+		ClassFilter classFilter = ClassFilter.of(name -> name.startsWith(ClasspathScannerTests.class.getName()),
+			type -> true).withBytecodePrefilter(tempDir);
+		URI root = getTestClasspathRoot();
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(root, classFilter);
+		List<Class<?>> classesUsingIndex = classpathScanner.scanForClassesInClasspathRoot(root, classFilter);
+
+		assertThat(classes).contains(ClasspathScannerTests.class).doesNotContain(NestedClassToBeFound.class);
+		assertThat(classesUsingIndex).isEqualTo(classes);
+		assertThat(Files.list(tempDir).count()).isEqualTo(1);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void retainsBytecodePrefilterIndexEntriesOfClassesExcludedByClassNameFilter(@TempDir Path tempDir)
+			throws Exception {
+		URI root = getTestClasspathRoot();
+		ClassFilter allClassesFilter = ClassFilter.of(name -> true, type -> true).withBytecodePrefilter(tempDir);
+		ClassFilter singleClassFilter = ClassFilter.of(name -> ClasspathScannerTests.class.getName().equals(name),
+			type -> true).withBytecodePrefilter(tempDir);
+
+		classpathScanner.scanForClassesInClasspathRoot(root, allClassesFilter);
+		Path indexFile = Files.list(tempDir).findFirst().get();
+		List<String> entries = Files.readAllLines(indexFile);
+		classpathScanner.scanForClassesInClasspathRoot(root, singleClassFilter);
+
+		assertThat(entries.size()).isGreaterThanOrEqualTo(150);
+		assertThat(Files.readAllLines(indexFile)).containsExactlyInAnyOrderElementsOf(entries);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void loadsAllClassesInClasspathRootIfBytecodePrefilterIsDisabled() throws Exception {
+		ClassFilter classFilter = ClassFilter.of(name -> name.startsWith(ClasspathScannerTests.class.getName()),
+			type -> true);
+
+		classpathScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(), classFilter);
+
+		assertThat(loadedClasses).contains(ClasspathScannerTests.class, NestedClassToBeFound.class,
+			MemberClassToBeFound.class, ClassForMalformedClassNameSimulation.class);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void scanForClassesInClasspathRootInParallelFindsSameClassesSortedByName() throws Exception {
+		URI root = getTestClasspathRoot();
+		List<Class<?>> sequential = classpathScanner.scanForClassesInClasspathRoot(root, allClasses);
+
+		List<Class<?>> parallel = classpathScanner.scanForClassesInClasspathRoot(root, allClasses, 4);
+
+		assertThat(parallel.size()).isGreaterThanOrEqualTo(150);
+		assertThat(parallel).containsExactlyInAnyOrderElementsOf(sequential).isSortedAccordingTo(
+			comparing(Class::getName));
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void scanForClassesInPackageInParallelFindsSameClassesSortedByName() {
+		List<Class<?>> sequential = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+
+		List<Class<?>> parallel = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses,
+			4);
+
+		assertThat(parallel).contains(ClasspathScannerTests.class).containsExactlyInAnyOrderElementsOf(
+			sequential).isSortedAccordingTo(comparing(Class::getName));
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void scanForClassesInClasspathRootInParallelOnlyLoadsClassesThatAreIncludedByTheClassNameFilter()
+			throws Exception {
+		ClassFilter classFilter = ClassFilter.of(name -> ClasspathScannerTests.class.getName().equals(name),
+			type -> true);
+
+		classpathScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(), classFilter, 4);
+
+		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
+	}
+
 	private URI getTestClasspathRoot() throws Exception {
 		URL location = getClass().getProtectionDomain().getCodeSource().getLocation();
 		return location.toURI();
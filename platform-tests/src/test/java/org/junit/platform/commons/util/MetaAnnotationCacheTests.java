@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MetaAnnotationCache}.
+ *
+ * @since 1.4
+ */
+class MetaAnnotationCacheTests {
+
+	@Test
+	void remembersAbsentAnnotationTypesPerCandidate() {
+		MetaAnnotationCache cache = new MetaAnnotationCache(MetaAnnotationCache.MAX_NUMBER_OF_IDS);
+
+		cache.markAbsent(Retention.class, Documented.class);
+
+		assertTrue(cache.isKnownAbsent(Retention.class, Documented.class));
+		assertFalse(cache.isKnownAbsent(Retention.class, Inherited.class));
+		assertFalse(cache.isKnownAbsent(Deprecated.class, Documented.class));
+	}
+
+	@Test
+	void forgetsAbsentAnnotationTypesOnceAllIdsOfGenerationHaveBeenAssigned() {
+		MetaAnnotationCache cache = new MetaAnnotationCache(2);
+		cache.markAbsent(Retention.class, Documented.class);
+		cache.markAbsent(Retention.class, Inherited.class);
+		assertTrue(cache.isKnownAbsent(Retention.class, Documented.class));
+		assertTrue(cache.isKnownAbsent(Retention.class, Inherited.class));
+
+		// reuses the first id in the next generation
+		assertFalse(cache.isKnownAbsent(Retention.class, Deprecated.class));
+		assertFalse(cache.isKnownAbsent(Retention.class, Documented.class));
+
+		cache.markAbsent(Retention.class, Deprecated.class);
+		assertTrue(cache.isKnownAbsent(Retention.class, Deprecated.class));
+		assertFalse(cache.isKnownAbsent(Retention.class, Documented.class));
+		assertFalse(cache.isKnownAbsent(Retention.class, Inherited.class));
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ParallelUtils}.
+ *
+ * @since 1.4
+ */
+class ParallelUtilsTests {
+
+	@Test
+	void mapInParallelWithNullElements() {
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> ParallelUtils.mapInParallel(null, o -> o, 2));
+		assertEquals("elements must not be null", exception.getMessage());
+	}
+
+	@Test
+	void mapInParallelWithNullFunction() {
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> ParallelUtils.mapInParallel(Collections.emptyList(), null, 2));
+		assertEquals("function must not be null", exception.getMessage());
+	}
+
+	@Test
+	void mapInParallelReturnsResultsInOrderOfElements() {
+		List<Integer> elements = IntStream.range(0, 1000).boxed().collect(toList());
+
+		List<String> results = ParallelUtils.mapInParallel(elements, String::valueOf, 4);
+
+		assertThat(results).isEqualTo(elements.stream().map(String::valueOf).collect(toList()));
+	}
+
+	@Test
+	void mapInParallelAppliesFunctionInCallingThreadIfParallelismIsOne() {
+		Thread callingThread = Thread.currentThread();
+
+		List<Thread> threads = ParallelUtils.mapInParallel(Arrays.asList(1, 2, 3), i -> Thread.currentThread(), 1);
+
+		assertThat(threads).containsOnly(callingThread);
+	}
+
+	@Test
+	void mapInParallelUsesContextClassLoaderOfCallingThread() throws Exception {
+		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try (URLClassLoader customClassLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+			Thread.currentThread().setContextClassLoader(customClassLoader);
+			List<Integer> elements = IntStream.range(0, 100).boxed().collect(toList());
+
+			List<ClassLoader> classLoaders = ParallelUtils.mapInParallel(elements,
+				i -> Thread.currentThread().getContextClassLoader(), 4);
+
+			assertThat(classLoaders).containsOnly(customClassLoader);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	void mapInParallelSupportsNestedCalls() {
+		List<Integer> elements = IntStream.range(0, 20).boxed().collect(toList());
+
+		List<List<Integer>> results = ParallelUtils.mapInParallel(elements,
+			i -> ParallelUtils.mapInParallel(elements, j -> i * j, 4), 8);
+
+		assertThat(results).hasSize(20);
+		for (int i = 0; i < 20; i++) {
+			int factor = i;
+			assertThat(results.get(i)).isEqualTo(elements.stream().map(j -> factor * j).collect(toList()));
+		}
+	}
+
+	@Test
+	void mapInParallelAppliesFunctionInWorkerThreadsOfSharedPool() {
+		List<Integer> elements = IntStream.range(0, 100).boxed().collect(toList());
+
+		List<String> threadNames = ParallelUtils.mapInParallel(elements, i -> Thread.currentThread().getName(), 4);
+
+		assertThat(threadNames).allMatch(name -> name.startsWith("junit-platform-parallel-"));
+	}
+
+	@Test
+	void mapInParallelRethrowsExceptionsInCallingThread() {
+		RuntimeException exception = assertThrows(RuntimeException.class,
+			() -> ParallelUtils.mapInParallel(Arrays.asList(1, 2, 3), i -> {
+				if (i == 2) {
+					throw new IllegalStateException("boom");
+				}
+				return i;
+			}, 4));
+
+		assertThat(exception).hasMessageContaining("boom");
+	}
+
+	@Test
+	void mapInParallelRethrowsOriginalExceptionInstance() {
+		CustomException thrown = new CustomException(42);
+
+		CustomException exception = assertThrows(CustomException.class,
+			() -> ParallelUtils.mapInParallel(IntStream.range(0, 100).boxed().collect(toList()), i -> {
+				if (i == 50) {
+					throw thrown;
+				}
+				return i;
+			}, 4));
+
+		assertSame(thrown, exception);
+	}
+
+	@SuppressWarnings("serial")
+	private static class CustomException extends RuntimeException {
+
+		CustomException(int code) {
+			super("code " + code);
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.util.ReflectionCache.MAX_ENTRIES_PER_CLASS;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
+
+/**
+ * Unit tests for {@link ReflectionCache}.
+ *
+ * @since 1.4
+ */
+class ReflectionCacheTests {
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	@Test
+	void cachesValuesPerClassNameAndQualifiers() {
+		Object first = ReflectionCache.get(CachedForClass.class, "test", counting(Object::new), "a");
+		Object second = ReflectionCache.get(CachedForClass.class, "test", counting(Object::new), "a");
+		Object other = ReflectionCache.get(CachedForClass.class, "test", counting(Object::new), "b");
+		Object otherName = ReflectionCache.get(CachedForClass.class, "other", counting(Object::new), "a");
+
+		assertThat(second).isSameAs(first);
+		assertThat(other).isNotSameAs(first);
+		assertThat(otherName).isNotSameAs(first).isNotSameAs(other);
+		assertThat(invocations).hasValue(3);
+	}
+
+	@Test
+	void cachesValuesForMembersAndParametersInDeclaringClass() throws Exception {
+		Method method = CachedForElement.class.getDeclaredMethod("method", String.class);
+		Method copy = CachedForElement.class.getDeclaredMethod("method", String.class);
+		Parameter parameter = method.getParameters()[0];
+
+		Object forMethod = ReflectionCache.getForElement(method, "test", counting(Object::new));
+		Object forCopy = ReflectionCache.getForElement(copy, "test", counting(Object::new));
+		Object forParameter = ReflectionCache.getForElement(parameter, "test", counting(Object::new));
+		Object forParameterAgain = ReflectionCache.getForElement(copy.getParameters()[0], "test",
+			counting(Object::new));
+
+		assertThat(forCopy).isSameAs(forMethod);
+		assertThat(forParameter).isNotSameAs(forMethod);
+		assertThat(forParameterAgain).isSameAs(forParameter);
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void doesNotCacheValuesForOtherAnnotatedElements() {
+		AnnotatedElement element = new AnnotatedElement() {
+
+			@Override
+			public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+				return null;
+			}
+
+			@Override
+			public Annotation[] getAnnotations() {
+				return new Annotation[0];
+			}
+
+			@Override
+			public Annotation[] getDeclaredAnnotations() {
+				return new Annotation[0];
+			}
+		};
+
+		ReflectionCache.getForElement(element, "test", counting(Object::new));
+		ReflectionCache.getForElement(element, "test", counting(Object::new));
+
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void doesNotCacheValuesReferencingTypesFromUnrelatedClassLoaders() throws Exception {
+		URL location = ReflectionCacheTests.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { location }, null)) {
+			Class<?> foreignClass = classLoader.loadClass(ForeignClass.class.getName());
+			assertThat(foreignClass).isNotSameAs(ForeignClass.class);
+
+			ReflectionCache.get(CachedForForeignClass.class, "test", counting(Object::new), foreignClass);
+			ReflectionCache.get(CachedForForeignClass.class, "test", counting(Object::new), foreignClass);
+			ReflectionCache.get(CachedForForeignClass.class, "test", counting(Object::new), ForeignClass.class);
+			ReflectionCache.get(CachedForForeignClass.class, "test", counting(Object::new), ForeignClass.class);
+		}
+
+		assertThat(invocations).hasValue(3);
+	}
+
+	@Test
+	void stopsCachingOnceMaximumNumberOfEntriesPerClassIsReached() {
+		for (int i = 0; i < MAX_ENTRIES_PER_CLASS; i++) {
+			ReflectionCache.get(CachedUpToLimit.class, "test", counting(Object::new), i);
+		}
+		Object first = ReflectionCache.get(CachedUpToLimit.class, "test", counting(Object::new), 0);
+		Object beyondLimit = ReflectionCache.get(CachedUpToLimit.class, "test", counting(Object::new), -1);
+		Object beyondLimitAgain = ReflectionCache.get(CachedUpToLimit.class, "test", counting(Object::new), -1);
+
+		assertThat(first).isNotNull();
+		assertThat(beyondLimitAgain).isNotSameAs(beyondLimit);
+		assertThat(invocations).hasValue(MAX_ENTRIES_PER_CLASS + 2);
+	}
+
+	@Test
+	void findMethodsReturnsSameResultsForCachedHierarchy() {
+		List<Method> first = ReflectionUtils.findMethods(CachedForElement.class, method -> true,
+			HierarchyTraversalMode.BOTTOM_UP);
+		List<Method> second = ReflectionUtils.findMethods(CachedForElement.class, method -> true,
+			HierarchyTraversalMode.BOTTOM_UP);
+		List<Method> topDown = ReflectionUtils.findMethods(CachedForElement.class, method -> true,
+			HierarchyTraversalMode.TOP_DOWN);
+
+		assertThat(second).isEqualTo(first);
+		assertThat(first).extracting(Method::getName).containsExactly("method", "superclassMethod");
+		assertThat(topDown).extracting(Method::getName).containsExactly("superclassMethod", "method");
+	}
+
+	private <T> Supplier<T> counting(Supplier<T> supplier) {
+		return () -> {
+			invocations.incrementAndGet();
+			return supplier.get();
+		};
+	}
+
+	static class CachedForClass {
+	}
+
+	static class CachedSuperclass {
+
+		void superclassMethod() {
+		}
+	}
+
+	static class CachedForElement extends CachedSuperclass {
+
+		void method(String parameter) {
+		}
+	}
+
+	static class CachedForForeignClass {
+	}
+
+	static class CachedUpToLimit {
+	}
+
+	static class ForeignClass {
+	}
+
+}
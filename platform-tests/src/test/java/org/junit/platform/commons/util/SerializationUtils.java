@@ -24,7 +24,7 @@ public class SerializationUtils {
 		return (T) deserialize(bytes);
 	}
 
-	private static Object deserialize(byte[] bytes) throws Exception {
+	public static Object deserialize(byte[] bytes) throws Exception {
 		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
 			return in.readObject();
 		}
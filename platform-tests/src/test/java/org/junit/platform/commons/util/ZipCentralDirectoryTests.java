@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+
+/**
+ * Unit tests for {@link ZipCentralDirectory}.
+ *
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class ZipCentralDirectoryTests {
+
+	@Test
+	void findsEntriesMatchingPrefixAndSuffixInOrder(@TempDir Path tempDir) throws Exception {
+		Path zipFile = createZipFile(tempDir.resolve("test.jar"), null, "a/", "a/B.class", "a/readme.txt",
+			"other/C.class", "a/b/D.class", "a.class");
+
+		List<String> entryNames = ZipCentralDirectory.findEntryNames(zipFile, "a/", ".class");
+
+		assertThat(entryNames).containsExactly("a/B.class", "a/b/D.class");
+	}
+
+	@Test
+	void findsAllEntriesMatchingSuffixForEmptyPrefix(@TempDir Path tempDir) throws Exception {
+		Path zipFile = createZipFile(tempDir.resolve("test.jar"), null, "a/B.class", "a/readme.txt",
+			"other/C.class");
+
+		List<String> entryNames = ZipCentralDirectory.findEntryNames(zipFile, "", ".class");
+
+		assertThat(entryNames).containsExactly("a/B.class", "other/C.class");
+	}
+
+	@Test
+	void findsEntriesInZipFileWithComment(@TempDir Path tempDir) throws Exception {
+		Path zipFile = createZipFile(tempDir.resolve("test.jar"), "a comment", "a/B.class");
+
+		List<String> entryNames = ZipCentralDirectory.findEntryNames(zipFile, "", ".class");
+
+		assertThat(entryNames).containsExactly("a/B.class");
+	}
+
+	@Test
+	void findsEntriesWithNonAsciiNames(@TempDir Path tempDir) throws Exception {
+		Path zipFile = createZipFile(tempDir.resolve("test.jar"), null, "ä/Ö.class");
+
+		List<String> entryNames = ZipCentralDirectory.findEntryNames(zipFile, "ä/", ".class");
+
+		assertThat(entryNames).containsExactly("ä/Ö.class");
+	}
+
+	@Test
+	void findsEntriesInJarFile() throws Exception {
+		Path jarFile = Paths.get(getClass().getResource("/jartest.jar").toURI());
+
+		List<String> entryNames = ZipCentralDirectory.findEntryNames(jarFile, "org/junit/platform/jartest/included/",
+			".class");
+
+		assertThat(entryNames).containsExactlyInAnyOrder("org/junit/platform/jartest/included/Included.class",
+			"org/junit/platform/jartest/included/recursive/RecursivelyIncluded.class");
+	}
+
+	@Test
+	void throwsExceptionForFileThatIsNotAZipFile(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("test.jar"), new byte[100]);
+
+		assertThrows(IOException.class, () -> ZipCentralDirectory.findEntryNames(file, "", ".class"));
+	}
+
+	@Test
+	void throwsExceptionForEmptyFile(@TempDir Path tempDir) throws Exception {
+		Path file = Files.createFile(tempDir.resolve("test.jar"));
+
+		assertThrows(IOException.class, () -> ZipCentralDirectory.findEntryNames(file, "", ".class"));
+	}
+
+	@Test
+	void throwsExceptionForZipFileWithLeadingData(@TempDir Path tempDir) throws Exception {
+		Path zipFile = createZipFile(tempDir.resolve("test.jar"), null, "a/B.class");
+		byte[] bytes = Files.readAllBytes(zipFile);
+		byte[] prefixedBytes = new byte[bytes.length + 10];
+		System.arraycopy(bytes, 0, prefixedBytes, 10, bytes.length);
+		Path prefixedZipFile = Files.write(tempDir.resolve("prefixed.jar"), prefixedBytes);
+
+		// central directory offsets are not adjusted for the leading data
+		assertThrows(IOException.class, () -> ZipCentralDirectory.findEntryNames(prefixedZipFile, "", ".class"));
+	}
+
+	private static Path createZipFile(Path file, String comment, String... entryNames) throws IOException {
+		try (OutputStream outputStream = Files.newOutputStream(file);
+				ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			for (String entryName : entryNames) {
+				zipOutputStream.putNextEntry(new ZipEntry(entryName));
+				zipOutputStream.write(entryName.getBytes());
+				zipOutputStream.closeEntry();
+			}
+			if (comment != null) {
+				zipOutputStream.setComment(comment);
+			}
+		}
+		return file;
+	}
+
+}
@@ -13,9 +13,16 @@ package org.junit.platform.engine;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.deserialize;
+import static org.junit.platform.commons.util.SerializationUtils.serializeAndDeserialize;
 
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.Base64;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Nested;
@@ -259,6 +266,113 @@ class UniqueIdTests {
 
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Nested
+	class SharedStructure {
+
+		@Test
+		void hashCodeMatchesHashCodeOfSegments() {
+			UniqueId id = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+
+			assertEquals(id.getSegments().hashCode(), id.hashCode());
+		}
+
+		@Test
+		void appendedAndParsedUniqueIdsAreEqual() {
+			UniqueId appended = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+			UniqueId parsed = UniqueId.parse("[engine:junit-jupiter]/[t1:v1]/[t2:v2]");
+
+			assertEquals(appended, parsed);
+			assertEquals(parsed, appended);
+			assertEquals(appended.hashCode(), parsed.hashCode());
+			assertTrue(parsed.hasPrefix(UniqueId.forEngine(ENGINE_ID)));
+		}
+
+		@Test
+		void siblingsDifferingInLastSegmentAreNotEqual() {
+			UniqueId parent = UniqueId.forEngine(ENGINE_ID).append("t1", "v1");
+			UniqueId id1 = parent.append("t2", "v2");
+			UniqueId id2 = parent.append("t2", "v3");
+
+			assertNotEquals(id1, id2);
+			assertFalse(id1.hasPrefix(id2));
+			assertTrue(id1.hasPrefix(parent));
+			assertTrue(id2.hasPrefix(parent));
+		}
+
+		@Test
+		void stringRepresentationIsCached() {
+			UniqueId id = UniqueId.forEngine(ENGINE_ID).append("t1", "v1");
+
+			assertEquals("[engine:junit-jupiter]/[t1:v1]", id.toString());
+			assertSame(id.toString(), id.toString());
+		}
+
+		@Test
+		void segmentsCannotBeModified() {
+			UniqueId id = UniqueId.forEngine(ENGINE_ID);
+
+			assertThrows(UnsupportedOperationException.class,
+				() -> id.getSegments().add(id.getSegments().get(0)));
+		}
+
+		@Test
+		void serializedAndDeserializedUniqueIdIsEqual() throws Exception {
+			UniqueId id = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+
+			UniqueId deserialized = serializeAndDeserialize(id);
+
+			assertEquals(id, deserialized);
+			assertEquals(id.getSegments(), deserialized.getSegments());
+			assertEquals(id.toString(), deserialized.toString());
+		}
+
+		/**
+		 * @since 1.4
+		 */
+		@Test
+		void deserializesUniqueIdSerializedByPreviousVersions() throws Exception {
+			// UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2") serialized by JUnit Platform 1.3
+			String serialized = "rO0ABXNyACJvcmcuanVuaXQucGxhdGZvcm0uZW5naW5lLlVuaXF1ZUlkAAAAAAAAAAECAAJM"
+				+ "AAhzZWdtZW50c3QAEExqYXZhL3V0aWwvTGlzdDtMAA51bmlxdWVJZEZvcm1hdHQAKkxvcmcvanVuaXQvcGxhdGZvcm0vZW5n"
+				+ "aW5lL1VuaXF1ZUlkRm9ybWF0O3hwc3IAJmphdmEudXRpbC5Db2xsZWN0aW9ucyRVbm1vZGlmaWFibGVMaXN0/A8lMbXsjhAC"
+				+ "AAFMAARsaXN0cQB+AAF4cgAsamF2YS51dGlsLkNvbGxlY3Rpb25zJFVubW9kaWZpYWJsZUNvbGxlY3Rpb24ZQgCAy173HgIA"
+				+ "AUwAAWN0ABZMamF2YS91dGlsL0NvbGxlY3Rpb247eHBzcgATamF2YS51dGlsLkFycmF5TGlzdHiB0h2Zx2GdAwABSQAEc2l6"
+				+ "ZXhwAAAAA3cEAAAAA3NyACpvcmcuanVuaXQucGxhdGZvcm0uZW5naW5lLlVuaXF1ZUlkJFNlZ21lbnQAAAAAAAAAAQIAAkwA"
+				+ "BHR5cGV0ABJMamF2YS9sYW5nL1N0cmluZztMAAV2YWx1ZXEAfgALeHB0AAZlbmdpbmV0AA1qdW5pdC1qdXBpdGVyc3EAfgAK"
+				+ "dAACdDF0AAJ2MXNxAH4ACnQAAnQydAACdjJ4cQB+AAlzcgAob3JnLmp1bml0LnBsYXRmb3JtLmVuZ2luZS5VbmlxdWVJZEZv"
+				+ "cm1hdAAAAAAAAAABAgAGQwAMY2xvc2VTZWdtZW50QwALb3BlblNlZ21lbnRDABBzZWdtZW50RGVsaW1pdGVyQwASdHlwZVZh"
+				+ "bHVlU2VwYXJhdG9yTAATZW5jb2RlZENoYXJhY3Rlck1hcHQAD0xqYXZhL3V0aWwvTWFwO0wADnNlZ21lbnRQYXR0ZXJudAAZ"
+				+ "TGphdmEvdXRpbC9yZWdleC9QYXR0ZXJuO3hwAF0AWwAvADpzcgARamF2YS51dGlsLlRyZWVNYXAMwfY+LSVq5gMAAUwACmNv"
+				+ "bXBhcmF0b3J0ABZMamF2YS91dGlsL0NvbXBhcmF0b3I7eHBwdwQAAAAGc3IAE2phdmEubGFuZy5DaGFyYWN0ZXI0i0fZaxom"
+				+ "eAIAAUMABXZhbHVleHAAJXQAAyUyNXNxAH4AHAArdAADJTJCc3EAfgAcAC90AAMlMkZzcQB+ABwAOnQAAyUzQXNxAH4AHABb"
+				+ "dAADJTVCc3EAfgAcAF10AAMlNUR4c3IAF2phdmEudXRpbC5yZWdleC5QYXR0ZXJuRmfVa25JAg0CAAJJAAVmbGFnc0wAB3Bh"
+				+ "dHRlcm5xAH4AC3hwAAAAIHQAF1xRW1xFKC4rKVxROlxFKC4rKVxRXVxF";
+
+			Object deserialized = deserialize(Base64.getDecoder().decode(serialized));
+
+			UniqueId expected = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+			assertEquals(expected, deserialized);
+			assertEquals(expected.hashCode(), deserialized.hashCode());
+			assertEquals(expected.toString(), deserialized.toString());
+		}
+
+		/**
+		 * @since 1.4
+		 */
+		@Test
+		void serializedFormConsistsOfFormatAndSegments() {
+			ObjectStreamClass streamClass = ObjectStreamClass.lookup(UniqueId.class);
+
+			assertThat(streamClass.getSerialVersionUID()).isEqualTo(1L);
+			assertThat(streamClass.getFields()).extracting(ObjectStreamField::getName).containsExactly("segments",
+				"uniqueIdFormat");
+		}
+
+	}
+
 	private void assertSegment(Segment segment, String expectedType, String expectedValue) {
 		assertEquals(expectedType, segment.getType(), "segment type");
 		assertEquals(expectedValue, segment.getValue(), "segment value");
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 1.4
+ */
+class AdaptiveParallelismControllerTests {
+
+	private final AdaptiveParallelismController controller = new AdaptiveParallelismController(1, 2, 4);
+
+	@Test
+	void keepsParallelismIfNoTasksAreWaiting() {
+		assertThat(controller.computeTargetParallelism(2, 0.1, 0, 0, 0.0)).isEqualTo(2);
+	}
+
+	@Test
+	void increasesParallelismIfTasksAreWaitingAndProcessorsAreIdle() {
+		assertThat(controller.computeTargetParallelism(2, 0.1, 3, 0, 0.0)).isEqualTo(3);
+		assertThat(controller.computeTargetParallelism(2, -1.0, 3, 0, 0.0)).isEqualTo(3);
+	}
+
+	@Test
+	void increasesParallelismByNumberOfBlockedThreads() {
+		assertThat(controller.computeTargetParallelism(1, 0.1, 5, 2, 0.0)).isEqualTo(3);
+	}
+
+	@Test
+	void keepsParallelismIfProcessorsAreBusy() {
+		assertThat(controller.computeTargetParallelism(2, 0.9, 3, 0, 0.0)).isEqualTo(2);
+	}
+
+	@Test
+	void decreasesParallelismIfSystemIsOverloaded() {
+		assertThat(controller.computeTargetParallelism(3, 1.5, 3, 0, 0.0)).isEqualTo(2);
+	}
+
+	@Test
+	void decreasesParallelismUnderGarbageCollectionPressure() {
+		assertThat(controller.computeTargetParallelism(3, 0.1, 3, 0, 0.5)).isEqualTo(2);
+	}
+
+	@Test
+	void staysWithinBounds() {
+		assertThat(controller.computeTargetParallelism(1, 2.0, 0, 0, 0.0)).isEqualTo(1);
+		assertThat(controller.computeTargetParallelism(4, 0.1, 10, 10, 0.0)).isEqualTo(4);
+	}
+
+	@Test
+	void adjustsNumberOfAvailablePermits() throws Exception {
+		controller.adjustTo(1);
+		assertThat(controller.getTargetParallelism()).isEqualTo(1);
+
+		assertThat(controller.acquirePermit()).isTrue();
+		assertThat(canAcquirePermitInOtherThread()).isFalse();
+
+		controller.adjustTo(2);
+		assertThat(canAcquirePermitInOtherThread()).isTrue();
+	}
+
+	@Test
+	void acquiresPermitOnlyOncePerThread() throws Exception {
+		controller.adjustTo(1);
+
+		assertThat(controller.acquirePermit()).isTrue();
+		assertThat(controller.acquirePermit()).isFalse();
+	}
+
+	@Test
+	void releasesPermitWhileBlocked() throws Exception {
+		controller.adjustTo(1);
+		assertThat(controller.acquirePermit()).isTrue();
+
+		boolean acquiredInOtherThread = controller.whileBlocked(this::canAcquirePermitInOtherThread);
+
+		assertThat(acquiredInOtherThread).isTrue();
+		assertThat(controller.acquirePermit()).isFalse();
+	}
+
+	private boolean canAcquirePermitInOtherThread() throws InterruptedException {
+		AtomicBoolean acquired = new AtomicBoolean();
+		Thread thread = new Thread(() -> {
+			try {
+				if (controller.acquirePermit()) {
+					acquired.set(true);
+					controller.releasePermit();
+				}
+			}
+			catch (InterruptedException ignored) {
+				// permit not available
+			}
+		});
+		thread.start();
+		thread.join(100);
+		thread.interrupt();
+		thread.join();
+		return acquired.get();
+	}
+
+}
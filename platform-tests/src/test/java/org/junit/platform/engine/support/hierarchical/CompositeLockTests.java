@@ -11,14 +11,24 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -35,7 +45,7 @@ class CompositeLockTests {
 		Lock lock1 = mock(Lock.class);
 		Lock lock2 = mock(Lock.class);
 
-		new CompositeLock(asList(lock1, lock2)).acquire();
+		new CompositeLock(anyResources(2), asList(lock1, lock2)).acquire();
 
 		InOrder inOrder = inOrder(lock1, lock2);
 		inOrder.verify(lock1).lockInterruptibly();
@@ -48,7 +58,7 @@ class CompositeLockTests {
 		Lock lock1 = mock(Lock.class);
 		Lock lock2 = mock(Lock.class);
 
-		new CompositeLock(asList(lock1, lock2)).acquire().close();
+		new CompositeLock(anyResources(2), asList(lock1, lock2)).acquire().close();
 
 		InOrder inOrder = inOrder(lock1, lock2);
 		inOrder.verify(lock2).unlock();
@@ -65,7 +75,7 @@ class CompositeLockTests {
 
 		Thread thread = new Thread(() -> {
 			try {
-				new CompositeLock(asList(firstLock, secondLock, unavailableLock)).acquire();
+				new CompositeLock(anyResources(3), asList(firstLock, secondLock, unavailableLock)).acquire();
 			}
 			catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
@@ -82,6 +92,61 @@ class CompositeLockTests {
 		verify(unavailableLock, never()).unlock();
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void tryAcquireAcquiresAllLocksInOrder() throws Exception {
+		Lock lock1 = mock(Lock.class);
+		Lock lock2 = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+		when(lock2.tryLock()).thenReturn(true);
+
+		assertTrue(new CompositeLock(anyResources(2), asList(lock1, lock2)).tryAcquire());
+
+		InOrder inOrder = inOrder(lock1, lock2);
+		inOrder.verify(lock1).tryLock();
+		inOrder.verify(lock2).tryLock();
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void tryAcquireReleasesAcquiredLocksInReverseOrderWhenOneIsUnavailable() throws Exception {
+		Lock firstLock = mock(Lock.class, "firstLock");
+		Lock secondLock = mock(Lock.class, "secondLock");
+		Lock unavailableLock = mock(Lock.class, "unavailableLock");
+		when(firstLock.tryLock()).thenReturn(true);
+		when(secondLock.tryLock()).thenReturn(true);
+		when(unavailableLock.tryLock()).thenReturn(false);
+
+		assertFalse(new CompositeLock(anyResources(3), asList(firstLock, secondLock, unavailableLock)).tryAcquire());
+
+		InOrder inOrder = inOrder(firstLock, secondLock);
+		inOrder.verify(secondLock).unlock();
+		inOrder.verify(firstLock).unlock();
+		verify(unavailableLock, never()).unlock();
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void exposesGuardedResources() {
+		List<ExclusiveResource> resources = asList(new ExclusiveResource("a", READ),
+			new ExclusiveResource("b", READ_WRITE));
+
+		CompositeLock lock = new CompositeLock(resources, asList(mock(Lock.class), mock(Lock.class)));
+
+		assertEquals(new LinkedHashSet<>(resources), lock.getResources());
+	}
+
+	private static List<ExclusiveResource> anyResources(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new ExclusiveResource("resource" + i, READ_WRITE)).collect(
+			toList());
+	}
+
 	private Lock mockLock(String name, Executable lockAction) throws InterruptedException {
 		Lock lock = mock(Lock.class, name);
 		doAnswer(invocation -> {
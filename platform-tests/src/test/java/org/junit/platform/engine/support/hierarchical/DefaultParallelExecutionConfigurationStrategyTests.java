@@ -158,6 +158,73 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.of("8"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration).isInstanceOf(AdaptiveParallelExecutionConfiguration.class);
+		AdaptiveParallelExecutionConfiguration adaptiveConfiguration = (AdaptiveParallelExecutionConfiguration) configuration;
+		assertThat(adaptiveConfiguration.getMinimumParallelism()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getInitialParallelism()).isEqualTo(
+			Math.max(2, Math.min(8, availableProcessors)));
+		assertThat(adaptiveConfiguration.getMaximumParallelism()).isEqualTo(8);
+		assertThat(configuration.getParallelism()).isEqualTo(8);
+		assertThat(configuration.getCorePoolSize()).isEqualTo(8);
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(2);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + 8);
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void adaptiveStrategyUsesDefaultsWhenPropertiesAreNotPresent() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.empty());
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.empty());
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		AdaptiveParallelExecutionConfiguration configuration = (AdaptiveParallelExecutionConfiguration) strategy.createConfiguration(
+			configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getMinimumParallelism()).isEqualTo(1);
+		assertThat(configuration.getInitialParallelism()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMaximumParallelism()).isEqualTo(2 * availableProcessors);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMinimumIsNotPositive() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.of("0"));
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.empty());
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaximumIsLessThanMinimum() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.of("2"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void customStrategyThrowsExceptionWhenPropertyIsNotPresent() {
 		when(configParams.get("custom.class")).thenReturn(Optional.empty());
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class DefaultTestTaskSchedulerTests {
+
+	private final LockManager lockManager = new LockManager();
+
+	@Test
+	void declarationOrderSchedulerRetainsOrder() {
+		List<TestTask> tasks = asList(task("a", "db"), task("b", "db"), task("c"));
+
+		assertThat(DefaultTestTaskScheduler.DECLARATION_ORDER.schedule(tasks)).containsExactlyElementsOf(tasks);
+	}
+
+	@Test
+	void resourceAwareSchedulerSpreadsOutTasksThatRequireTheSameResource() {
+		List<TestTask> tasks = asList(task("db1", "db"), task("db2", "db"), task("db3", "db"), task("fs1", "fs"),
+			task("fs2", "fs"), task("free1"), task("free2"), task("free3"));
+
+		List<TestTask> scheduledTasks = DefaultTestTaskScheduler.RESOURCE_AWARE.schedule(tasks);
+
+		assertThat(names(scheduledTasks)).containsExactly("db1", "fs1", "free1", "db2", "fs2", "free2", "db3",
+			"free3");
+	}
+
+	@Test
+	void resourceAwareSchedulerGroupsTasksWithReadAccessToTheSameResource() {
+		List<TestTask> tasks = asList(taskWithResources("write1", resource("props", READ_WRITE)),
+			taskWithResources("read1", resource("props", READ)), taskWithResources("write2", resource("props", READ_WRITE)),
+			taskWithResources("read2", resource("props", READ)));
+
+		List<TestTask> scheduledTasks = DefaultTestTaskScheduler.RESOURCE_AWARE.schedule(tasks);
+
+		assertThat(names(scheduledTasks)).containsExactly("write1", "read1", "read2", "write2");
+	}
+
+	@Test
+	void resourceAwareSchedulerTreatsTasksWithMultipleResourcesAsConflictingWithEachOfThem() {
+		List<TestTask> tasks = asList(task("ab", "a", "b"), task("a", "a"), task("b", "b"), task("c", "c"));
+
+		List<TestTask> scheduledTasks = DefaultTestTaskScheduler.RESOURCE_AWARE.schedule(tasks);
+
+		assertThat(names(scheduledTasks)).containsExactly("ab", "c", "a", "b");
+	}
+
+	@Test
+	void resourceAwareSchedulerRetainsOrderIfAtMostOneTaskRequiresResources() {
+		List<TestTask> tasks = asList(task("free1"), task("db", "db"), task("free2"));
+
+		assertThat(DefaultTestTaskScheduler.RESOURCE_AWARE.schedule(tasks)).isSameAs(tasks);
+	}
+
+	@Test
+	void longestFirstSchedulerSubmitsTasksWithLongestPreviousDurationFirst(@TempDir Path tempDir) {
+		TestDurationStore durationStore = TestDurationStore.load(tempDir.resolve("durations.properties"));
+		durationStore.recordDuration("[engine:demo]/[test:short]", 10);
+		durationStore.recordDuration("[engine:demo]/[test:long]", 1000);
+		durationStore.recordDuration("[engine:demo]/[test:medium]", 100);
+		durationStore.save();
+		TestTaskScheduler scheduler = new LongestFirstTestTaskScheduler(
+			TestDurationStore.load(tempDir.resolve("durations.properties")));
+
+		List<NodeTestTask<?>> tasks = asList(nodeTestTask("short"), nodeTestTask("long"), nodeTestTask("unknown"),
+			nodeTestTask("medium"));
+		List<NodeTestTask<?>> scheduledTasks = scheduler.schedule(tasks);
+
+		assertThat(scheduledTasks.stream().map(task -> task.getTestDescriptor().getDisplayName())).containsExactly(
+			"unknown", "long", "medium", "short");
+	}
+
+	@Test
+	void schedulerIsSelectedViaConfigurationParameter() {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+
+		when(configParams.get("scheduler")).thenReturn(Optional.empty());
+		assertThat(DefaultTestTaskScheduler.getScheduler(configParams)).isEqualTo(
+			DefaultTestTaskScheduler.DECLARATION_ORDER);
+
+		when(configParams.get("scheduler")).thenReturn(Optional.of("resource_aware"));
+		assertThat(DefaultTestTaskScheduler.getScheduler(configParams)).isEqualTo(
+			DefaultTestTaskScheduler.RESOURCE_AWARE);
+
+		when(configParams.get("scheduler")).thenReturn(Optional.of("longest_first"));
+		when(configParams.get("scheduler.durations.file")).thenReturn(Optional.empty());
+		assertThat(DefaultTestTaskScheduler.getScheduler(configParams)).isInstanceOf(
+			LongestFirstTestTaskScheduler.class);
+
+		when(configParams.get("scheduler")).thenReturn(Optional.of("unknown"));
+		assertThrows(IllegalArgumentException.class, () -> DefaultTestTaskScheduler.getScheduler(configParams));
+	}
+
+	private static List<String> names(List<TestTask> tasks) {
+		return tasks.stream().map(TestTask::toString).collect(toList());
+	}
+
+	private static NodeTestTask<?> nodeTestTask(String name) {
+		UniqueId uniqueId = UniqueId.forEngine("demo").append("test", name);
+		NodeTestTaskContext taskContext = new NodeTestTaskContext(null, null, null, new NodeExecutionAdvisor());
+		return new NodeTestTask<>(taskContext, new DemoHierarchicalTestDescriptor(uniqueId, name, () -> {
+		}));
+	}
+
+	private static ExclusiveResource resource(String key, ExclusiveResource.LockMode lockMode) {
+		return new ExclusiveResource(key, lockMode);
+	}
+
+	private TestTask task(String name, String... keys) {
+		return taskWithResources(name,
+			Arrays.stream(keys).map(key -> resource(key, READ_WRITE)).toArray(ExclusiveResource[]::new));
+	}
+
+	private TestTask taskWithResources(String name, ExclusiveResource... resources) {
+		ResourceLock resourceLock = lockManager.getLockForResources(asList(resources));
+		return new TestTask() {
+
+			@Override
+			public ExecutionMode getExecutionMode() {
+				return CONCURRENT;
+			}
+
+			@Override
+			public ResourceLock getResourceLock() {
+				return resourceLock;
+			}
+
+			@Override
+			public void execute() {
+			}
+
+			@Override
+			public String toString() {
+				return name;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.time.Duration.ofSeconds;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 1.4
+ */
+class ForkJoinPoolHierarchicalTestExecutorServiceTests {
+
+	private final LockManager lockManager = new LockManager();
+
+	private ForkJoinPoolHierarchicalTestExecutorService service;
+
+	@BeforeEach
+	void createService() {
+		Map<String, String> configParams = new HashMap<>();
+		configParams.put("strategy", "fixed");
+		configParams.put("fixed.parallelism", "2");
+		configParams.put(ForkJoinPoolHierarchicalTestExecutorService.CONFIG_LOCK_ACQUISITION_PROPERTY_NAME,
+			"deferred");
+		service = new ForkJoinPoolHierarchicalTestExecutorService(new MapConfigurationParameters(configParams));
+	}
+
+	@AfterEach
+	void closeService() {
+		service.close();
+	}
+
+	@Test
+	void tasksSharingResourceNeverOverlapWhileWaitingThreadHoldsLock() {
+		ResourceLock lockA = lockFor("a");
+		ResourceLock lockB = lockFor("b");
+		AtomicInteger insideA = new AtomicInteger();
+		AtomicInteger maxInsideA = new AtomicInteger();
+		CountDownLatch lockBAcquired = new CountDownLatch(1);
+		CountDownLatch otherTaskWithLockAFinished = new CountDownLatch(1);
+
+		TestTask taskHoldingLockB = task(lockB, () -> {
+			lockBAcquired.countDown();
+			sleep(200);
+		});
+		TestTask otherTaskWithLockA = task(lockA, () -> {
+			maxInsideA.accumulateAndGet(insideA.incrementAndGet(), Math::max);
+			insideA.decrementAndGet();
+			otherTaskWithLockAFinished.countDown();
+		});
+		TestTask taskWithLockA = task(lockA, () -> {
+			maxInsideA.accumulateAndGet(insideA.incrementAndGet(), Math::max);
+			// queue a task that needs lock A and then wait for lock B, which
+			// is held by another thread, so this thread looks for other work
+			service.submit(otherTaskWithLockA);
+			getUnchecked(service.submit(task(lockB, () -> {
+			})));
+			insideA.decrementAndGet();
+		});
+
+		assertTimeoutPreemptively(ofSeconds(10), () -> {
+			Future<Void> holder = service.submit(taskHoldingLockB);
+			lockBAcquired.await();
+			service.submit(taskWithLockA).get();
+			holder.get();
+			otherTaskWithLockAFinished.await();
+		});
+
+		assertThat(maxInsideA).hasValue(1);
+		assertThat(service.getAcquiredLockCount()).isEqualTo(4);
+		assertThat(service.getContendedLockCount()).isBetween(1L, 4L);
+	}
+
+	@Test
+	void countsEachContendedTaskOnce() {
+		ResourceLock lock = lockFor("a");
+		AtomicInteger inside = new AtomicInteger();
+		AtomicInteger maxInside = new AtomicInteger();
+		List<TestTask> tasks = IntStream.range(0, 20).mapToObj(i -> task(lock, () -> {
+			maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+			sleep(5);
+			inside.decrementAndGet();
+		})).collect(toList());
+
+		assertTimeoutPreemptively(ofSeconds(10),
+			() -> service.submit(task(NopLock.INSTANCE, () -> service.invokeAll(tasks))).get());
+
+		assertThat(maxInside).hasValue(1);
+		assertThat(service.getAcquiredLockCount()).isEqualTo(20);
+		assertThat(service.getContendedLockCount()).isBetween(1L, 20L);
+	}
+
+	@Test
+	void defaultTryAcquireDoesNotAcquireLock() throws Exception {
+		AtomicBoolean acquired = new AtomicBoolean();
+		ResourceLock lock = new ResourceLock() {
+
+			@Override
+			public ResourceLock acquire() {
+				acquired.set(true);
+				return this;
+			}
+
+			@Override
+			public void release() {
+				acquired.set(false);
+			}
+		};
+
+		assertThat(lock.tryAcquire()).isFalse();
+		assertThat(acquired).isFalse();
+	}
+
+	private ResourceLock lockFor(String key) {
+		return lockManager.getLockForResources(singleton(new ExclusiveResource(key, READ_WRITE)));
+	}
+
+	private static TestTask task(ResourceLock resourceLock, Runnable action) {
+		return new TestTask() {
+
+			@Override
+			public ExecutionMode getExecutionMode() {
+				return CONCURRENT;
+			}
+
+			@Override
+			public ResourceLock getResourceLock() {
+				return resourceLock;
+			}
+
+			@Override
+			public void execute() {
+				action.run();
+			}
+		};
+	}
+
+	private static void getUnchecked(Future<?> future) {
+		try {
+			future.get();
+		}
+		catch (Exception e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static class MapConfigurationParameters implements ConfigurationParameters {
+
+		private final Map<String, String> parameters;
+
+		MapConfigurationParameters(Map<String, String> parameters) {
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.ofNullable(parameters.get(key));
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return get(key).map(Boolean::valueOf);
+		}
+
+		@Override
+		public int size() {
+			return parameters.size();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -23,9 +23,16 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -605,6 +612,42 @@ class HierarchicalTestExecutorTests {
 			"Dynamic test descriptors must not declare exclusive resources");
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void awaitInFlightAtMostBoundsNumberOfPendingDynamicTestDescriptors() throws Exception {
+
+		UniqueId leafUniqueId = UniqueId.root("leaf", "child leaf");
+		MyLeaf child = spy(new MyLeaf(leafUniqueId));
+		int maxInFlight = 3;
+		DeferringExecutorService executorService = new DeferringExecutorService();
+		AtomicInteger maxPending = new AtomicInteger();
+
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			for (int i = 0; i < 100; i++) {
+				dynamicTestExecutor.execute(new MyLeaf(leafUniqueId.append("dynamic", "child" + i)));
+				dynamicTestExecutor.awaitInFlightAtMost(maxInFlight);
+				maxPending.accumulateAndGet(executorService.pending.get(), Math::max);
+			}
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		new HierarchicalTestExecutor<>(request, rootContext, executorService,
+			OpenTest4JAwareThrowableCollector::new).execute().get();
+
+		ArgumentCaptor<TestExecutionResult> aTestExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(listener, times(100)).dynamicTestRegistered(any());
+		verify(listener, times(102)).executionFinished(any(), aTestExecutionResult.capture());
+		assertThat(aTestExecutionResult.getAllValues()).extracting(TestExecutionResult::getStatus).containsOnly(
+			SUCCESSFUL);
+		assertThat(maxPending.get()).isEqualTo(maxInFlight);
+		assertThat(executorService.pending.get()).isZero();
+	}
+
 	@Test
 	void exceptionInAfterIsReportedInsteadOfEarlierTestAbortedException() throws Exception {
 
@@ -677,6 +720,39 @@ class HierarchicalTestExecutorTests {
 		}
 	}
 
+	/**
+	 * Executes submitted tasks lazily when their results are requested.
+	 */
+	private static class DeferringExecutorService implements HierarchicalTestExecutorService {
+
+		final AtomicInteger pending = new AtomicInteger();
+
+		@Override
+		public Future<Void> submit(TestTask testTask) {
+			pending.incrementAndGet();
+			return new FutureTask<Void>(() -> {
+				pending.decrementAndGet();
+				testTask.execute();
+			}, null) {
+
+				@Override
+				public Void get() throws InterruptedException, ExecutionException {
+					run();
+					return super.get();
+				}
+			};
+		}
+
+		@Override
+		public void invokeAll(List<? extends TestTask> testTasks) {
+			testTasks.forEach(TestTask::execute);
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
@@ -78,6 +78,22 @@ class LockManagerTests {
 		assertThat(locks1.get(0)).isSameAs(locks2.get(0));
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void reusesSameResourceLockForEqualExclusiveResources() {
+		ResourceLock lock1 = lockManager.getLockForResources(singleton(new ExclusiveResource("foo", READ)));
+		ResourceLock lock2 = lockManager.getLockForResources(asList( //
+			new ExclusiveResource("foo", READ), //
+			new ExclusiveResource("foo", READ)));
+		ResourceLock lock3 = lockManager.getLockForResources(singleton(new ExclusiveResource("foo", READ_WRITE)));
+
+		assertThat(lock1).isSameAs(lock2);
+		assertThat(lock1).isNotSameAs(lock3);
+		assertThat(lockManager.getResourceLockCount()).isEqualTo(2);
+	}
+
 	@Test
 	void returnsWriteLockForExclusiveResourceWithBothLockModes() {
 		Collection<ExclusiveResource> resources = asList( //
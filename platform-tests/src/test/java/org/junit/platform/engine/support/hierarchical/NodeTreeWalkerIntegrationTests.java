@@ -11,6 +11,8 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
+import static org.junit.jupiter.api.parallel.Resources.SYSTEM_PROPERTIES;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -69,6 +71,25 @@ class NodeTreeWalkerIntegrationTests {
 		assertThat(advisor.getForcedExecutionMode(nestedTestMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void usesSameResourceLockForTestMethodsWithSameResources() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithSharedResourceLocks.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertThat(testClassDescriptor.getChildren()).hasSize(2);
+		Iterator<? extends TestDescriptor> children = testClassDescriptor.getChildren().iterator();
+		TestDescriptor testMethodDescriptor1 = children.next();
+		TestDescriptor testMethodDescriptor2 = children.next();
+
+		assertThat(advisor.getResourceLock(testMethodDescriptor1)).isInstanceOf(SingleLock.class);
+		assertThat(advisor.getResourceLock(testMethodDescriptor1)).isSameAs(
+			advisor.getResourceLock(testMethodDescriptor2));
+	}
+
 	private TestDescriptor discover(Class<?> testClass) {
 		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).build();
 		return new JupiterTestEngine().discover(discoveryRequest, UniqueId.forEngine("junit-jupiter"));
@@ -82,6 +103,18 @@ class NodeTreeWalkerIntegrationTests {
 		}
 	}
 
+	static class TestCaseWithSharedResourceLocks {
+		@Test
+		@ResourceLock(value = SYSTEM_PROPERTIES, mode = READ)
+		void test1() {
+		}
+
+		@Test
+		@ResourceLock(value = SYSTEM_PROPERTIES, mode = READ)
+		void test2() {
+		}
+	}
+
 	static class TestCaseWithoutResourceLock {
 		@Test
 		@ResourceLock("a")
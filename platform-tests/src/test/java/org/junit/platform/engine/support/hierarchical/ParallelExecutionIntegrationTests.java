@@ -10,15 +10,24 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.time.Duration.ofSeconds;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_LOCK_ACQUISITION_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_SCHEDULER_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -30,12 +39,18 @@ import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.platform.testkit.engine.EventConditions.type;
 import static org.junit.platform.testkit.engine.EventType.REPORTING_ENTRY_PUBLISHED;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -46,6 +61,7 @@ import java.util.stream.Stream;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.MethodOrderer.Alphanumeric;
 import org.junit.jupiter.api.Nested;
@@ -59,6 +75,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -68,6 +88,7 @@ import org.junit.platform.testkit.engine.Event;
 /**
  * @since 1.3
  */
+@ExtendWith(TempDirectory.class)
 class ParallelExecutionIntegrationTests {
 
 	@Test
@@ -170,6 +191,166 @@ class ParallelExecutionIntegrationTests {
 		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).size().isEqualTo(4);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@RepeatedTest(10)
+	void locksWithDeferredLockAcquisition() {
+		List<Event> events = execute(4,
+			Collections.singletonMap(PARALLEL_CONFIG_LOCK_ACQUISITION_PROPERTY_NAME, "deferred"),
+			TestCaseWithSortedLocks.class, TestCaseWithUnsortedLocks.class, TestCaseWithNestedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(12);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@RepeatedTest(10)
+	void locksWithResourceAwareScheduler() {
+		List<Event> events = execute(4,
+			Collections.singletonMap(PARALLEL_CONFIG_SCHEDULER_PROPERTY_NAME, "resource_aware"),
+			TestCaseWithSortedLocks.class, TestCaseWithUnsortedLocks.class, TestCaseWithNestedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(12);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void longestFirstSchedulerRecordsDurations(@TempDir Path tempDir) throws Exception {
+		Path durationsFile = tempDir.resolve("durations.properties");
+		Map<String, String> configurationParameters = new HashMap<>();
+		configurationParameters.put(PARALLEL_CONFIG_SCHEDULER_PROPERTY_NAME, "longest_first");
+		configurationParameters.put(PARALLEL_CONFIG_SCHEDULER_DURATIONS_FILE_PROPERTY_NAME, durationsFile.toString());
+
+		List<Event> events = execute(3, configurationParameters, SuccessfulParallelTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		Properties durations = new Properties();
+		try (InputStream inputStream = Files.newInputStream(durationsFile)) {
+			durations.load(inputStream);
+		}
+		assertThat(durations.stringPropertyNames()).anyMatch(uniqueId -> uniqueId.endsWith("[method:firstTest()]"));
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void failingTestWithoutLockWithVirtualThreadsExecutor() {
+		List<Event> events = execute(3, virtualThreadsExecutor(), FailingWithoutLockTestCase.class);
+		assertThat(events.stream().filter(event(test(), finishedWithFailure())::matches)).hasSize(2);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void successfulTestWithMethodLockWithVirtualThreadsExecutor() {
+		List<Event> events = execute(3, virtualThreadsExecutor(), SuccessfulWithMethodLockTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@RepeatedTest(10)
+	void locksWithVirtualThreadsExecutor() {
+		List<Event> events = execute(3, virtualThreadsExecutor(), TestCaseWithSortedLocks.class,
+			TestCaseWithUnsortedLocks.class, TestCaseWithNestedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(12);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void afterHooksAreCalledAfterConcurrentDynamicTestsAreFinishedWithVirtualThreadsExecutor() {
+		List<Event> events = execute(1, virtualThreadsExecutor(), ConcurrentDynamicTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(1);
+		Map<String, Instant> timestampedEvents = ConcurrentDynamicTestCase.events;
+		assertThat(timestampedEvents.get("afterEach")).isAfterOrEqualTo(timestampedEvents.get("dynamicTestFinished"));
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 4 })
+	void nestedDynamicContainers(int parallelism) {
+		List<Event> events = assertTimeoutPreemptively(ofSeconds(30),
+			() -> execute(parallelism, NestedDynamicContainersTestCase.class));
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(
+			NestedDynamicContainersTestCase.NUMBER_OF_TESTS);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void nestedDynamicContainersWithVirtualThreadsExecutor() {
+		List<Event> events = assertTimeoutPreemptively(ofSeconds(30),
+			() -> execute(1, virtualThreadsExecutor(), NestedDynamicContainersTestCase.class));
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(
+			NestedDynamicContainersTestCase.NUMBER_OF_TESTS);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@RepeatedTest(10)
+	void locksWithAdaptiveStrategy() {
+		List<Event> events = execute(3, adaptiveStrategy(1, 4), TestCaseWithSortedLocks.class,
+			TestCaseWithUnsortedLocks.class, TestCaseWithNestedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(12);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void nestedDynamicContainersWithAdaptiveStrategyOfSingleTask() {
+		List<Event> events = assertTimeoutPreemptively(ofSeconds(30),
+			() -> execute(1, adaptiveStrategy(1, 1), NestedDynamicContainersTestCase.class));
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(
+			NestedDynamicContainersTestCase.NUMBER_OF_TESTS);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void nestedDynamicContainersWithAdaptiveStrategy() {
+		List<Event> events = assertTimeoutPreemptively(ofSeconds(30),
+			() -> execute(1, adaptiveStrategy(1, 4), NestedDynamicContainersTestCase.class));
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(
+			NestedDynamicContainersTestCase.NUMBER_OF_TESTS);
+	}
+
+	private static Map<String, String> adaptiveStrategy(int minParallelism, int maxParallelism) {
+		Map<String, String> configurationParameters = new HashMap<>();
+		configurationParameters.put(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "adaptive");
+		configurationParameters.put(PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+			String.valueOf(minParallelism));
+		configurationParameters.put(PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+			String.valueOf(maxParallelism));
+		return configurationParameters;
+	}
+
+	private static Map<String, String> virtualThreadsExecutor() {
+		return Collections.singletonMap(PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME, "virtual_threads");
+	}
+
 	private List<Instant> getTimestampsFor(List<Event> events, Condition<Event> condition) {
 		// @formatter:off
 		return events.stream()
@@ -180,12 +361,18 @@ class ParallelExecutionIntegrationTests {
 	}
 
 	private List<Event> execute(int parallelism, Class<?>... testClasses) {
+		return execute(parallelism, Collections.emptyMap(), testClasses);
+	}
+
+	private List<Event> execute(int parallelism, Map<String, String> configurationParameters,
+			Class<?>... testClasses) {
 		// @formatter:off
 		LauncherDiscoveryRequest discoveryRequest = request()
 				.selectors(Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).collect(toList()))
 				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, String.valueOf(true))
 				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
 				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, String.valueOf(parallelism))
+				.configurationParameters(configurationParameters)
 				.build();
 		// @formatter:on
 		return EngineTestKit.execute("junit-jupiter", discoveryRequest).all().list();
@@ -469,6 +656,27 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	@Execution(CONCURRENT)
+	static class NestedDynamicContainersTestCase {
+
+		static final int DEPTH = 4;
+		static final int WIDTH = 3;
+		static final int NUMBER_OF_TESTS = 81;
+
+		@TestFactory
+		Stream<DynamicNode> testFactory() {
+			return dynamicNodes(DEPTH);
+		}
+
+		private Stream<DynamicNode> dynamicNodes(int depth) {
+			if (depth == 1) {
+				return IntStream.range(0, WIDTH).mapToObj(i -> dynamicTest("test" + i, () -> Thread.sleep(1)));
+			}
+			return IntStream.range(0, WIDTH).mapToObj(
+				i -> dynamicContainer("container" + i, dynamicNodes(depth - 1)));
+		}
+	}
+
 	@TestMethodOrder(Alphanumeric.class)
 	static class InterruptedThreadTestCase {
 
@@ -10,8 +10,11 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -27,7 +30,7 @@ class SingleLockTests {
 	void acquire() throws Exception {
 		ReentrantLock lock = new ReentrantLock();
 
-		new SingleLock(lock).acquire();
+		new SingleLock(anyResource(), lock).acquire();
 
 		assertTrue(lock.isLocked());
 	}
@@ -37,9 +40,48 @@ class SingleLockTests {
 	void release() throws Exception {
 		ReentrantLock lock = new ReentrantLock();
 
-		new SingleLock(lock).acquire().close();
+		new SingleLock(anyResource(), lock).acquire().close();
 
 		assertFalse(lock.isLocked());
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void tryAcquire() throws Exception {
+		ReentrantLock lock = new ReentrantLock();
+
+		assertTrue(new SingleLock(anyResource(), lock).tryAcquire());
+
+		assertTrue(lock.isLocked());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void tryAcquireDoesNotBlockWhenLockIsHeldByAnotherThread() throws Exception {
+		ReentrantLock lock = new ReentrantLock();
+		Thread thread = new Thread(lock::lock);
+		thread.start();
+		thread.join();
+
+		assertFalse(new SingleLock(anyResource(), lock).tryAcquire());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void exposesGuardedResource() {
+		ExclusiveResource resource = new ExclusiveResource("foo", READ_WRITE);
+
+		assertEquals(singleton(resource), new SingleLock(resource, new ReentrantLock()).getResources());
+	}
+
+	private static ExclusiveResource anyResource() {
+		return new ExclusiveResource("resource", READ_WRITE);
+	}
+
 }
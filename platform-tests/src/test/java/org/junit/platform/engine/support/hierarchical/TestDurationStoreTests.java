@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+
+/**
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class TestDurationStoreTests {
+
+	private static final String FIRST_ID = "[engine:dummy]/[test:first]";
+	private static final String SECOND_ID = "[engine:dummy]/[test:second]";
+
+	@Test
+	void returnsUnknownDurationIfFileDoesNotExist(@TempDir Path tempDir) {
+		TestDurationStore store = TestDurationStore.load(tempDir.resolve("missing.properties"));
+
+		assertThat(store.getDuration(FIRST_ID)).isEqualTo(TestDurationStore.UNKNOWN);
+	}
+
+	@Test
+	void savesRecordedDurationsAndRetainsPreviousOnes(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("nested/durations.properties");
+
+		TestDurationStore firstRun = TestDurationStore.load(file);
+		firstRun.recordDuration(FIRST_ID, 42);
+		firstRun.recordDuration(SECOND_ID, 23);
+		firstRun.save();
+
+		TestDurationStore secondRun = TestDurationStore.load(file);
+		assertThat(secondRun.getDuration(FIRST_ID)).isEqualTo(42);
+		assertThat(secondRun.getDuration(SECOND_ID)).isEqualTo(23);
+		secondRun.recordDuration(FIRST_ID, 4711);
+		secondRun.save();
+
+		TestDurationStore thirdRun = TestDurationStore.load(file);
+		assertThat(thirdRun.getDuration(FIRST_ID)).isEqualTo(4711);
+		assertThat(thirdRun.getDuration(SECOND_ID)).isEqualTo(23);
+	}
+
+	@Test
+	void ignoresInvalidDurations(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("durations.properties");
+		Files.write(file, "first=abc\nsecond=17\n".getBytes(ISO_8859_1));
+
+		TestDurationStore store = TestDurationStore.load(file);
+
+		assertThat(store.getDuration("first")).isEqualTo(TestDurationStore.UNKNOWN);
+		assertThat(store.getDuration("second")).isEqualTo(17);
+	}
+
+	@Test
+	void doesNotWriteFileIfNothingWasRecorded(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("durations.properties");
+
+		TestDurationStore.load(file).save();
+
+		assertThat(file).doesNotExist();
+	}
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 1.4
+ */
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	private static final int MAX_CONCURRENCY = 2;
+
+	private VirtualThreadHierarchicalTestExecutorService service;
+
+	@BeforeEach
+	void createService() {
+		Map<String, String> configParams = new HashMap<>();
+		configParams.put("strategy", "fixed");
+		configParams.put("fixed.parallelism", "1");
+		configParams.put(VirtualThreadHierarchicalTestExecutorService.CONFIG_MAX_CONCURRENCY_PROPERTY_NAME,
+			String.valueOf(MAX_CONCURRENCY));
+		service = new VirtualThreadHierarchicalTestExecutorService(new MapConfigurationParameters(configParams));
+	}
+
+	@AfterEach
+	void closeService() {
+		service.close();
+	}
+
+	@Test
+	void usesVirtualThreadsIfSupportedByRuntime() {
+		assertThat(service.isUsingVirtualThreads()).isEqualTo(hasMethod(Thread.class, "ofVirtual"));
+	}
+
+	@Test
+	void limitsNumberOfConcurrentlyExecutingTasksToMaxConcurrency() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<TestTask> tasks = IntStream.range(0, 10).mapToObj(i -> task(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(20);
+			running.decrementAndGet();
+		})).collect(toList());
+
+		service.invokeAll(tasks);
+
+		assertThat(maxRunning.get()).isBetween(1, MAX_CONCURRENCY);
+	}
+
+	@Test
+	void releasesPermitsWhileWaitingForChildren() {
+		AtomicInteger executedLeaves = new AtomicInteger();
+
+		assertTimeoutPreemptively(ofSeconds(10), () -> service.invokeAll(nestedTasks(4, executedLeaves)));
+
+		assertThat(executedLeaves).hasValue(16);
+	}
+
+	@Test
+	void releasesPermitsWhileWaitingForSubmittedTasks() throws Exception {
+		AtomicInteger executedLeaves = new AtomicInteger();
+		List<TestTask> parents = IntStream.range(0, 2 * MAX_CONCURRENCY).mapToObj(i -> task(() -> {
+			try {
+				service.submit(task(executedLeaves::incrementAndGet)).get();
+			}
+			catch (Exception e) {
+				throw new AssertionError(e);
+			}
+		})).collect(toList());
+
+		assertTimeoutPreemptively(ofSeconds(10), () -> service.invokeAll(parents));
+
+		assertThat(executedLeaves).hasValue(2 * MAX_CONCURRENCY);
+	}
+
+	@Test
+	void doesNotHoldResourceLockWhileWaitingForPermit() throws Exception {
+		ResourceLock lock = new LockManager().getLockForResources(
+			singleton(new ExclusiveResource("a", READ_WRITE)));
+		CountDownLatch permitsTaken = new CountDownLatch(MAX_CONCURRENCY);
+		CountDownLatch lockChecked = new CountDownLatch(1);
+		List<Future<Void>> blockers = IntStream.range(0, MAX_CONCURRENCY).mapToObj(
+			i -> service.submit(task(() -> {
+				permitsTaken.countDown();
+				await(lockChecked);
+			}))).collect(toList());
+		permitsTaken.await();
+
+		Future<Void> waitingTask = service.submit(task(lock, () -> {
+		}));
+		Thread.sleep(100);
+
+		try {
+			assertThat(lock.tryAcquire()).isTrue();
+			lock.release();
+		}
+		finally {
+			lockChecked.countDown();
+		}
+		for (Future<Void> blocker : blockers) {
+			blocker.get();
+		}
+		waitingTask.get();
+	}
+
+	@Test
+	void releasesPermitsWhileWaitingForSubmittedTasksWithTimeout() throws Exception {
+		AtomicInteger executedLeaves = new AtomicInteger();
+		List<TestTask> parents = IntStream.range(0, 2 * MAX_CONCURRENCY).mapToObj(i -> task(() -> {
+			try {
+				service.submit(task(executedLeaves::incrementAndGet)).get(10, SECONDS);
+			}
+			catch (Exception e) {
+				throw new AssertionError(e);
+			}
+		})).collect(toList());
+
+		assertTimeoutPreemptively(ofSeconds(10), () -> service.invokeAll(parents));
+
+		assertThat(executedLeaves).hasValue(2 * MAX_CONCURRENCY);
+	}
+
+	@Test
+	void doesNotHoldPermitWhileWaitingForResourceLock() throws Exception {
+		ResourceLock lock = new LockManager().getLockForResources(
+			singleton(new ExclusiveResource("a", READ_WRITE)));
+		assertThat(lock.tryAcquire()).isTrue();
+		List<Future<Void>> waitingTasks;
+		try {
+			waitingTasks = IntStream.range(0, MAX_CONCURRENCY).mapToObj(i -> service.submit(task(lock, () -> {
+			}))).collect(toList());
+			Thread.sleep(100);
+
+			assertTimeoutPreemptively(ofSeconds(10), () -> service.submit(task(() -> {
+			})).get());
+		}
+		finally {
+			lock.release();
+		}
+		for (Future<Void> waitingTask : waitingTasks) {
+			waitingTask.get();
+		}
+	}
+
+	@Test
+	void limitsNumberOfConcurrentlyExecutingTasksToMaxPoolSizeByDefault() {
+		Map<String, String> configParams = new HashMap<>();
+		configParams.put("strategy", "fixed");
+		configParams.put("fixed.parallelism", "1");
+		HierarchicalTestExecutorService defaultService = new VirtualThreadHierarchicalTestExecutorService(
+			new MapConfigurationParameters(configParams));
+		int maxPoolSize = DefaultParallelExecutionConfigurationStrategy.FIXED.createConfiguration(
+			new MapConfigurationParameters(configParams)).getMaxPoolSize();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<TestTask> tasks = IntStream.range(0, maxPoolSize + 50).mapToObj(i -> task(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(50);
+			running.decrementAndGet();
+		})).collect(toList());
+
+		try {
+			assertTimeoutPreemptively(ofSeconds(10), () -> defaultService.invokeAll(tasks));
+		}
+		finally {
+			defaultService.close();
+		}
+
+		assertThat(maxRunning.get()).isBetween(1, maxPoolSize);
+	}
+
+	private List<TestTask> nestedTasks(int depth, AtomicInteger executedLeaves) {
+		if (depth == 0) {
+			return singletonList(task(executedLeaves::incrementAndGet));
+		}
+		return IntStream.range(0, 2).mapToObj(
+			i -> task(() -> service.invokeAll(nestedTasks(depth - 1, executedLeaves)))).collect(toList());
+	}
+
+	private static TestTask task(Runnable action) {
+		return task(NopLock.INSTANCE, action);
+	}
+
+	private static TestTask task(ResourceLock resourceLock, Runnable action) {
+		return new TestTask() {
+
+			@Override
+			public ExecutionMode getExecutionMode() {
+				return CONCURRENT;
+			}
+
+			@Override
+			public ResourceLock getResourceLock() {
+				return resourceLock;
+			}
+
+			@Override
+			public void execute() {
+				action.run();
+			}
+		};
+	}
+
+	private static boolean hasMethod(Class<?> type, String name) {
+		try {
+			type.getMethod(name);
+			return true;
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static class MapConfigurationParameters implements ConfigurationParameters {
+
+		private final Map<String, String> parameters;
+
+		MapConfigurationParameters(Map<String, String> parameters) {
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.ofNullable(parameters.get(key));
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return get(key).map(Boolean::valueOf);
+		}
+
+		@Override
+		public int size() {
+			return parameters.size();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -12,8 +12,18 @@ package org.junit.platform.launcher;
 
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.Type;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
@@ -71,4 +81,142 @@ class TestPlanTests {
 
 		assertThat(testPlan.containsTests()).as("contains tests").isTrue();
 	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void providesParentChildrenAndDescendantsOfDiscoveredIdentifiers() {
+		TestDescriptor containerA = addChild(engineDescriptor, "a", Type.CONTAINER);
+		TestDescriptor testA1 = addChild(containerA, "a1", Type.TEST);
+		TestDescriptor testA2 = addChild(containerA, "a2", Type.TEST);
+		TestDescriptor containerB = addChild(engineDescriptor, "b", Type.CONTAINER);
+		TestDescriptor testB1 = addChild(containerB, "b1", Type.TEST);
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		TestIdentifier engine = testPlan.getTestIdentifier(engineDescriptor.getUniqueId().toString());
+		TestIdentifier a = identifier(testPlan, containerA);
+		TestIdentifier a1 = identifier(testPlan, testA1);
+		assertThat(testPlan.getRoots()).containsExactly(engine);
+		assertThat(testPlan.getChildren(engine)).containsExactly(a, identifier(testPlan, containerB));
+		assertThat(testPlan.getChildren(a)).containsExactly(a1, identifier(testPlan, testA2));
+		assertThat(testPlan.getChildren(a1)).isEmpty();
+		assertThat(testPlan.getDescendants(a)).containsExactlyInAnyOrder(a1, identifier(testPlan, testA2));
+		assertThat(testPlan.getDescendants(engine)).hasSize(5).contains(identifier(testPlan, testB1));
+		assertThat(testPlan.getDescendants(engine)).doesNotContain(engine);
+		assertThat(testPlan.getChildren(engine)).doesNotContain(a1);
+		assertThat(testPlan.getParent(a1)).contains(a);
+		assertThat(testPlan.getParent(engine)).isEmpty();
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(3);
+		assertThrows(UnsupportedOperationException.class, () -> testPlan.getDescendants(engine).add(a));
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void includesIdentifiersAddedAfterDiscovery() {
+		TestDescriptor containerA = addChild(engineDescriptor, "a", Type.CONTAINER);
+		TestDescriptor testA1 = addChild(containerA, "a1", Type.TEST);
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		TestDescriptor dynamicContainer = addChild(containerA, "dynamic", Type.CONTAINER);
+		TestDescriptor dynamicTest = addChild(dynamicContainer, "test", Type.TEST);
+		testPlan.add(TestIdentifier.from(dynamicContainer));
+		testPlan.add(TestIdentifier.from(dynamicTest));
+		testPlan.add(TestIdentifier.from(testA1));
+
+		TestIdentifier engine = testPlan.getTestIdentifier(engineDescriptor.getUniqueId().toString());
+		TestIdentifier a = identifier(testPlan, containerA);
+		TestIdentifier container = identifier(testPlan, dynamicContainer);
+		TestIdentifier test = identifier(testPlan, dynamicTest);
+		assertThat(testPlan.getChildren(a)).containsExactly(identifier(testPlan, testA1), container);
+		assertThat(testPlan.getChildren(container)).containsExactly(test);
+		assertThat(testPlan.getDescendants(engine)).hasSize(4).contains(container, test);
+		assertThat(testPlan.getDescendants(container)).containsExactly(test);
+		assertThat(testPlan.getParent(test)).contains(container);
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(2);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void createsIdentifiersOnceAndSharesEqualTags() {
+		TestDescriptor container = addChild(engineDescriptor, "a", Type.CONTAINER);
+		TestDescriptor test1 = addChild(container, "a1", Type.TEST, TestTag.create("fast"));
+		TestDescriptor test2 = addChild(container, "a2", Type.TEST, TestTag.create("fast"));
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		TestIdentifier a1 = identifier(testPlan, test1);
+		TestIdentifier a2 = identifier(testPlan, test2);
+		assertSame(a1, identifier(testPlan, test1));
+		assertSame(a1, testPlan.getChildren(identifier(testPlan, container)).iterator().next());
+		assertThat(a1.getTags()).containsExactly(TestTag.create("fast"));
+		assertSame(a1.getTags(), a2.getTags());
+		assertSame(identifier(testPlan, container).getUniqueId(), a1.getParentId().orElse(null));
+		assertThat(identifier(testPlan, container).getTags()).isEmpty();
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void snapshotsDiscoveredIdentifiers() {
+		TestDescriptor container = addChild(engineDescriptor, "a", Type.CONTAINER);
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		addChild(container, "a1", Type.TEST);
+		engineDescriptor.removeChild(container);
+
+		TestIdentifier a = identifier(testPlan, container);
+		assertThat(a.getDisplayName()).isEqualTo("a");
+		assertThat(testPlan.getChildren(a)).isEmpty();
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId().toString())).containsExactly(a);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void rejectsDuplicateUniqueIds() {
+		TestDescriptor container = addChild(engineDescriptor, "a", Type.CONTAINER);
+		addChild(container, "a1", Type.TEST);
+		TestDescriptor duplicate = new AbstractTestDescriptor(container.getUniqueId().append("test", "a1"), "a1") {
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+		engineDescriptor.addChild(duplicate);
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> TestPlan.from(singleton(engineDescriptor)));
+
+		assertThat(exception).hasMessageContaining(duplicate.getUniqueId().toString());
+	}
+
+	private static TestDescriptor addChild(TestDescriptor parent, String name, Type type, TestTag... tags) {
+		TestDescriptor child = new AbstractTestDescriptor(parent.getUniqueId().append("test", name), name) {
+			@Override
+			public Type getType() {
+				return type;
+			}
+
+			@Override
+			public Set<TestTag> getTags() {
+				return new LinkedHashSet<>(Arrays.asList(tags));
+			}
+		};
+		parent.addChild(child);
+		return child;
+	}
+
+	private static TestIdentifier identifier(TestPlan testPlan, TestDescriptor descriptor) {
+		return testPlan.getTestIdentifier(descriptor.getUniqueId().toString());
+	}
+
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.SynchronousTestExecutionListener;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.TestExecutionListenerRegistry.EagerTestExecutionListener;
+
+/**
+ * Unit tests for {@link AsynchronousTestExecutionListener}.
+ *
+ * @since 1.4
+ */
+class AsynchronousTestExecutionListenerTests {
+
+	private final List<String> events = new CopyOnWriteArrayList<>();
+	private final TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+	@Test
+	void notifiesDelegateInOrderInDedicatedThreadAndFlushesWhenTestPlanExecutionFinishes() throws Exception {
+		CountDownLatch released = new CountDownLatch(1);
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				await(released);
+				super.executionStarted(testIdentifier);
+			}
+		};
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(delegate, 2);
+
+		listener.testPlanExecutionStarted(testPlan);
+		for (int i = 0; i < 100; i++) {
+			TestIdentifier testIdentifier = testIdentifier("test" + i);
+			listener.executionStarted(testIdentifier);
+			if (i == 0) {
+				assertThat(events).doesNotContain("started test0");
+				released.countDown();
+			}
+			listener.reportingEntryPublished(testIdentifier, ReportEntry.from("key", "value"));
+			listener.executionFinished(testIdentifier, successful());
+		}
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(events).hasSize(302).startsWith("plan started", "started test0", "entry test0",
+			"finished test0", "started test1").endsWith("finished test99", "plan finished");
+		assertThat(delegate.threadNames).allMatch(name -> name.startsWith("junit-platform-listener-"));
+	}
+
+	@Test
+	void continuesToNotifyDelegateAfterItThrewException() {
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new IllegalStateException("oops");
+			}
+		};
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(delegate, 16);
+		TestIdentifier testIdentifier = testIdentifier("test");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(events).containsExactly("plan started", "finished test", "plan finished");
+	}
+
+	@Test
+	void notifiesDelegateSynchronouslyAfterBeingStopped() {
+		RecordingListener delegate = new RecordingListener();
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(delegate, 16);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.stop();
+		listener.stop();
+		listener.executionStarted(testIdentifier("test"));
+
+		assertThat(events).containsExactly("plan started", "started test");
+		assertThat(delegate.threadNames).contains(Thread.currentThread().getName());
+	}
+
+	@Test
+	void queuesEventsReportedByInterruptedThreadsAndRestoresTheirInterruptStatus() {
+		RecordingListener delegate = new RecordingListener();
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(delegate, 1);
+		TestIdentifier testIdentifier = testIdentifier("test");
+
+		listener.testPlanExecutionStarted(testPlan);
+		Thread.currentThread().interrupt();
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, successful());
+		boolean interrupted = Thread.interrupted();
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertTrue(interrupted, "interrupt status was not restored");
+		assertThat(events).containsExactly("plan started", "started test", "finished test", "plan finished");
+	}
+
+	@Test
+	void notifiesDelegateSynchronouslyWhileBeingStoppedOnlyAfterQueuedEvents() throws Exception {
+		CountDownLatch released = new CountDownLatch(1);
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				await(released);
+				super.executionStarted(testIdentifier);
+			}
+		};
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(delegate, 16);
+		TestIdentifier testIdentifier = testIdentifier("test");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(testIdentifier);
+		Thread stopper = new Thread(listener::stop);
+		stopper.start();
+		awaitState(stopper, Thread.State.WAITING);
+		Thread reporter = new Thread(() -> listener.executionFinished(testIdentifier, successful()));
+		reporter.start();
+		awaitState(reporter, Thread.State.BLOCKED);
+		released.countDown();
+		stopper.join(SECONDS.toMillis(10));
+		reporter.join(SECONDS.toMillis(10));
+
+		assertThat(events).containsExactly("plan started", "started test", "finished test");
+		assertThat(delegate.threadNames.get(2)).isEqualTo(reporter.getName());
+	}
+
+	@Test
+	void registryOnlyWrapsListenersThatAreNeitherEagerNorSynchronous() {
+		TestExecutionListener regularListener = new RecordingListener();
+		TestExecutionListener eagerListener = new EagerTestExecutionListener() {
+		};
+		TestExecutionListener synchronousListener = new SynchronousTestExecutionListener() {
+		};
+		TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry();
+		registry.registerListeners(regularListener, eagerListener, synchronousListener);
+
+		List<TestExecutionListener> listeners = registry.withAsynchronousTestExecutionListeners(
+			16).getTestExecutionListeners();
+
+		assertThat(listeners).hasSize(3);
+		assertThat(listeners.get(0)).isInstanceOf(AsynchronousTestExecutionListener.class);
+		assertThat(listeners.subList(1, 3)).containsExactly(eagerListener, synchronousListener);
+		assertThat(registry.getTestExecutionListeners()).containsExactly(regularListener, eagerListener,
+			synchronousListener);
+	}
+
+	private static TestIdentifier testIdentifier(String name) {
+		return TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", name), name));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, SECONDS), "latch was not released");
+		}
+		catch (InterruptedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+		long deadline = System.nanoTime() + SECONDS.toNanos(10);
+		while (thread.getState() != state) {
+			assertTrue(System.nanoTime() < deadline, () -> thread.getName() + " did not reach state " + state);
+			Thread.sleep(1);
+		}
+	}
+
+	private class RecordingListener implements TestExecutionListener {
+
+		final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("plan started");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("plan finished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("started " + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("finished " + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			record("entry " + testIdentifier.getDisplayName());
+		}
+
+		private void record(String event) {
+			events.add(event);
+			threadNames.add(Thread.currentThread().getName());
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,13 +21,20 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.LISTENERS_ASYNC_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -42,14 +50,17 @@ import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.fakes.TestEngineSpy;
 import org.junit.platform.fakes.TestEngineStub;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.PostDiscoveryFilterStub;
+import org.junit.platform.launcher.SynchronousTestExecutionListener;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -199,6 +210,36 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2").toString())).hasSize(1);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void discoverTestPlanForMultipleEnginesInParallelPreservesOrderOfEngines() {
+		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("engine1");
+		TestDescriptor test1 = firstEngine.addTest("test1", noOp);
+		DemoHierarchicalTestEngine secondEngine = new DemoHierarchicalTestEngine("engine2");
+		TestDescriptor test2 = secondEngine.addTest("test2", noOp);
+		DemoHierarchicalTestEngine thirdEngine = new DemoHierarchicalTestEngine("engine3");
+		TestDescriptor test3 = thirdEngine.addTest("test3", noOp);
+
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine, thirdEngine);
+
+		// @formatter:off
+		TestPlan testPlan = launcher.discover(
+			request()
+				.selectors(selectUniqueId(test1.getUniqueId()), selectUniqueId(test2.getUniqueId()),
+					selectUniqueId(test3.getUniqueId()))
+				.configurationParameter(ENGINES_PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true")
+				.build());
+		// @formatter:on
+
+		assertThat(testPlan.getRoots()).extracting(TestIdentifier::getUniqueId).containsExactly(
+			UniqueId.forEngine("engine1").toString(), UniqueId.forEngine("engine2").toString(),
+			UniqueId.forEngine("engine3").toString());
+		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2").toString())).extracting(
+			TestIdentifier::getUniqueId).containsExactly(test2.getUniqueId().toString());
+	}
+
 	@Test
 	void launcherWillNotExecuteEnginesIfNotIncludedByAnEngineFilter() {
 		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
@@ -493,6 +534,131 @@ class DefaultLauncherTests {
 		inOrder.verify(listener).testPlanExecutionFinished(same(testPlan));
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void executesEnginesInParallelAndNotifiesListenersInEngineOrderIfEnabled() {
+		CountDownLatch latch = new CountDownLatch(2);
+		Runnable awaitOtherEngine = () -> {
+			latch.countDown();
+			try {
+				assertTrue(latch.await(10, SECONDS), "engines were not executed in parallel");
+			}
+			catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+		};
+		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
+		TestDescriptor test1 = firstEngine.addTest("test1", awaitOtherEngine);
+		DemoHierarchicalTestEngine secondEngine = new DemoHierarchicalTestEngine("second");
+		TestDescriptor test2 = secondEngine.addTest("test2", awaitOtherEngine);
+
+		List<String> events = new CopyOnWriteArrayList<>();
+		TestExecutionListener listener = new TestExecutionListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				events.add("started " + testIdentifier.getUniqueId());
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				events.add("finished " + testIdentifier.getUniqueId() + " " + testExecutionResult.getStatus());
+			}
+		};
+
+		// @formatter:off
+		createLauncher(firstEngine, secondEngine).execute(
+			request()
+				.selectors(selectUniqueId(test1.getUniqueId()), selectUniqueId(test2.getUniqueId()))
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.build(),
+			listener);
+		// @formatter:on
+
+		assertThat(events).containsExactly( //
+			"started " + firstEngine.getEngineDescriptor().getUniqueId(), //
+			"started " + test1.getUniqueId(), //
+			"finished " + test1.getUniqueId() + " SUCCESSFUL", //
+			"finished " + firstEngine.getEngineDescriptor().getUniqueId() + " SUCCESSFUL", //
+			"started " + secondEngine.getEngineDescriptor().getUniqueId(), //
+			"started " + test2.getUniqueId(), //
+			"finished " + test2.getUniqueId() + " SUCCESSFUL", //
+			"finished " + secondEngine.getEngineDescriptor().getUniqueId() + " SUCCESSFUL");
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void notifiesListenersAsynchronouslyExceptForSynchronousListenersIfEnabled() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		TestDescriptor test = engine.addTest("test", noOp);
+
+		List<String> asynchronousEvents = new CopyOnWriteArrayList<>();
+		List<String> synchronousEvents = new CopyOnWriteArrayList<>();
+		TestExecutionListener asynchronousListener = new TestExecutionListener() {
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				asynchronousEvents.add(testIdentifier.getUniqueId() + " " + Thread.currentThread().getName());
+			}
+
+			@Override
+			public void testPlanExecutionFinished(TestPlan testPlan) {
+				asynchronousEvents.add("plan finished");
+			}
+		};
+		TestExecutionListener synchronousListener = new SynchronousTestExecutionListener() {
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				synchronousEvents.add(testIdentifier.getUniqueId() + " " + Thread.currentThread().getName());
+			}
+		};
+
+		// @formatter:off
+		createLauncher(engine).execute(
+			request()
+				.selectors(selectUniqueId(test.getUniqueId()))
+				.configurationParameter(LISTENERS_ASYNC_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME, "1")
+				.build(),
+			asynchronousListener, synchronousListener);
+		// @formatter:on
+
+		String currentThreadName = Thread.currentThread().getName();
+		assertThat(synchronousEvents).containsExactly( //
+			test.getUniqueId() + " " + currentThreadName, //
+			engine.getEngineDescriptor().getUniqueId() + " " + currentThreadName);
+		assertThat(asynchronousEvents).hasSize(3).endsWith("plan finished");
+		assertThat(asynchronousEvents.get(0)).startsWith(test.getUniqueId() + " junit-platform-listener-");
+		assertThat(asynchronousEvents.get(1)).startsWith(
+			engine.getEngineDescriptor().getUniqueId() + " junit-platform-listener-");
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void rejectsInvalidListenerQueueCapacity() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		engine.addTest("test", noOp);
+
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId()))
+				.configurationParameter(LISTENERS_ASYNC_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME, "0")
+				.build();
+		// @formatter:on
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> createLauncher(engine).execute(request));
+		assertThat(exception).hasMessageContaining(LISTENERS_ASYNC_QUEUE_CAPACITY_PROPERTY_NAME);
+	}
+
 	@Test
 	void thirdPartyEngineUsingReservedEngineIdPrefixEmitsWarning(LogRecordListener listener) {
 		String id = "junit-using-reserved-prefix";
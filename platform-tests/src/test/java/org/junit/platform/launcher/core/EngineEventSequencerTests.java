@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.TestExecutionListenerRegistry.EagerTestExecutionListener;
+
+/**
+ * Unit tests for {@link EngineEventSequencer}.
+ *
+ * @since 1.4
+ */
+class EngineEventSequencerTests {
+
+	private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+	private final TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry();
+
+	@Test
+	void forwardsEventsOfFirstEngineImmediatelyAndBuffersEventsOfSubsequentEngines() {
+		registry.registerListeners(new RecordingListener());
+		EngineEventSequencer sequencer = new EngineEventSequencer(registry, 3, 10, false);
+		TestIdentifier a = testIdentifier("a");
+		TestIdentifier b = testIdentifier("b");
+		TestIdentifier c = testIdentifier("c");
+
+		sequencer.forEngine(2).executionStarted(c);
+		sequencer.forEngine(1).executionStarted(b);
+		sequencer.forEngine(0).executionStarted(a);
+		assertThat(events).containsExactly("started a");
+
+		sequencer.forEngine(2).executionFinished(c, successful());
+		sequencer.engineFinished(2);
+		sequencer.forEngine(0).executionFinished(a, successful());
+		sequencer.engineFinished(0);
+		assertThat(events).containsExactly("started a", "finished a", "started b");
+
+		sequencer.forEngine(1).executionFinished(b, successful());
+		assertThat(events).containsExactly("started a", "finished a", "started b", "finished b");
+
+		sequencer.engineFinished(1);
+		assertThat(events).containsExactly("started a", "finished a", "started b", "finished b", "started c",
+			"finished c");
+	}
+
+	@Test
+	void notifiesEagerListenersImmediatelyAndSequencesReportingEntriesTheyPublish() {
+		EngineEventSequencer sequencer = new EngineEventSequencer(registry, 2, 10, false);
+		registry.registerListeners(new RecordingListener(), new EagerTestExecutionListener() {
+
+			@Override
+			public void executionJustStarted(TestIdentifier testIdentifier) {
+				events.add("just started " + testIdentifier.getDisplayName());
+			}
+
+			@Override
+			public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+				events.add("just finished " + testIdentifier.getDisplayName());
+				sequencer.reportingEntryPublished(testIdentifier, ReportEntry.from("key", "value"));
+			}
+		});
+		TestIdentifier a = testIdentifier("a");
+		TestIdentifier b = testIdentifier("b");
+
+		sequencer.forEngine(1).executionStarted(b);
+		sequencer.forEngine(1).executionFinished(b, successful());
+		assertThat(events).containsExactly("just started b", "just finished b");
+
+		sequencer.engineFinished(0);
+		assertThat(events).containsExactly("just started b", "just finished b", "started b", "entry b",
+			"finished b");
+
+		sequencer.reportingEntryPublished(a, ReportEntry.from("key", "value"));
+		assertThat(events).endsWith("entry a");
+	}
+
+	@Test
+	void blocksThreadsOfSubsequentEnginesWhileTheirBufferIsFull() throws Exception {
+		registry.registerListeners(new RecordingListener());
+		EngineEventSequencer sequencer = new EngineEventSequencer(registry, 2, 2, false);
+		TestIdentifier a = testIdentifier("a");
+		TestIdentifier b = testIdentifier("b");
+		TestIdentifier c = testIdentifier("c");
+
+		CompletableFuture<Void> secondEngine = CompletableFuture.runAsync(() -> {
+			sequencer.forEngine(1).executionStarted(b);
+			sequencer.forEngine(1).executionFinished(b, successful());
+			sequencer.forEngine(1).executionStarted(c);
+		});
+		Thread.sleep(100);
+		assertThat(secondEngine).isNotDone();
+
+		sequencer.forEngine(0).executionStarted(a);
+		sequencer.forEngine(0).executionFinished(a, successful());
+		sequencer.engineFinished(0);
+
+		assertTimeoutPreemptively(ofSeconds(10), () -> secondEngine.get());
+		assertThat(events).containsExactly("started a", "finished a", "started b", "finished b", "started c");
+	}
+
+	@Test
+	void forwardsEventsOfAllEnginesImmediatelyIfInterleaved() {
+		registry.registerListeners(new RecordingListener());
+		EngineEventSequencer sequencer = new EngineEventSequencer(registry, 2, 1, true);
+		TestIdentifier a = testIdentifier("a");
+		TestIdentifier b = testIdentifier("b");
+
+		sequencer.forEngine(1).executionStarted(b);
+		sequencer.forEngine(0).executionStarted(a);
+		sequencer.forEngine(1).executionFinished(b, successful());
+		sequencer.engineFinished(1);
+		sequencer.forEngine(0).executionFinished(a, successful());
+		sequencer.engineFinished(0);
+
+		assertThat(events).containsExactly("started b", "started a", "finished b", "finished a");
+	}
+
+	private static TestIdentifier testIdentifier(String name) {
+		return TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", name), name));
+	}
+
+	private class RecordingListener implements TestExecutionListener {
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			events.add("started " + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			events.add("finished " + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			events.add("entry " + testIdentifier.getDisplayName());
+		}
+	}
+
+}
@@ -13,14 +13,23 @@ package org.junit.platform.launcher.core;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -51,6 +60,101 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void retainsDynamicTestsInTestPlanEvenIfNotRetainedByParent() {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		TestPlan testPlan = TestPlan.from(Collections.singleton(engineDescriptor));
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			new TestExecutionListener() {
+			});
+
+		TestDescriptor attachedTest = new DemoMethodTestDescriptor(engineDescriptor.getUniqueId().append("test", "a"),
+			this.getClass(), getNothingMethod());
+		engineDescriptor.addChild(attachedTest);
+		TestDescriptor detachedTest = new DemoMethodTestDescriptor(engineDescriptor.getUniqueId().append("test", "b"),
+			this.getClass(), getNothingMethod());
+		detachedTest.setParent(engineDescriptor);
+
+		for (TestDescriptor testDescriptor : Arrays.asList(attachedTest, detachedTest)) {
+			executionListenerAdapter.dynamicTestRegistered(testDescriptor);
+			executionListenerAdapter.executionStarted(testDescriptor);
+			executionListenerAdapter.executionFinished(testDescriptor, TestExecutionResult.successful());
+		}
+
+		TestIdentifier detachedTestIdentifier = testPlan.getTestIdentifier(detachedTest.getUniqueId().toString());
+		assertThat(testPlan.getParent(detachedTestIdentifier)).contains(
+			testPlan.getTestIdentifier(engineDescriptor.getUniqueId().toString()));
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId().toString())).extracting(
+			TestIdentifier::getUniqueId).containsExactly(attachedTest.getUniqueId().toString(),
+				detachedTest.getUniqueId().toString());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void supportsConcurrentNotificationsForDynamicTests() throws Exception {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		TestPlan testPlan = TestPlan.from(Collections.singleton(engineDescriptor));
+		AtomicInteger finished = new AtomicInteger();
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			new TestExecutionListener() {
+
+				@Override
+				public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+					finished.incrementAndGet();
+				}
+			});
+
+		int threads = 8;
+		int testsPerThread = 500;
+		List<List<TestDescriptor>> testsByThread = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			List<TestDescriptor> tests = new ArrayList<>();
+			for (int j = 0; j < testsPerThread; j++) {
+				TestDescriptor test = new DemoMethodTestDescriptor(
+					engineDescriptor.getUniqueId().append("test", i + "-" + j), this.getClass(), getNothingMethod());
+				if (j % 2 == 0) {
+					engineDescriptor.addChild(test);
+				}
+				else {
+					test.setParent(engineDescriptor);
+				}
+				tests.add(test);
+			}
+			testsByThread.add(tests);
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (List<TestDescriptor> tests : testsByThread) {
+				futures.add(executorService.submit(() -> tests.forEach(test -> {
+					executionListenerAdapter.dynamicTestRegistered(test);
+					executionListenerAdapter.executionStarted(test);
+					executionListenerAdapter.executionFinished(test, TestExecutionResult.successful());
+				})));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(finished).hasValue(threads * testsPerThread);
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId().toString())).hasSize(
+			threads * testsPerThread);
+	}
+
+	private Method getNothingMethod() {
+		return ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		Method localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(),
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_PASS_THROUGH_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
@@ -117,6 +118,36 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 		verify(listener, never()).reportingEntryPublished(any(), any());
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("systemStreams")
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void doesNotPassCapturedOutputThroughToOriginalStreamIfDisabled(String configParam,
+			Supplier<PrintStream> printStreamSupplier, String reportKey) {
+		ByteArrayOutputStream originalOutput = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(originalOutput));
+		System.setErr(new PrintStream(originalOutput));
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", () -> printStreamSupplier.get().print("1234567890"));
+
+		DefaultLauncher launcher = createLauncher(engine);
+		LauncherDiscoveryRequest discoveryRequest = request()//
+				.selectors(selectUniqueId(test.getUniqueId()))//
+				.configurationParameter(configParam, String.valueOf(true))//
+				.configurationParameter(CAPTURE_PASS_THROUGH_PROPERTY_NAME, String.valueOf(false))//
+				.build();
+		TestExecutionListener listener = mock(TestExecutionListener.class);
+		launcher.execute(discoveryRequest, listener);
+
+		ArgumentCaptor<ReportEntry> reportEntryArgumentCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(listener).reportingEntryPublished(any(), reportEntryArgumentCaptor.capture());
+		assertThat(reportEntryArgumentCaptor.getValue().getKeyValuePairs()).containsExactly(
+			entry(reportKey, "1234567890"));
+		assertThat(originalOutput.toString()).isEmpty();
+	}
+
 	@SuppressWarnings("unused") // used via @MethodSource("systemStreams")
 	private static Stream<Arguments> systemStreams() {
 		return Stream.of(//
@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
@@ -100,4 +101,122 @@ class StreamInterceptorTests {
 			() -> assertEquals("innermost", innermost) //
 		);
 	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void capturesOutputSpanningMultipleSegments() {
+		StreamInterceptor streamInterceptor = StreamInterceptor.register(targetStream,
+			newStream -> this.targetStream = newStream, 100_000).orElseThrow(RuntimeException::new);
+		String outer = repeat('a', 10_000);
+		String inner = repeat('b', 20_000);
+
+		streamInterceptor.capture();
+		streamInterceptor.print(outer);
+		streamInterceptor.capture();
+		streamInterceptor.print(inner);
+		assertEquals(inner, streamInterceptor.consume());
+		streamInterceptor.print(outer);
+		assertEquals(outer + outer, streamInterceptor.consume());
+
+		streamInterceptor.capture();
+		streamInterceptor.print(inner);
+		assertEquals(inner, streamInterceptor.consume());
+		assertEquals(outer + inner + outer + inner, originalOut.toString());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void capturesOutputAgainAfterAllCapturedOutputHasBeenConsumed() {
+		StreamInterceptor streamInterceptor = StreamInterceptor.register(targetStream,
+			newStream -> this.targetStream = newStream, 100_000).orElseThrow(RuntimeException::new);
+		String fullSegment = repeat('a', 8 * 1024);
+
+		streamInterceptor.capture();
+		assertEquals("", streamInterceptor.consume());
+
+		streamInterceptor.capture();
+		streamInterceptor.print(fullSegment);
+		assertEquals(fullSegment, streamInterceptor.consume());
+
+		streamInterceptor.capture();
+		streamInterceptor.print("b");
+		streamInterceptor.capture();
+		streamInterceptor.print(fullSegment);
+		assertEquals(fullSegment, streamInterceptor.consume());
+		streamInterceptor.print("c");
+		assertEquals("bc", streamInterceptor.consume());
+
+		streamInterceptor.capture();
+		streamInterceptor.print("d");
+		assertEquals("d", streamInterceptor.consume());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void discardsOutputExceedingMaximumNumberOfBytes() {
+		StreamInterceptor streamInterceptor = StreamInterceptor.register(targetStream,
+			newStream -> this.targetStream = newStream, 10_000).orElseThrow(RuntimeException::new);
+
+		streamInterceptor.capture();
+		streamInterceptor.print(repeat('a', 9_999));
+		streamInterceptor.print("bc");
+		streamInterceptor.write('d');
+
+		assertEquals(repeat('a', 9_999) + "b", streamInterceptor.consume());
+		assertEquals(repeat('a', 9_999) + "bcd", originalOut.toString());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void doesNotPassCapturedOutputThroughToOriginalStreamIfDisabled() {
+		StreamInterceptor streamInterceptor = StreamInterceptor.register(targetStream,
+			newStream -> this.targetStream = newStream, 100, false).orElseThrow(RuntimeException::new);
+
+		streamInterceptor.print("before - ");
+		streamInterceptor.capture();
+		streamInterceptor.print("a");
+		streamInterceptor.println("b");
+		streamInterceptor.println(42);
+		streamInterceptor.write('c');
+		streamInterceptor.write("d".getBytes(), 0, 1);
+		streamInterceptor.println();
+		String captured = streamInterceptor.consume();
+		streamInterceptor.print("after");
+
+		String lineSeparator = System.lineSeparator();
+		assertEquals("ab" + lineSeparator + "42" + lineSeparator + "cd" + lineSeparator, captured);
+		assertEquals("before - after", originalOut.toString());
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@Test
+	void capturesOutputPerThreadWithoutPassingItThroughIfDisabled() {
+		StreamInterceptor streamInterceptor = StreamInterceptor.register(targetStream,
+			newStream -> this.targetStream = newStream, 100, false).orElseThrow(RuntimeException::new);
+		// @formatter:off
+		IntStream.range(0, 1000)
+				.parallel()
+				.mapToObj(String::valueOf)
+				.peek(i -> streamInterceptor.capture())
+				.peek(i -> targetStream.println(i))
+				.forEach(i -> assertEquals(i, streamInterceptor.consume().trim()));
+		// @formatter:on
+		assertEquals("", originalOut.toString());
+	}
+
+	private static String repeat(char c, int count) {
+		char[] chars = new char[count];
+		Arrays.fill(chars, c);
+		return new String(chars);
+	}
 }